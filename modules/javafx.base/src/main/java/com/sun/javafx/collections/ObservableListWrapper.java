@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -226,6 +226,14 @@ public class ObservableListWrapper<E> extends ModifiableObservableListBase<E> im
         fireChange(new SimplePermutationChange<E>(0, size(), perm, this));
     }
 
+    @Override
+    public void permute(int[] perm) {
+        SortHelper.permute(backingList, perm);
+        if (!backingList.isEmpty()) {
+            fireChange(new SimplePermutationChange<E>(0, size(), perm, this));
+        }
+    }
+
     private SortHelper getSortHelper() {
         if (helper == null) {
             helper = new SortHelper();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -69,6 +69,27 @@ public class SortHelper {
         return result;
     }
 
+    /**
+     * Moves the element at index {@code i} of the list to index {@code perm[i]}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void permute(List<T> list, int[] perm) {
+        if (perm.length != list.size()) {
+            throw new IllegalArgumentException("Permutation length " + perm.length
+                    + " does not match list size " + list.size());
+        }
+        Object[] a = list.toArray();
+        Object[] result = new Object[a.length];
+        for (int j=0; j<a.length; j++) {
+            result[perm[j]] = a[j];
+        }
+        ListIterator<T> i = list.listIterator();
+        for (int j=0; j<result.length; j++) {
+            i.next();
+            i.set((T) result[j]);
+        }
+    }
+
     public <T extends Comparable<? super T>> int[] sort(T[] a) {
         return sort(a, null);
     }
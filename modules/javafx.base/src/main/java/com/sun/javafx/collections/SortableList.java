@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -53,4 +53,15 @@ public interface SortableList<E> extends List<E> {
      */
     public void sort(Comparator<? super E> comparator);
 
+    /**
+     * Reorders the list as if it had been sorted, moving the element at index
+     * {@code i} to index {@code perm[i]}, and fires a single permutation change.
+     * This allows a list to be sorted elsewhere (e.g. on another thread).
+     * @param perm the permutation to apply, as returned by {@link SortHelper}
+     * @throws IllegalArgumentException if perm is not as long as the list
+     * @throws UnsupportedOperationException if the specified list's
+     *         list-iterator does not support the <tt>set</tt> operation.
+     */
+    public void permute(int[] perm);
+
 }
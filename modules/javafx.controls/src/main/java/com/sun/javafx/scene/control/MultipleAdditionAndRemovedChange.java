@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,6 +29,7 @@ import javafx.collections.ObservableList;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Often times there are multiple additions that are applied to a list, but they are not contiguous. This class
@@ -69,15 +70,13 @@ public class MultipleAdditionAndRemovedChange<E> extends ListChangeListener.Chan
             to = from + 1;
 
             addedIndex++;
-            for (int i = 0; (i + addedIndex) < addedElements.size(); i++) {
-                // check to see if the next element in the added list is also the next element in the actual list,
-                // stop when this is no longer true.
-                E nextElement = addedElements.get(i + addedIndex);
-                if (nextElement != getList().get(from + i)) {
-                    to = from + 1 + i;
-                    addedIndex = addedIndex + i;
-                    break;
-                }
+            // check to see if the next element in the added list is also the next element in the actual list,
+            // stop when this is no longer true.
+            final int size = getList().size();
+            while (addedIndex < addedElements.size() && to < size
+                    && Objects.equals(addedElements.get(addedIndex), getList().get(to))) {
+                to++;
+                addedIndex++;
             }
 
             return true;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -38,11 +38,13 @@ import java.util.*;
  * slow in the old approach. The old approach essentially required a lot of
  * iterating through the selectedCells list. The new approach is to keep this
  * list for what it is good for (representing selection order primarily), and
- * introduce a Map<Integer, BitSet> to speed up the slow parts - namely looking
- * up whether a given row/column intersection is selected or not.
+ * introduce a BitSet of selected rows, plus a Map<Integer, BitSet> of selected
+ * columns, to speed up the slow parts - namely looking up whether a given
+ * row/column intersection is selected or not.
  *
- * Note that a map that contains an empty bitset is used to represent that the
- * row is selected.
+ * Note that a row can be selected without having any entry in the column map
+ * (e.g. when only whole rows are selected), so selecting millions of rows costs
+ * one bit per row rather than one map entry per row.
  *
  * Refer to RT-33442 for more information on this issue.
  */
@@ -51,7 +53,8 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
     private final ObservableList<T> selectedCells;
     private final ObservableList<T> sortedSelectedCells;
 
-    private final Map<Integer, BitSet> selectedCellBitSetMap;
+    private final BitSet selectedRows;
+    private final Map<Integer, BitSet> selectedColumnsMap;
 
     public SelectedCellsMap(final ListChangeListener<T> listener) {
         selectedCells = FXCollections.<T>observableArrayList();
@@ -61,7 +64,8 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
         });
         sortedSelectedCells.addListener(listener);
 
-        selectedCellBitSetMap = new TreeMap<>((o1, o2) -> o1.compareTo(o2));
+        selectedRows = new BitSet();
+        selectedColumnsMap = new HashMap<>();
     }
 
     public abstract boolean isCellSelectionEnabled();
@@ -81,21 +85,15 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
         final int row = tp.getRow();
         final int columnIndex = tp.getColumn();
 
-        // update the bitset map
-        boolean isNewBitSet = false;
-        BitSet bitset;
-        if (! selectedCellBitSetMap.containsKey(row)) {
-            bitset = new BitSet();
-            selectedCellBitSetMap.put(row, bitset);
-            isNewBitSet = true;
-        } else {
-            bitset = selectedCellBitSetMap.get(row);
-        }
+        // update the bitsets
+        final boolean isNewRow = !selectedRows.get(row);
+        selectedRows.set(row);
 
         final boolean cellSelectionModeEnabled = isCellSelectionEnabled();
 
         if (cellSelectionModeEnabled) {
             if (columnIndex >= 0) {
+                BitSet bitset = getColumns(row);
                 boolean isAlreadySet = bitset.get(columnIndex);
 
                 if (!isAlreadySet) {
@@ -111,9 +109,9 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
                 }
             }
         } else {
-            if (isNewBitSet) {
+            if (isNewRow) {
                 if (columnIndex >= 0) {
-                    bitset.set(columnIndex);
+                    getColumns(row).set(columnIndex);
                 }
                 selectedCells.add(tp);
             }
@@ -126,20 +124,14 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
             final int row = tp.getRow();
             final int columnIndex = tp.getColumn();
 
-            // update the bitset map
-            BitSet bitset;
-            if (! selectedCellBitSetMap.containsKey(row)) {
-                bitset = new BitSet();
-                selectedCellBitSetMap.put(row, bitset);
-            } else {
-                bitset = selectedCellBitSetMap.get(row);
-            }
+            // update the bitsets
+            selectedRows.set(row);
 
             if (columnIndex < 0) {
                 continue;
             }
 
-            bitset.set(columnIndex);
+            getColumns(row).set(columnIndex);
         }
 
         // add into the list
@@ -148,25 +140,20 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
 
     public void setAll(Collection<T> cells) {
         // update bitset
-        selectedCellBitSetMap.clear();
+        selectedRows.clear();
+        selectedColumnsMap.clear();
         for (T tp : cells) {
             final int row = tp.getRow();
             final int columnIndex = tp.getColumn();
 
-            // update the bitset map
-            BitSet bitset;
-            if (! selectedCellBitSetMap.containsKey(row)) {
-                bitset = new BitSet();
-                selectedCellBitSetMap.put(row, bitset);
-            } else {
-                bitset = selectedCellBitSetMap.get(row);
-            }
+            // update the bitsets
+            selectedRows.set(row);
 
             if (columnIndex < 0) {
                 continue;
             }
 
-            bitset.set(columnIndex);
+            getColumns(row).set(columnIndex);
         }
 
         // add into the list
@@ -177,16 +164,17 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
         final int row = tp.getRow();
         final int columnIndex = tp.getColumn();
 
-        // update the bitset map
-        if (selectedCellBitSetMap.containsKey(row)) {
-            BitSet bitset = selectedCellBitSetMap.get(row);
+        // update the bitsets
+        if (selectedRows.get(row)) {
+            BitSet bitset = selectedColumnsMap.get(row);
 
-            if (columnIndex >= 0) {
+            if (columnIndex >= 0 && bitset != null) {
                 bitset.clear(columnIndex);
             }
 
-            if (bitset.isEmpty()) {
-                selectedCellBitSetMap.remove(row);
+            if (bitset == null || bitset.isEmpty()) {
+                selectedRows.clear(row);
+                selectedColumnsMap.remove(row);
             }
         }
 
@@ -196,17 +184,21 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
 
     public void clear() {
         // update bitset
-        selectedCellBitSetMap.clear();
+        selectedRows.clear();
+        selectedColumnsMap.clear();
 
         // update list
         selectedCells.clear();
     }
 
     public boolean isSelected(int row, int columnIndex) {
-        if (columnIndex < 0) {
-            return selectedCellBitSetMap.containsKey(row);
+        if (row < 0) {
+            return false;
+        } else if (columnIndex < 0) {
+            return selectedRows.get(row);
         } else {
-            return selectedCellBitSetMap.containsKey(row) ? selectedCellBitSetMap.get(row).get(columnIndex) : false;
+            BitSet bitset = selectedColumnsMap.get(row);
+            return bitset != null && bitset.get(columnIndex);
         }
     }
 
@@ -221,4 +213,8 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
     public ObservableList<T> getSelectedCells() {
         return selectedCells;
     }
+
+    private BitSet getColumns(int row) {
+        return selectedColumnsMap.computeIfAbsent(row, r -> new BitSet());
+    }
 }
\ No newline at end of file
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -47,9 +47,22 @@ public abstract class SelectedItemsReadOnlyObservableList<E> extends ObservableL
 
         selectedIndices.addListener((ListChangeListener<Integer>)c -> {
             int totalRemovedSize = 0;
+            int subChangeCount = 0;
+            boolean simpleChange = false;
+            boolean simpleAdd = false;
+            int simpleFrom = 0;
+            int simpleTo = 0;
             beginChange();
 
             while (c.next()) {
+                // a lone addition or removal can be applied to the itemsRefList
+                // directly, rather than recreating it from scratch below
+                subChangeCount++;
+                simpleChange = !c.wasPermutated() && !c.wasUpdated() && c.wasAdded() != c.wasRemoved();
+                simpleAdd = c.wasAdded();
+                simpleFrom = c.getFrom();
+                simpleTo = simpleAdd ? c.getTo() : c.getFrom() + c.getRemovedSize();
+
                 if (c.wasReplaced()) {
                     List<E> removed = getRemovedElements(c, totalRemovedSize);
                     List<E> added = getAddedElements(c);
@@ -79,13 +92,28 @@ public abstract class SelectedItemsReadOnlyObservableList<E> extends ObservableL
                 }
             }
 
-            // regardless of the change, we recreate the itemsRefList to reflect the current items list.
+            // we update the itemsRefList to reflect the current items list.
             // This is important for cases where items are removed (and so must their selection, but we lose
             // access to the item before we can fire the event).
-            // FIXME we could make this more efficient by only making the reported changes to the list
-            itemsRefList.clear();
-            for (int selectedIndex : selectedIndices) {
-                itemsRefList.add(new WeakReference<>(getModelItem(selectedIndex)));
+            // MultipleAdditionAndRemovedChange does not report where removals happened.
+            final int span = simpleTo - simpleFrom;
+            if (subChangeCount == 1 && simpleChange && !(c instanceof MultipleAdditionAndRemovedChange)
+                    && simpleFrom <= itemsRefList.size()
+                    && selectedIndices.size() == itemsRefList.size() + (simpleAdd ? span : -span)) {
+                if (simpleAdd) {
+                    List<WeakReference<E>> added = new ArrayList<>(span);
+                    for (int i = simpleFrom; i < simpleTo; i++) {
+                        added.add(new WeakReference<>(getModelItem(selectedIndices.get(i))));
+                    }
+                    itemsRefList.addAll(simpleFrom, added);
+                } else {
+                    itemsRefList.subList(simpleFrom, simpleTo).clear();
+                }
+            } else {
+                itemsRefList.clear();
+                for (int selectedIndex : selectedIndices) {
+                    itemsRefList.add(new WeakReference<>(getModelItem(selectedIndex)));
+                }
             }
 
             endChange();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -33,6 +33,8 @@ import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
 import javafx.application.Platform;
 import javafx.beans.NamedArg;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.BooleanPropertyBase;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.AccessibleAttribute;
@@ -51,6 +53,59 @@ import com.sun.javafx.charts.Legend.LegendItem;
  */
 public class BubbleChart<X,Y> extends XYChart<X,Y> {
 
+    // -------------- PRIVATE FIELDS ------------------------------------------
+
+    private final SymbolLayer<X,Y> symbolLayer = new SymbolLayer<>(this, "chart-bubble", true);
+
+    // -------------- PUBLIC PROPERTIES ----------------------------------------
+
+    /**
+     * Indicates whether a node is created for the bubble of every data item.
+     * If this is set to false, the bubbles of all data items that have no node
+     * are drawn by a single node instead, which makes charts with many data
+     * items much cheaper to create, style and render. The look of these bubbles
+     * is taken from the CSS of the {@code chart-bubble} style class of their
+     * series; only background fills are used, and styles of individual data
+     * items are ignored. These bubbles are not animated or accessible
+     * individually. Use {@link #getDataAt(double, double)} to find the data
+     * item at a point, for example to show a tooltip.
+     *
+     * @since 18
+     * @defaultValue true
+     */
+    private BooleanProperty createSymbolNodes = new BooleanPropertyBase(true) {
+        @Override protected void invalidated() {
+            symbolLayer.setEnabled(!get());
+            for (int seriesIndex=0; seriesIndex < getData().size(); seriesIndex ++) {
+                Series<X,Y> series = getData().get(seriesIndex);
+                for (int itemIndex=0; itemIndex < series.getData().size(); itemIndex ++) {
+                    Data<X,Y> item = series.getData().get(itemIndex);
+                    Node bubble = item.getNode();
+                    if (get() && bubble == null) { // create any bubbles
+                        getPlotChildren().add(createBubble(series, seriesIndex, item, itemIndex));
+                    } else if (!get() && bubble != null) { // remove bubbles
+                        bubble.focusTraversableProperty().unbind();
+                        getPlotChildren().remove(bubble);
+                        item.setNode(null);
+                    }
+                }
+            }
+            requestChartLayout();
+        }
+
+        public Object getBean() {
+            return BubbleChart.this;
+        }
+
+        public String getName() {
+            return "createSymbolNodes";
+        }
+    };
+
+    public final boolean getCreateSymbolNodes() { return createSymbolNodes.getValue(); }
+    public final void setCreateSymbolNodes(boolean value) { createSymbolNodes.setValue(value); }
+    public final BooleanProperty createSymbolNodesProperty() { return createSymbolNodes; }
+
     // -------------- CONSTRUCTORS ----------------------------------------------
 
     /**
@@ -82,6 +137,20 @@ public class BubbleChart<X,Y> extends XYChart<X,Y> {
 
     // -------------- METHODS ------------------------------------------------------------------------------------------
 
+    /**
+     * Returns the data item whose bubble is at the given point, or null if
+     * there is none. If several bubbles overlap at the point, the item of the
+     * bubble drawn on top is returned.
+     *
+     * @param x the x coordinate of the point, in the local coordinates of this chart
+     * @param y the y coordinate of the point, in the local coordinates of this chart
+     * @return the data item whose bubble is at the given point, or null
+     * @since 18
+     */
+    public Data<X,Y> getDataAt(double x, double y) {
+        return symbolLayer.getDataAt(x, y);
+    }
+
     /**
      * Used to get a double value from a object that can be a Number object or null
      *
@@ -136,9 +205,14 @@ public class BubbleChart<X,Y> extends XYChart<X,Y> {
                 }
             }
         }
+        symbolLayer.layout();
     }
 
     @Override protected void dataItemAdded(Series<X,Y> series, int itemIndex, Data<X,Y> item) {
+        if (!getCreateSymbolNodes() && item.getNode() == null) {
+            // drawn by the symbol layer
+            return;
+        }
         Node bubble = createBubble(series, getData().indexOf(series), item, itemIndex);
         if (shouldAnimate()) {
             // fade in new bubble
@@ -154,7 +228,7 @@ public class BubbleChart<X,Y> extends XYChart<X,Y> {
 
     @Override protected  void dataItemRemoved(final Data<X,Y> item, final Series<X,Y> series) {
         final Node bubble = item.getNode();
-        if (shouldAnimate()) {
+        if (shouldAnimate() && bubble != null) {
             // fade out old bubble
             FadeTransition ft = new FadeTransition(Duration.millis(500),bubble);
             ft.setToValue(0);
@@ -175,9 +249,11 @@ public class BubbleChart<X,Y> extends XYChart<X,Y> {
     }
 
     @Override protected  void seriesAdded(Series<X,Y> series, int seriesIndex) {
+        symbolLayer.seriesAdded(series);
         // handle any data already in series
         for (int j=0; j<series.getData().size(); j++) {
             Data<X,Y> item = series.getData().get(j);
+            if (!getCreateSymbolNodes() && item.getNode() == null) continue;
             Node bubble = createBubble(series, seriesIndex, item, j);
             if (shouldAnimate()) {
                 bubble.setOpacity(0);
@@ -193,6 +269,7 @@ public class BubbleChart<X,Y> extends XYChart<X,Y> {
     }
 
     @Override protected  void seriesRemoved(final Series<X,Y> series) {
+        symbolLayer.seriesRemoved(series);
         // remove all bubble nodes
         if (shouldAnimate()) {
             ParallelTransition pt = new ParallelTransition();
@@ -201,6 +278,7 @@ public class BubbleChart<X,Y> extends XYChart<X,Y> {
             });
             for (XYChart.Data<X,Y> d : series.getData()) {
                 final Node bubble = d.getNode();
+                if (bubble == null) continue;
                 // fade out old bubble
                 FadeTransition ft = new FadeTransition(Duration.millis(500),bubble);
                 ft.setToValue(0);
@@ -0,0 +1,697 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.chart;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.collections.ObservableList;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+import javafx.scene.shape.StrokeLineJoin;
+
+/**
+ * A series of primitive {@code double} x/y values that can be plotted by a
+ * {@link LineChart} via {@link LineChart#getDoubleSeries()}. Unlike
+ * {@link XYChart.Series}, a {@code DoubleSeries} does not create a
+ * {@link XYChart.Data} object or a node per value, which makes it suitable
+ * for series with millions of values.
+ * <p>
+ * X values must be added in non-decreasing order. When rendered, the series
+ * is reduced to at most four points per pixel column of the plot area (the
+ * first, minimum, maximum and last value falling into that column), so the
+ * drawn line is visually identical to the full line, while the cost of a
+ * layout only depends on the width of the chart. Only the values that fall
+ * within the current range of the x axis are considered.
+ * <p>
+ * A series can be given a {@link #setMaxSize(int) maximum size}, in which case
+ * it keeps its values in a ring buffer and drops the oldest values as new ones
+ * are added. This makes it suitable for charts of streaming data: appending
+ * values and scrolling the x axis only extends and trims the drawn line
+ * rather than recomputing it, and the bounds used for auto-ranging are
+ * tracked incrementally.
+ * <p>
+ * A {@code DoubleSeries} is drawn with a straight-line mapping of values to
+ * pixels and is therefore only rendered when both axes of the chart are
+ * {@link ValueAxis value axes}. It does not appear in the legend and is not
+ * animated.
+ * <p>
+ * A {@code DoubleSeries} must only be modified on the JavaFX Application
+ * Thread once it has been added to a chart.
+ *
+ * @since 18
+ */
+public final class DoubleSeries {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Path coordinates are floats, so the path is rebuilt before they lose precision */
+    private static final double MAX_PATH_COORDINATE = 1e6;
+
+    // The values are kept in a ring buffer: the value at index i is stored
+    // at (head + i) % capacity. Values are also identified by an absolute
+    // index, which is their index plus the number of values dropped from the
+    // front of the series, and which stays the same when values are dropped.
+    private double[] xValues;
+    private double[] yValues;
+    private int head;
+    private int size;
+    private long dropped;
+    private int maxSize = Integer.MAX_VALUE;
+
+    // The y bounds of an unbounded series only grow, so they are tracked
+    // with running values. A bounded series keeps the absolute indices of the
+    // candidates for its minimum and maximum in monotonic deques instead.
+    private double minY = Double.NaN;
+    private double maxY = Double.NaN;
+    private IndexDeque minYDeque;
+    private IndexDeque maxYDeque;
+
+    /** The chart this series has been added to, if any */
+    LineChart<?,?> chart;
+
+    /** The node the series is drawn with */
+    final Path path = new Path();
+
+    /** The index of the series in the chart, used to set its style classes */
+    int styleIndex = -1;
+
+    // The reduced form of the series: for every pixel-wide column of x
+    // values, the absolute indices of the first, minimum, maximum and last
+    // values in that column, and the number of path elements drawing it.
+    // Columns are counted from bucketXOrigin, so they do not depend on the
+    // position of the x axis and stay valid when it is scrolled.
+    private long[] bucketFirst = new long[0];
+    private long[] bucketMin = new long[0];
+    private long[] bucketMax = new long[0];
+    private long[] bucketLast = new long[0];
+    private int[] bucketElements = new int[0];
+    private int bucketStart;
+    private int bucketEnd;
+    private long lastBucketColumn;
+    private long bucketedEnd;
+    private double bucketXOrigin;
+    private double bucketXScale;
+    private boolean bucketsValid;
+
+    // The buckets in [bucketStart, pathEnd) are drawn by the path, using
+    // the y transform the path was built with
+    private int pathEnd;
+    private double pathYOffset = Double.NaN;
+    private double pathYScale = Double.NaN;
+    private boolean pathValid;
+
+    /**
+     * Creates an empty series.
+     */
+    public DoubleSeries() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates an empty series that can hold the given number of values
+     * without growing its storage.
+     *
+     * @param initialCapacity the initial capacity of the series
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative
+     */
+    public DoubleSeries(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        xValues = new double[initialCapacity];
+        yValues = new double[initialCapacity];
+        path.setStrokeLineJoin(StrokeLineJoin.BEVEL);
+    }
+
+    /**
+     * Returns the maximum number of values of this series.
+     *
+     * @return the maximum number of values of this series
+     * @see #setMaxSize(int)
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets the maximum number of values of this series. When a value is added
+     * to a series that already holds this many values, its oldest value is
+     * removed. If the series holds more values than the given size, its
+     * oldest values are removed right away. The default is
+     * {@link Integer#MAX_VALUE}, which means the series is unbounded.
+     *
+     * @param maxSize the maximum number of values of this series
+     * @throws IllegalArgumentException if {@code maxSize} is less than one
+     */
+    public void setMaxSize(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Illegal maximum size: " + maxSize);
+        }
+        if (maxSize == this.maxSize) return;
+        Bounds bounds = new Bounds();
+        this.maxSize = maxSize;
+        while (size > maxSize) {
+            dropFirst();
+        }
+        if (xValues.length > maxSize) {
+            resize(maxSize);
+        }
+        // rebuild the y bounds for the new mode
+        minYDeque = maxYDeque = null;
+        minY = maxY = Double.NaN;
+        if (maxSize != Integer.MAX_VALUE) {
+            minYDeque = new IndexDeque();
+            maxYDeque = new IndexDeque();
+        }
+        for (int i = 0; i < size; i++) {
+            trackY(dropped + i, yValues[slot(i)]);
+        }
+        changed(bounds);
+    }
+
+    /**
+     * Returns the number of values in this series.
+     *
+     * @return the number of values in this series
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the x value at the given index.
+     *
+     * @param index the index of the value
+     * @return the x value at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public double getX(int index) {
+        checkIndex(index);
+        return xValues[slot(index)];
+    }
+
+    /**
+     * Returns the y value at the given index.
+     *
+     * @param index the index of the value
+     * @return the y value at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public double getY(int index) {
+        checkIndex(index);
+        return yValues[slot(index)];
+    }
+
+    /**
+     * Appends a value to the end of this series, removing its oldest value if
+     * the series has reached its maximum size.
+     *
+     * @param x the x value, which must not be less than the last x value of this series
+     * @param y the y value
+     * @throws IllegalArgumentException if {@code x} is NaN or less than the last x value
+     */
+    public void add(double x, double y) {
+        checkOrder(lastX(), x);
+        Bounds bounds = new Bounds();
+        append(x, y);
+        changed(bounds);
+    }
+
+    /**
+     * Appends the given values to the end of this series, removing its oldest
+     * values if the series would exceed its maximum size.
+     *
+     * @param x the x values, which must be in non-decreasing order and not less
+     *          than the last x value of this series
+     * @param y the y values
+     * @throws NullPointerException if {@code x} or {@code y} is null
+     * @throws IllegalArgumentException if the arrays differ in length or the x
+     *          values are out of order
+     */
+    public void addAll(double[] x, double[] y) {
+        checkValues(x, y, lastX());
+        if (x.length == 0) return;
+        Bounds bounds = new Bounds();
+        for (int i = 0; i < x.length; i++) {
+            append(x[i], y[i]);
+        }
+        changed(bounds);
+    }
+
+    /**
+     * Replaces all values of this series with the given values. If there are
+     * more values than the maximum size of the series, only the last values
+     * are kept.
+     *
+     * @param x the x values, which must be in non-decreasing order
+     * @param y the y values
+     * @throws NullPointerException if {@code x} or {@code y} is null
+     * @throws IllegalArgumentException if the arrays differ in length or the x
+     *          values are out of order
+     */
+    public void setAll(double[] x, double[] y) {
+        checkValues(x, y, Double.NEGATIVE_INFINITY);
+        Bounds bounds = new Bounds();
+        reset();
+        int from = Math.max(0, x.length - maxSize);
+        if (xValues.length < x.length - from) {
+            xValues = new double[x.length - from];
+            yValues = new double[x.length - from];
+        }
+        for (int i = from; i < x.length; i++) {
+            append(x[i], y[i]);
+        }
+        changed(bounds);
+    }
+
+    /**
+     * Removes all values from this series.
+     */
+    public void clear() {
+        Bounds bounds = new Bounds();
+        reset();
+        changed(bounds);
+    }
+
+    private void reset() {
+        head = 0;
+        size = 0;
+        dropped = 0;
+        minY = maxY = Double.NaN;
+        if (minYDeque != null) {
+            minYDeque.clear();
+            maxYDeque.clear();
+        }
+        bucketsValid = false;
+    }
+
+    private void append(double x, double y) {
+        if (size == maxSize) {
+            dropFirst();
+        } else if (size == xValues.length) {
+            resize((int) Math.min(maxSize,
+                    Math.max(INITIAL_CAPACITY, xValues.length + (long) (xValues.length >> 1))));
+        }
+        int slot = slot(size);
+        xValues[slot] = x;
+        yValues[slot] = y;
+        size++;
+        trackY(dropped + size - 1, y);
+    }
+
+    private void dropFirst() {
+        if (minYDeque != null) {
+            minYDeque.removeFirst(dropped);
+            maxYDeque.removeFirst(dropped);
+        }
+        head = head + 1 == xValues.length ? 0 : head + 1;
+        size--;
+        dropped++;
+    }
+
+    private void trackY(long index, double y) {
+        if (Double.isNaN(y)) return;
+        if (minYDeque == null) {
+            if (!(y >= minY)) minY = y;
+            if (!(y <= maxY)) maxY = y;
+        } else {
+            // a value can never again be the minimum once a smaller value
+            // has been added after it, and likewise for the maximum
+            while (!minYDeque.isEmpty() && y(minYDeque.last()) >= y) minYDeque.removeLast();
+            minYDeque.addLast(index);
+            while (!maxYDeque.isEmpty() && y(maxYDeque.last()) <= y) maxYDeque.removeLast();
+            maxYDeque.addLast(index);
+        }
+    }
+
+    /*
+     * Lets the chart know that the series changed, and whether its bounds
+     * changed since the given snapshot was taken.
+     */
+    private void changed(Bounds bounds) {
+        if (chart != null) {
+            chart.doubleSeriesChanged(this, !bounds.isSame());
+        }
+    }
+
+    double getMinX() { return size == 0 ? Double.NaN : xValues[slot(0)]; }
+    double getMaxX() { return size == 0 ? Double.NaN : xValues[slot(size - 1)]; }
+    double getMinY() {
+        if (minYDeque == null) return minY;
+        return minYDeque.isEmpty() ? Double.NaN : y(minYDeque.first());
+    }
+    double getMaxY() {
+        if (maxYDeque == null) return maxY;
+        return maxYDeque.isEmpty() ? Double.NaN : y(maxYDeque.first());
+    }
+
+    /*
+     * Updates the path of this series for the given transforms from values to
+     * pixels. The buckets are only rebuilt when the scale of the x axis
+     * changed or it was scrolled backwards. Otherwise, buckets that scrolled
+     * out of view are dropped, values appended since the last layout are
+     * added to the buckets, and the path is trimmed and extended to match.
+     * Scrolling the x axis only moves the path.
+     */
+    void layoutPath(double xOffset, double xScale, double plotWidth, double yOffset, double yScale) {
+        if (!(xScale > 0) || Double.isNaN(xOffset) || Double.isNaN(yScale) || Double.isNaN(yOffset)) {
+            path.getElements().clear();
+            bucketsValid = false;
+            return;
+        }
+        double lower = -xOffset / xScale;
+        double upper = (plotWidth - xOffset) / xScale;
+        // one value on either side of the visible range keeps the line
+        // running up to the edges of the plot area
+        long from = dropped + Math.max(0, lowerBound(lower) - 1);
+        long to = dropped + Math.min(size, upperBound(upper) + 1);
+
+        int removedElements = 0;
+        boolean firstBucketChanged = false;
+        if (bucketsValid && xScale == bucketXScale
+                && Math.abs((upper - bucketXOrigin) * xScale) < MAX_PATH_COORDINATE) {
+            while (bucketStart < bucketEnd && bucketLast[bucketStart] < Math.max(from, dropped)) {
+                removedElements += bucketElements[bucketStart];
+                bucketStart++;
+            }
+            if (bucketStart < bucketEnd && bucketFirst[bucketStart] < dropped) {
+                // the oldest values of the first bucket were dropped
+                rebucketFirst();
+                firstBucketChanged = true;
+            }
+            if (bucketStart == bucketEnd || from < bucketFirst[bucketStart]) {
+                bucketsValid = false;
+            }
+        } else {
+            bucketsValid = false;
+        }
+        if (!bucketsValid) {
+            bucketXScale = xScale;
+            bucketXOrigin = lower;
+            bucketStart = bucketEnd = 0;
+            bucketedEnd = from;
+            bucketsValid = true;
+            pathValid = false;
+        }
+        if (bucketedEnd < to) {
+            bucketValues(bucketedEnd, to);
+            bucketedEnd = to;
+        }
+
+        path.setTranslateX(xOffset + bucketXOrigin * xScale);
+        if (!pathValid || yOffset != pathYOffset || yScale != pathYScale) {
+            pathYOffset = yOffset;
+            pathYScale = yScale;
+            List<PathElement> elements = new ArrayList<>(bucketEnd - bucketStart);
+            for (int b = bucketStart; b < bucketEnd; b++) {
+                addElements(b, elements, b == bucketStart);
+            }
+            path.getElements().setAll(elements);
+            pathEnd = bucketEnd;
+            pathValid = true;
+        } else {
+            updatePath(removedElements, firstBucketChanged);
+        }
+    }
+
+    /*
+     * Trims the elements of dropped buckets from the front of the path and
+     * redraws the last drawn bucket, which may have grown, along with any new
+     * buckets.
+     */
+    private void updatePath(int removedElements, boolean firstBucketChanged) {
+        ObservableList<PathElement> elements = path.getElements();
+        if (removedElements > 0) {
+            elements.remove(0, removedElements);
+        }
+        if (bucketStart == bucketEnd) {
+            elements.clear();
+            pathEnd = bucketEnd;
+            return;
+        }
+        boolean firstRedrawn = false;
+        if (firstBucketChanged && bucketStart < pathEnd) {
+            int oldCount = bucketElements[bucketStart];
+            List<PathElement> first = new ArrayList<>(4);
+            addElements(bucketStart, first, true);
+            elements.remove(0, oldCount);
+            elements.addAll(0, first);
+            firstRedrawn = true;
+        }
+        int redrawFrom = Math.max(bucketStart + (firstRedrawn ? 1 : 0), pathEnd - 1);
+        if (redrawFrom < bucketEnd) {
+            if (redrawFrom < pathEnd) {
+                elements.remove(elements.size() - bucketElements[redrawFrom], elements.size());
+            }
+            List<PathElement> added = new ArrayList<>();
+            for (int b = redrawFrom; b < bucketEnd; b++) {
+                addElements(b, added, elements.isEmpty() && added.isEmpty());
+            }
+            elements.addAll(added);
+        }
+        pathEnd = bucketEnd;
+        if (!elements.isEmpty() && !(elements.get(0) instanceof MoveTo)) {
+            LineTo lineTo = (LineTo) elements.get(0);
+            elements.set(0, new MoveTo(lineTo.getX(), lineTo.getY()));
+        }
+    }
+
+    /*
+     * Adds the elements drawing the given bucket to the given list, and
+     * records how many there are. The first element is a MoveTo if the
+     * bucket starts the path.
+     */
+    private void addElements(int bucket, List<PathElement> elements, boolean startsPath) {
+        long low = Math.min(bucketMin[bucket], bucketMax[bucket]);
+        long high = Math.max(bucketMin[bucket], bucketMax[bucket]);
+        long[] indices = { bucketFirst[bucket], low, high, bucketLast[bucket] };
+        long previous = -1;
+        int count = 0;
+        for (long index : indices) {
+            if (index == previous) continue;
+            double x = (x(index) - bucketXOrigin) * bucketXScale;
+            double y = pathYOffset + y(index) * pathYScale;
+            elements.add(startsPath && count == 0 ? new MoveTo(x, y) : new LineTo(x, y));
+            previous = index;
+            count++;
+        }
+        bucketElements[bucket] = count;
+    }
+
+    /*
+     * Adds the values with absolute indices in [from, to) to the buckets.
+     * Values falling into the same column as the last bucket are merged
+     * into it.
+     */
+    private void bucketValues(long from, long to) {
+        for (long i = from; i < to; i++) {
+            long column = (long) Math.floor((x(i) - bucketXOrigin) * bucketXScale);
+            if (bucketStart < bucketEnd && column == lastBucketColumn) {
+                int b = bucketEnd - 1;
+                double y = y(i);
+                if (y < y(bucketMin[b])) bucketMin[b] = i;
+                if (y > y(bucketMax[b])) bucketMax[b] = i;
+                bucketLast[b] = i;
+            } else {
+                if (bucketEnd == bucketFirst.length) {
+                    growBuckets();
+                }
+                bucketFirst[bucketEnd] = i;
+                bucketMin[bucketEnd] = i;
+                bucketMax[bucketEnd] = i;
+                bucketLast[bucketEnd] = i;
+                bucketElements[bucketEnd] = 0;
+                bucketEnd++;
+                lastBucketColumn = column;
+            }
+        }
+    }
+
+    /** Recomputes the first bucket from the values that have not been dropped */
+    private void rebucketFirst() {
+        int b = bucketStart;
+        long first = dropped;
+        bucketFirst[b] = bucketMin[b] = bucketMax[b] = first;
+        for (long i = first + 1; i <= bucketLast[b]; i++) {
+            double y = y(i);
+            if (y < y(bucketMin[b])) bucketMin[b] = i;
+            if (y > y(bucketMax[b])) bucketMax[b] = i;
+        }
+    }
+
+    private void growBuckets() {
+        int count = bucketEnd - bucketStart;
+        if (bucketStart > 0 && count < bucketFirst.length / 2) {
+            // reclaim the space of the buckets dropped from the front
+            System.arraycopy(bucketFirst, bucketStart, bucketFirst, 0, count);
+            System.arraycopy(bucketMin, bucketStart, bucketMin, 0, count);
+            System.arraycopy(bucketMax, bucketStart, bucketMax, 0, count);
+            System.arraycopy(bucketLast, bucketStart, bucketLast, 0, count);
+            System.arraycopy(bucketElements, bucketStart, bucketElements, 0, count);
+            pathEnd -= bucketStart;
+            bucketStart = 0;
+            bucketEnd = count;
+        } else {
+            int capacity = Math.max(64, bucketFirst.length * 2);
+            bucketFirst = Arrays.copyOf(bucketFirst, capacity);
+            bucketMin = Arrays.copyOf(bucketMin, capacity);
+            bucketMax = Arrays.copyOf(bucketMax, capacity);
+            bucketLast = Arrays.copyOf(bucketLast, capacity);
+            bucketElements = Arrays.copyOf(bucketElements, capacity);
+        }
+    }
+
+    /** Returns the index of the first value with an x value not less than the given one */
+    private int lowerBound(double x) {
+        int low = 0, high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (xValues[slot(mid)] < x) low = mid + 1; else high = mid;
+        }
+        return low;
+    }
+
+    /** Returns the index of the first value with an x value greater than the given one */
+    private int upperBound(double x) {
+        int low = 0, high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (xValues[slot(mid)] <= x) low = mid + 1; else high = mid;
+        }
+        return low;
+    }
+
+    private int slot(int index) {
+        int slot = head + index;
+        return slot >= xValues.length ? slot - xValues.length : slot;
+    }
+
+    private double x(long absoluteIndex) {
+        return xValues[slot((int) (absoluteIndex - dropped))];
+    }
+
+    private double y(long absoluteIndex) {
+        return yValues[slot((int) (absoluteIndex - dropped))];
+    }
+
+    private double lastX() {
+        return size == 0 ? Double.NEGATIVE_INFINITY : xValues[slot(size - 1)];
+    }
+
+    /** Moves the values into arrays of the given capacity, starting at index 0 */
+    private void resize(int capacity) {
+        double[] newX = new double[capacity];
+        double[] newY = new double[capacity];
+        for (int i = 0; i < size; i++) {
+            int slot = slot(i);
+            newX[i] = xValues[slot];
+            newY[i] = yValues[slot];
+        }
+        xValues = newX;
+        yValues = newY;
+        head = 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private static void checkValues(double[] x, double[] y, double previous) {
+        if (x.length != y.length) {
+            throw new IllegalArgumentException("x and y have different lengths: " + x.length + " != " + y.length);
+        }
+        for (double value : x) {
+            checkOrder(previous, value);
+            previous = value;
+        }
+    }
+
+    private static void checkOrder(double previous, double x) {
+        if (!(x >= previous)) {
+            throw new IllegalArgumentException("x values must be in non-decreasing order and not NaN: " + x);
+        }
+    }
+
+    /** A snapshot of the bounds of the series, used to tell whether a change affects the axis ranges */
+    private final class Bounds {
+        private final double minX = getMinX();
+        private final double maxX = getMaxX();
+        private final double minY = getMinY();
+        private final double maxY = getMaxY();
+
+        boolean isSame() {
+            return Double.compare(minX, getMinX()) == 0 && Double.compare(maxX, getMaxX()) == 0
+                    && Double.compare(minY, getMinY()) == 0 && Double.compare(maxY, getMaxY()) == 0;
+        }
+    }
+
+    /** A growable ring buffer of absolute indices, used as a double-ended queue */
+    private static final class IndexDeque {
+        private long[] elements = new long[INITIAL_CAPACITY];
+        private int first;
+        private int count;
+
+        boolean isEmpty() { return count == 0; }
+        long first() { return elements[first]; }
+        long last() { return elements[(first + count - 1) % elements.length]; }
+
+        void addLast(long index) {
+            if (count == elements.length) {
+                long[] grown = new long[elements.length * 2];
+                for (int i = 0; i < count; i++) {
+                    grown[i] = elements[(first + i) % elements.length];
+                }
+                elements = grown;
+                first = 0;
+            }
+            elements[(first + count) % elements.length] = index;
+            count++;
+        }
+
+        void removeLast() {
+            count--;
+        }
+
+        /** Removes the first index if it is the given one */
+        void removeFirst(long index) {
+            if (count > 0 && elements[first] == index) {
+                first = (first + 1) % elements.length;
+                count--;
+            }
+        }
+
+        void clear() {
+            first = 0;
+            count = 0;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -88,6 +88,29 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
     private Map<Data<X,Y>, Double> XYValueMap =
                                 new HashMap<Data<X,Y>, Double>();
     private Timeline seriesRemoveTimeline = null;
+
+    private final ObservableList<DoubleSeries> doubleSeries = FXCollections.observableArrayList();
+    {
+        doubleSeries.addListener((ListChangeListener<DoubleSeries>) c -> {
+            while (c.next()) {
+                for (DoubleSeries series : c.getRemoved()) {
+                    series.chart = null;
+                    series.styleIndex = -1;
+                    getPlotChildren().remove(series.path);
+                }
+                for (DoubleSeries series : c.getAddedSubList()) {
+                    if (series.chart != null) {
+                        throw new IllegalArgumentException("DoubleSeries is already plotted by a chart");
+                    }
+                    series.chart = this;
+                    getPlotChildren().add(series.path);
+                }
+            }
+            invalidateRange();
+            requestChartLayout();
+        });
+    }
+
     // -------------- PUBLIC PROPERTIES ----------------------------------------
 
     /** When true, CSS styleable symbols are created for any data items that don't have a symbol node specified. */
@@ -187,6 +210,27 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
 
     // -------------- METHODS ------------------------------------------------------------------------------------------
 
+    /**
+     * Gets the list of {@link DoubleSeries} plotted by this chart in addition to
+     * the {@link #dataProperty() data}. These series are drawn as lines that are
+     * reduced to the pixel resolution of the plot area, which allows plotting
+     * series with millions of values.
+     *
+     * @return the list of {@code DoubleSeries} plotted by this chart
+     * @since 18
+     */
+    public final ObservableList<DoubleSeries> getDoubleSeries() {
+        return doubleSeries;
+    }
+
+    /**
+     * Called by a {@link DoubleSeries} of this chart when its values changed.
+     */
+    void doubleSeriesChanged(DoubleSeries series, boolean rangeChanged) {
+        if (rangeChanged) invalidateRange();
+        requestChartLayout();
+    }
+
     /** {@inheritDoc} */
     @Override protected void updateAxisRange() {
         final Axis<X> xa = getXAxis();
@@ -202,6 +246,18 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
                     if(yData != null) yData.add(data.getYValue());
                 }
             }
+            // only the bounds of a DoubleSeries matter for the axis range
+            for (DoubleSeries series : doubleSeries) {
+                if (series.size() == 0) continue;
+                if (xData != null && xa instanceof ValueAxis) {
+                    xData.add(xa.toRealValue(series.getMinX()));
+                    xData.add(xa.toRealValue(series.getMaxX()));
+                }
+                if (yData != null && ya instanceof ValueAxis && !Double.isNaN(series.getMinY())) {
+                    yData.add(ya.toRealValue(series.getMinY()));
+                    yData.add(ya.toRealValue(series.getMaxY()));
+                }
+            }
             // RT-32838 No need to invalidate range if there is one data item - whose value is zero.
             if(xData != null && !(xData.size() == 1 && getXAxis().toNumericValue(xData.get(0)) == 0)) {
                 xa.invalidateRange(xData);
@@ -460,6 +516,32 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
                                     seriesYAnimMultiplier.get(), getAxisSortingPolicy());
             }
         }
+        layoutDoubleSeries();
+    }
+
+    private void layoutDoubleSeries() {
+        if (doubleSeries.isEmpty()) return;
+        final Axis<X> xa = getXAxis();
+        final Axis<Y> ya = getYAxis();
+        double xOffset = Double.NaN, xScale = Double.NaN;
+        double yOffset = Double.NaN, yScale = Double.NaN;
+        // a DoubleSeries is mapped to pixels as offset + value * scale
+        if (xa instanceof ValueAxis && ya instanceof ValueAxis) {
+            xOffset = xa.getDisplayPosition(xa.toRealValue(0));
+            xScale = ((ValueAxis<?>) xa).getScale();
+            yOffset = ya.getDisplayPosition(ya.toRealValue(0));
+            yScale = ((ValueAxis<?>) ya).getScale();
+        }
+        for (int i = 0; i < doubleSeries.size(); i++) {
+            DoubleSeries series = doubleSeries.get(i);
+            int styleIndex = getDataSize() + i;
+            if (series.styleIndex != styleIndex) {
+                series.styleIndex = styleIndex;
+                series.path.getStyleClass().setAll("chart-series-line", "series" + styleIndex,
+                        DEFAULT_COLOR + (styleIndex % 8));
+            }
+            series.layoutPath(xOffset, xScale, xa.getWidth(), yOffset, yScale);
+        }
     }
 
     /** {@inheritDoc} */
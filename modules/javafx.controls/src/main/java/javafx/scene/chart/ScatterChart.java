@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,6 +29,8 @@ import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
 import javafx.application.Platform;
 import javafx.beans.NamedArg;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.BooleanPropertyBase;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.AccessibleRole;
@@ -46,6 +48,60 @@ import java.util.Iterator;
  */
 public class ScatterChart<X,Y> extends XYChart<X,Y> {
 
+    // -------------- PRIVATE FIELDS ------------------------------------------
+
+    private final SymbolLayer<X,Y> symbolLayer = new SymbolLayer<>(this, "chart-symbol", false);
+
+    // -------------- PUBLIC PROPERTIES ----------------------------------------
+
+    /**
+     * Indicates whether a node is created for the symbol of every data item.
+     * If this is set to false, the symbols of all data items that have no node
+     * are drawn by a single node instead, which makes charts with many data
+     * items much cheaper to create, style and render. The look of these symbols
+     * is taken from the CSS of the {@code chart-symbol} style class of their
+     * series; only background fills, the shape and the preferred size are used,
+     * and styles of individual data items are ignored. These symbols are not
+     * animated or accessible individually. Use {@link #getDataAt(double, double)}
+     * to find the data item at a point, for example to show a tooltip.
+     *
+     * @since 18
+     * @defaultValue true
+     */
+    private BooleanProperty createSymbolNodes = new BooleanPropertyBase(true) {
+        @Override protected void invalidated() {
+            symbolLayer.setEnabled(!get());
+            for (int seriesIndex=0; seriesIndex < getData().size(); seriesIndex ++) {
+                Series<X,Y> series = getData().get(seriesIndex);
+                for (int itemIndex=0; itemIndex < series.getData().size(); itemIndex ++) {
+                    Data<X,Y> item = series.getData().get(itemIndex);
+                    Node symbol = item.getNode();
+                    if (get() && symbol == null) { // create any symbols
+                        getPlotChildren().add(createSymbol(series, seriesIndex, item, itemIndex));
+                    } else if (!get() && symbol != null) { // remove symbols
+                        symbol.focusTraversableProperty().unbind();
+                        getPlotChildren().remove(symbol);
+                        item.setNode(null);
+                    }
+                }
+            }
+            updateLegend();
+            requestChartLayout();
+        }
+
+        public Object getBean() {
+            return ScatterChart.this;
+        }
+
+        public String getName() {
+            return "createSymbolNodes";
+        }
+    };
+
+    public final boolean getCreateSymbolNodes() { return createSymbolNodes.getValue(); }
+    public final void setCreateSymbolNodes(boolean value) { createSymbolNodes.setValue(value); }
+    public final BooleanProperty createSymbolNodesProperty() { return createSymbolNodes; }
+
     // -------------- CONSTRUCTORS ----------------------------------------------
 
     /**
@@ -72,8 +128,25 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
 
     // -------------- METHODS ------------------------------------------------------------------------------------------
 
-    /** {@inheritDoc} */
-    @Override protected void dataItemAdded(Series<X,Y> series, int itemIndex, Data<X,Y> item) {
+    /**
+     * Returns the data item whose symbol is at the given point, or null if
+     * there is none. If several symbols overlap at the point, the item of the
+     * symbol drawn on top is returned.
+     *
+     * @param x the x coordinate of the point, in the local coordinates of this chart
+     * @param y the y coordinate of the point, in the local coordinates of this chart
+     * @return the data item whose symbol is at the given point, or null
+     * @since 18
+     */
+    public Data<X,Y> getDataAt(double x, double y) {
+        return symbolLayer.getDataAt(x, y);
+    }
+
+    /**
+     * Creates the symbol for the given data item if it doesn't already have a
+     * node, and styles it.
+     */
+    private Node createSymbol(Series<X,Y> series, int seriesIndex, Data<X,Y> item, int itemIndex) {
         Node symbol = item.getNode();
         // check if symbol has already been created
         if (symbol == null) {
@@ -84,8 +157,18 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
             item.setNode(symbol);
         }
         // set symbol styles
-        symbol.getStyleClass().setAll("chart-symbol", "series" + getData().indexOf(series), "data" + itemIndex,
+        symbol.getStyleClass().setAll("chart-symbol", "series" + seriesIndex, "data" + itemIndex,
                 series.defaultColorStyleClass);
+        return symbol;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void dataItemAdded(Series<X,Y> series, int itemIndex, Data<X,Y> item) {
+        if (!getCreateSymbolNodes() && item.getNode() == null) {
+            // drawn by the symbol layer
+            return;
+        }
+        Node symbol = createSymbol(series, getData().indexOf(series), item, itemIndex);
         // add and fade in new symbol if animated
         if (shouldAnimate()) {
             symbol.setOpacity(0);
@@ -106,7 +189,7 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
             symbol.focusTraversableProperty().unbind();
         }
 
-        if (shouldAnimate()) {
+        if (shouldAnimate() && symbol != null) {
             // fade out old symbol
             FadeTransition ft = new FadeTransition(Duration.millis(500),symbol);
             ft.setToValue(0);
@@ -128,6 +211,7 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
 
     /** {@inheritDoc} */
     @Override protected  void seriesAdded(Series<X,Y> series, int seriesIndex) {
+        symbolLayer.seriesAdded(series);
         // handle any data already in series
         for (int j=0; j<series.getData().size(); j++) {
             dataItemAdded(series,j,series.getData().get(j));
@@ -136,6 +220,7 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
 
     /** {@inheritDoc} */
     @Override protected  void seriesRemoved(final Series<X,Y> series) {
+        symbolLayer.seriesRemoved(series);
         // remove all symbol nodes
         if (shouldAnimate()) {
             ParallelTransition pt = new ParallelTransition();
@@ -144,6 +229,7 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
             });
             for (final Data<X,Y> d : series.getData()) {
                 final Node symbol = d.getNode();
+                if (symbol == null) continue;
                 // fade out old symbol
                 FadeTransition ft = new FadeTransition(Duration.millis(500),symbol);
                 ft.setToValue(0);
@@ -183,6 +269,7 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
                 }
             }
         }
+        symbolLayer.layout();
     }
 
     @Override
@@ -191,6 +278,8 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
         Node node = series.getData().isEmpty() ? null : series.getData().get(0).getNode();
         if (node != null) {
             legendItem.getSymbol().getStyleClass().addAll(node.getStyleClass());
+        } else if (symbolLayer.isEnabled()) {
+            legendItem.getSymbol().getStyleClass().addAll(symbolLayer.getStyleClasses(series, seriesIndex));
         }
         return legendItem;
     }
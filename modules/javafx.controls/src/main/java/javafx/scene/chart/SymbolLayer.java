@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.chart;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import javafx.geometry.Bounds;
+import javafx.geometry.Insets;
+import javafx.geometry.Point2D;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.chart.XYChart.Data;
+import javafx.scene.chart.XYChart.Series;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.CornerRadii;
+import javafx.scene.layout.Region;
+import javafx.scene.shape.SVGPath;
+import javafx.scene.shape.Shape;
+
+/**
+ * Draws the symbols of the data items of a {@link ScatterChart} or
+ * {@link BubbleChart} that do not have a node into a single canvas, and finds
+ * the data item shown at a point, whether it has a node or not.
+ * <p>
+ * The look of the symbols of a series is taken from a hidden region per
+ * series, which is styled like a symbol node would be. Only the background
+ * fills, shape and preferred size of that region are used.
+ */
+final class SymbolLayer<X,Y> {
+
+    /** The size of the cells of the grid used to find the symbol at a point */
+    private static final double CELL_SIZE = 32;
+
+    private final XYChart<X,Y> chart;
+    private final String symbolStyleClass;
+    private final boolean bubbles;
+
+    private final Canvas canvas = new Canvas();
+    private final Map<Series<X,Y>, Region> templates = new HashMap<>();
+    private boolean enabled;
+
+    // The symbols shown at the last layout, in drawing order, with their
+    // bounds as minX, minY, maxX, maxY in the coordinates of the plot content.
+    // The node of an item is null if its symbol is drawn into the canvas.
+    private final List<Data<X,Y>> items = new ArrayList<>();
+    private final List<Node> nodes = new ArrayList<>();
+    private double[] bounds = new double[0];
+
+    // A grid over the plot area: the symbols overlapping cell c are
+    // cellItems[cellStart[c]] to cellItems[cellStart[c + 1] - 1]
+    private double gridWidth;
+    private double gridHeight;
+    private int columns;
+    private int rows;
+    private int[] cellStart = new int[1];
+    private int[] cellItems = new int[0];
+
+    SymbolLayer(XYChart<X,Y> chart, String symbolStyleClass, boolean bubbles) {
+        this.chart = chart;
+        this.symbolStyleClass = symbolStyleClass;
+        this.bubbles = bubbles;
+        canvas.setManaged(false);
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    void setEnabled(boolean value) {
+        if (enabled == value) return;
+        enabled = value;
+        if (value) {
+            chart.getPlotChildren().add(0, canvas);
+            for (Series<X,Y> series : chart.getData()) {
+                seriesAdded(series);
+            }
+        } else {
+            chart.getPlotChildren().remove(canvas);
+            chart.getPlotChildren().removeAll(templates.values());
+            templates.clear();
+            canvas.setWidth(0);
+            canvas.setHeight(0);
+        }
+        // the symbols are indexed again at the next layout
+        items.clear();
+        nodes.clear();
+        columns = rows = 0;
+    }
+
+    void seriesAdded(Series<X,Y> series) {
+        if (!enabled || templates.containsKey(series)) return;
+        Region template = new Region();
+        template.setVisible(false);
+        template.setManaged(false);
+        templates.put(series, template);
+        chart.getPlotChildren().add(template);
+    }
+
+    void seriesRemoved(Series<X,Y> series) {
+        Region template = templates.remove(series);
+        if (template != null) {
+            chart.getPlotChildren().remove(template);
+        }
+    }
+
+    /**
+     * Returns the style classes a symbol of the given series would have.
+     */
+    String[] getStyleClasses(Series<X,Y> series, int seriesIndex) {
+        return new String[] { symbolStyleClass, "series" + seriesIndex, "data0", series.defaultColorStyleClass };
+    }
+
+    /**
+     * Draws the symbols of all data items without a node, and indexes the
+     * symbols of all data items. This is called once the symbol nodes have
+     * been laid out.
+     */
+    void layout() {
+        final Axis<X> xa = chart.getXAxis();
+        final Axis<Y> ya = chart.getYAxis();
+        final double width = xa.getWidth();
+        final double height = ya.getHeight();
+        final GraphicsContext gc = enabled ? canvas.getGraphicsContext2D() : null;
+        if (enabled) {
+            if (canvas.getWidth() != width || canvas.getHeight() != height) {
+                canvas.setWidth(width);
+                canvas.setHeight(height);
+            }
+            gc.clearRect(0, 0, width, height);
+        }
+        items.clear();
+        nodes.clear();
+
+        final double xScale = xa instanceof NumberAxis ? Math.abs(((NumberAxis) xa).getScale()) : 1;
+        final double yScale = ya instanceof NumberAxis ? Math.abs(((NumberAxis) ya).getScale()) : 1;
+        for (int seriesIndex = 0; seriesIndex < chart.getData().size(); seriesIndex++) {
+            Series<X,Y> series = chart.getData().get(seriesIndex);
+            Region template = templates.get(series);
+            Background background = null;
+            if (template != null) {
+                updateTemplate(template, series, seriesIndex);
+                background = template.getBackground();
+                if (background != null && background.getFills().isEmpty()) {
+                    background = null;
+                }
+            }
+            final double w = template == null ? 0 : template.prefWidth(-1);
+            final double h = template == null ? 0 : template.prefHeight(-1);
+            for (Iterator<Data<X,Y>> it = chart.getDisplayedDataIterator(series); it.hasNext(); ) {
+                Data<X,Y> item = it.next();
+                Node node = item.getNode();
+                if (node != null) {
+                    // symbol nodes are only indexed, and are tested against
+                    // their shape when looked up
+                    if (node.isVisible() && node.getParent() != null) {
+                        Bounds nodeBounds = node.getBoundsInParent();
+                        addItem(item, node, nodeBounds.getMinX(), nodeBounds.getMinY(),
+                                nodeBounds.getMaxX(), nodeBounds.getMaxY());
+                    }
+                    continue;
+                }
+                if (background == null) continue;
+                double x = xa.getDisplayPosition(item.getCurrentX());
+                double y = ya.getDisplayPosition(item.getCurrentY());
+                if (Double.isNaN(x) || Double.isNaN(y)) continue;
+                double halfWidth, halfHeight;
+                if (bubbles) {
+                    double radius = item.getExtraValue() instanceof Number
+                            ? ((Number) item.getExtraValue()).doubleValue() : 1;
+                    halfWidth = radius * xScale;
+                    halfHeight = radius * yScale;
+                } else {
+                    halfWidth = w / 2;
+                    halfHeight = h / 2;
+                }
+                if (x + halfWidth < 0 || x - halfWidth > width || y + halfHeight < 0 || y - halfHeight > height) {
+                    continue;
+                }
+                drawSymbol(gc, background, template.getShape(), x - halfWidth, y - halfHeight,
+                        2 * halfWidth, 2 * halfHeight);
+                addItem(item, null, x - halfWidth, y - halfHeight, x + halfWidth, y + halfHeight);
+            }
+        }
+        buildIndex(width, height);
+    }
+
+    private void updateTemplate(Region template, Series<X,Y> series, int seriesIndex) {
+        String[] styleClasses = getStyleClasses(series, seriesIndex);
+        if (!template.getStyleClass().equals(Arrays.asList(styleClasses))) {
+            template.getStyleClass().setAll(styleClasses);
+            template.applyCss();
+        }
+    }
+
+    private void drawSymbol(GraphicsContext gc, Background background, Shape shape,
+                            double x, double y, double w, double h) {
+        for (BackgroundFill fill : background.getFills()) {
+            Insets insets = fill.getInsets();
+            double fx = x + insets.getLeft();
+            double fy = y + insets.getTop();
+            double fw = w - insets.getLeft() - insets.getRight();
+            double fh = h - insets.getTop() - insets.getBottom();
+            if (fw <= 0 || fh <= 0) continue;
+            gc.setFill(fill.getFill());
+            if (bubbles) {
+                gc.fillOval(fx, fy, fw, fh);
+            } else if (shape instanceof SVGPath) {
+                Bounds shapeBounds = shape.getLayoutBounds();
+                if (shapeBounds.getWidth() <= 0 || shapeBounds.getHeight() <= 0) continue;
+                gc.save();
+                gc.translate(fx, fy);
+                gc.scale(fw / shapeBounds.getWidth(), fh / shapeBounds.getHeight());
+                gc.translate(-shapeBounds.getMinX(), -shapeBounds.getMinY());
+                gc.beginPath();
+                gc.appendSVGPath(((SVGPath) shape).getContent());
+                gc.fill();
+                gc.restore();
+            } else {
+                CornerRadii radii = fill.getRadii();
+                double radius = radii.getTopLeftHorizontalRadius();
+                if (radii.isTopLeftHorizontalRadiusAsPercentage()) {
+                    radius *= fw;
+                }
+                if (radius > 0) {
+                    gc.fillRoundRect(fx, fy, fw, fh, 2 * radius, 2 * radius);
+                } else {
+                    gc.fillRect(fx, fy, fw, fh);
+                }
+            }
+        }
+    }
+
+    private void addItem(Data<X,Y> item, Node node, double minX, double minY, double maxX, double maxY) {
+        int i = items.size();
+        if (bounds.length < (i + 1) * 4) {
+            bounds = Arrays.copyOf(bounds, Math.max(64, i * 2) * 4);
+        }
+        items.add(item);
+        nodes.add(node);
+        bounds[i * 4] = minX;
+        bounds[i * 4 + 1] = minY;
+        bounds[i * 4 + 2] = maxX;
+        bounds[i * 4 + 3] = maxY;
+    }
+
+    /*
+     * Builds the grid in two passes: the first counts the symbols overlapping
+     * each cell, the second stores them.
+     */
+    private void buildIndex(double width, double height) {
+        gridWidth = width;
+        gridHeight = height;
+        columns = Math.max(1, (int) Math.ceil(width / CELL_SIZE));
+        rows = Math.max(1, (int) Math.ceil(height / CELL_SIZE));
+        int cellCount = columns * rows;
+        if (cellStart.length < cellCount + 1) {
+            cellStart = new int[cellCount + 1];
+        } else {
+            Arrays.fill(cellStart, 0, cellCount + 1, 0);
+        }
+        int total = 0;
+        for (int i = 0, max = items.size(); i < max; i++) {
+            int c0 = column(bounds[i * 4]), c1 = column(bounds[i * 4 + 2]);
+            int r0 = row(bounds[i * 4 + 1]), r1 = row(bounds[i * 4 + 3]);
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    cellStart[r * columns + c + 1]++;
+                    total++;
+                }
+            }
+        }
+        for (int c = 0; c < cellCount; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        if (cellItems.length < total) {
+            cellItems = new int[total];
+        }
+        int[] next = Arrays.copyOf(cellStart, cellCount);
+        for (int i = 0, max = items.size(); i < max; i++) {
+            int c0 = column(bounds[i * 4]), c1 = column(bounds[i * 4 + 2]);
+            int r0 = row(bounds[i * 4 + 1]), r1 = row(bounds[i * 4 + 3]);
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    cellItems[next[r * columns + c]++] = i;
+                }
+            }
+        }
+    }
+
+    private int column(double x) {
+        return Math.max(0, Math.min(columns - 1, (int) Math.floor(x / CELL_SIZE)));
+    }
+
+    private int row(double y) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor(y / CELL_SIZE)));
+    }
+
+    /**
+     * Returns the data item whose symbol is shown on top at the given point in
+     * the local coordinates of the chart, or null if there is none. Only the
+     * symbols indexed at the last layout are found.
+     */
+    Data<X,Y> getDataAt(double x, double y) {
+        if (items.isEmpty()) return null;
+        final Group plotContent = chart.getPlotContent();
+        Point2D point = plotContent.sceneToLocal(chart.localToScene(x, y));
+        if (point == null || point.getX() < 0 || point.getY() < 0
+                || point.getX() >= gridWidth || point.getY() >= gridHeight) {
+            return null;
+        }
+        int cell = row(point.getY()) * columns + column(point.getX());
+        // the symbol drawn last is on top, but any symbol node is drawn above
+        // all symbols in the canvas
+        Data<X,Y> drawnItem = null;
+        for (int k = cellStart[cell + 1] - 1; k >= cellStart[cell]; k--) {
+            int i = cellItems[k];
+            if (!contains(i, point.getX(), point.getY())) continue;
+            Node node = nodes.get(i);
+            if (node == null) {
+                if (drawnItem == null) {
+                    drawnItem = items.get(i);
+                }
+            } else if (node.contains(node.parentToLocal(point))) {
+                return items.get(i);
+            }
+        }
+        return drawnItem;
+    }
+
+    private boolean contains(int i, double x, double y) {
+        double minX = bounds[i * 4], minY = bounds[i * 4 + 1];
+        double maxX = bounds[i * 4 + 2], maxY = bounds[i * 4 + 3];
+        if (x < minX || x > maxX || y < minY || y > maxY) return false;
+        if (!bubbles || nodes.get(i) != null) return true;
+        double rx = (maxX - minX) / 2, ry = (maxY - minY) / 2;
+        if (rx <= 0 || ry <= 0) return false;
+        double dx = (x - minX - rx) / rx, dy = (y - minY - ry) / ry;
+        return dx * dx + dy * dy <= 1;
+    }
+}
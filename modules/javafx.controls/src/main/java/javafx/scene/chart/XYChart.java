@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -423,6 +423,14 @@ public abstract class XYChart<X,Y> extends Chart {
         return plotContent.getChildren();
     }
 
+    /**
+     * Gets the group that holds the plot children, in which the data items are
+     * positioned.
+     */
+    final Group getPlotContent() {
+        return plotContent;
+    }
+
     // -------------- CONSTRUCTOR --------------------------------------------------------------------------------------
 
     /**
@@ -627,7 +635,7 @@ public abstract class XYChart<X,Y> extends Chart {
     /**
      * This is called when a data change has happened that may cause the range to be invalid.
      */
-    private void invalidateRange() {
+    void invalidateRange() {
         rangeValid = false;
     }
 
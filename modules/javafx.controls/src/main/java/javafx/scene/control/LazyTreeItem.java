@@ -0,0 +1,390 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.control;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javafx.application.Platform;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.Node;
+
+import com.sun.javafx.scene.control.skin.resources.ControlResources;
+
+/**
+ * A {@link TreeItem} that loads its children on a background thread the first
+ * time it is expanded, rather than requiring them to be present up front. This
+ * makes it possible to show trees backed by file systems, databases or remote
+ * services in a {@link TreeView} or {@link TreeTableView} without loading the
+ * whole tree eagerly and without blocking the JavaFX Application Thread.
+ * <p>
+ * The children are obtained from a {@link ChildrenLoader}, which is called on
+ * the {@link #executorProperty() executor} with the value of this TreeItem.
+ * While the children are being loaded, a placeholder child is shown in their
+ * place. The loaded children are then added to {@link #getChildren()} on the
+ * JavaFX Application Thread, so TreeView and TreeTableView update their rows,
+ * selection and focus exactly as for any other change to the children.
+ * <p>
+ * Very wide nodes can be loaded in pages by setting the
+ * {@link #pageSizeProperty() page size}, in which case the loader is called
+ * repeatedly with increasing offsets and each page is shown as soon as it
+ * arrives. Loading stops when the loader returns fewer children than were
+ * requested.
+ * <p>
+ * For example, a lazily loaded file system tree could be created as such:
+ * <pre><code>
+ * class FileTreeItem extends LazyTreeItem&lt;File&gt; {
+ *     FileTreeItem(File file) {
+ *         super(file, (dir, offset, count) -&gt; {
+ *             List&lt;TreeItem&lt;File&gt;&gt; children = new ArrayList&lt;&gt;();
+ *             File[] files = dir.listFiles();
+ *             if (files != null) {
+ *                 for (File f : files) {
+ *                     children.add(f.isDirectory() ? new FileTreeItem(f) : new TreeItem&lt;&gt;(f));
+ *                 }
+ *             }
+ *             return children;
+ *         });
+ *     }
+ * }</code></pre>
+ * <p>
+ * The value of the placeholder is {@code null}, so cell factories and cell
+ * value factories should be prepared for a {@code null} value, and may use
+ * {@link #isPlaceholder(TreeItem)} to show the placeholder differently.
+ *
+ * @param <T> The type of the {@link #getValue() value} property within TreeItem.
+ * @since 18
+ */
+public class LazyTreeItem<T> extends TreeItem<T> {
+
+    /**
+     * Loads the children of a {@link LazyTreeItem}. This is called on a
+     * background thread, and must not access the scene graph.
+     *
+     * @param <T> The type of the value of the TreeItems
+     * @since 18
+     */
+    @FunctionalInterface
+    public interface ChildrenLoader<T> {
+        /**
+         * Loads some or all of the children of the TreeItem with the given value.
+         *
+         * @param value the value of the TreeItem whose children are loaded
+         * @param offset the index of the first child to load
+         * @param count the maximum number of children to load, which is
+         *      {@code Integer.MAX_VALUE} if the children are not loaded in pages
+         * @return the children, which are all loaded once fewer than
+         *      {@code count} are returned
+         * @throws Exception if the children could not be loaded
+         */
+        List<? extends TreeItem<T>> load(T value, int offset, int count) throws Exception;
+    }
+
+    /* *************************************************************************
+     *                                                                         *
+     * Static fields                                                           *
+     *                                                                         *
+     **************************************************************************/
+
+    private static final int THREAD_POOL_SIZE = 4;
+    private static final long THREAD_TIME_OUT = 1000;
+
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(
+            THREAD_POOL_SIZE, THREAD_POOL_SIZE,
+            THREAD_TIME_OUT, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), run -> {
+                final Thread th = new Thread(run, "LazyTreeItem Loader");
+                th.setPriority(Thread.MIN_PRIORITY);
+                th.setDaemon(true);
+                return th;
+            });
+
+    static {
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Returns whether the given TreeItem is the placeholder that a
+     * LazyTreeItem shows while it is loading its children.
+     *
+     * @param item the TreeItem to check, may be null
+     * @return true if the item is the placeholder of its parent
+     */
+    public static boolean isPlaceholder(TreeItem<?> item) {
+        return item != null && item.getParent() instanceof LazyTreeItem
+                && ((LazyTreeItem<?>) item.getParent()).placeholder == item;
+    }
+
+
+
+    /* *************************************************************************
+     *                                                                         *
+     * Constructors                                                            *
+     *                                                                         *
+     **************************************************************************/
+
+    /**
+     * Creates a LazyTreeItem with the value property set to the provided
+     * object, which loads its children with the given loader.
+     *
+     * @param value The object to be stored as the value of this TreeItem.
+     * @param loader The loader of the children of this TreeItem.
+     */
+    public LazyTreeItem(final T value, final ChildrenLoader<T> loader) {
+        this(value, null, loader);
+    }
+
+    /**
+     * Creates a LazyTreeItem with the value property set to the provided
+     * object, and the graphic set to the provided Node, which loads its
+     * children with the given loader.
+     *
+     * @param value The object to be stored as the value of this TreeItem.
+     * @param graphic The Node to show in the TreeView next to this TreeItem.
+     * @param loader The loader of the children of this TreeItem.
+     */
+    public LazyTreeItem(final T value, final Node graphic, final ChildrenLoader<T> loader) {
+        super(value, graphic);
+        if (loader == null) {
+            throw new NullPointerException("loader can not be null");
+        }
+        this.loader = loader;
+
+        expandedProperty().addListener((o, wasExpanded, isExpanded) -> {
+            if (isExpanded && !loaded && placeholder == null) {
+                startLoading();
+            }
+        });
+    }
+
+
+
+    /* *************************************************************************
+     *                                                                         *
+     * Instance Variables                                                      *
+     *                                                                         *
+     **************************************************************************/
+
+    private final ChildrenLoader<T> loader;
+
+    // true once all of the children have been loaded
+    private boolean loaded;
+
+    // the placeholder child shown while the children are loading, or null
+    private TreeItem<T> placeholder;
+
+    // incremented by reload() so that the results of a load that is still in
+    // progress are discarded when they arrive
+    private int generation;
+
+
+
+    /* *************************************************************************
+     *                                                                         *
+     * Properties                                                              *
+     *                                                                         *
+     **************************************************************************/
+
+    // --- Executor
+    private final ObjectProperty<Executor> executor = new SimpleObjectProperty<>(this, "executor");
+
+    /**
+     * The executor on which the {@link ChildrenLoader} is called. If it is
+     * {@code null}, a shared pool of daemon threads is used.
+     *
+     * @return the executor property
+     */
+    public final ObjectProperty<Executor> executorProperty() { return executor; }
+    public final void setExecutor(Executor value) { executor.set(value); }
+    public final Executor getExecutor() { return executor.get(); }
+
+
+    // --- Page Size
+    private final IntegerProperty pageSize = new SimpleIntegerProperty(this, "pageSize", 0);
+
+    /**
+     * The number of children requested from the {@link ChildrenLoader} at a
+     * time. If it is zero or less, which is the default, all of the children
+     * are loaded with a single call.
+     *
+     * @return the page size property
+     */
+    public final IntegerProperty pageSizeProperty() { return pageSize; }
+    public final void setPageSize(int value) { pageSize.set(value); }
+    public final int getPageSize() { return pageSize.get(); }
+
+
+    // --- Loading
+    private final ReadOnlyBooleanWrapper loading = new ReadOnlyBooleanWrapper(this, "loading");
+
+    /**
+     * Indicates whether the children of this TreeItem are being loaded.
+     *
+     * @return the loading property
+     */
+    public final ReadOnlyBooleanProperty loadingProperty() { return loading.getReadOnlyProperty(); }
+    public final boolean isLoading() { return loading.get(); }
+
+
+    // --- Exception
+    private final ReadOnlyObjectWrapper<Throwable> exception = new ReadOnlyObjectWrapper<>(this, "exception");
+
+    /**
+     * The exception thrown by the {@link ChildrenLoader} the last time the
+     * children of this TreeItem failed to load, or {@code null}. When loading
+     * fails, any children loaded so far are removed and the TreeItem is
+     * collapsed, so that expanding it again retries the load.
+     *
+     * @return the exception property
+     */
+    public final ReadOnlyObjectProperty<Throwable> exceptionProperty() { return exception.getReadOnlyProperty(); }
+    public final Throwable getException() { return exception.get(); }
+
+
+
+    /* *************************************************************************
+     *                                                                         *
+     * Public API                                                              *
+     *                                                                         *
+     **************************************************************************/
+
+    /**
+     * A LazyTreeItem is not a leaf until its children have been loaded and
+     * turned out to be empty, so that it can be expanded to load them.
+     *
+     * @return true if the children have been loaded and there are none
+     */
+    @Override public boolean isLeaf() {
+        return loaded && super.isLeaf();
+    }
+
+    /**
+     * Discards the children of this TreeItem, including any that are still
+     * being loaded, and loads them again if this TreeItem is expanded.
+     * Otherwise they are loaded the next time it is expanded.
+     */
+    public void reload() {
+        generation++;
+        loaded = false;
+        placeholder = null;
+        loading.set(false);
+        getChildren().clear();
+        if (isExpanded()) {
+            startLoading();
+        }
+    }
+
+    /**
+     * Creates the placeholder child shown while the children of this TreeItem
+     * are being loaded. By default, this is a TreeItem with a {@code null}
+     * value and a graphic saying that the children are loading.
+     *
+     * @return a new placeholder TreeItem
+     */
+    protected TreeItem<T> createPlaceholder() {
+        Label label = new Label(ControlResources.getString("TreeView.loading"));
+        label.getStyleClass().add("tree-loading-placeholder");
+        return new TreeItem<>(null, label);
+    }
+
+
+
+    /* *************************************************************************
+     *                                                                         *
+     * Private Implementation                                                  *
+     *                                                                         *
+     **************************************************************************/
+
+    private void startLoading() {
+        placeholder = createPlaceholder();
+        exception.set(null);
+        loading.set(true);
+        getChildren().add(placeholder);
+        loadPage(0, generation);
+    }
+
+    private void loadPage(final int offset, final int gen) {
+        final T value = getValue();
+        final int count = getPageSize() > 0 ? getPageSize() : Integer.MAX_VALUE;
+        final Executor e = getExecutor() != null ? getExecutor() : EXECUTOR;
+        e.execute(() -> {
+            List<? extends TreeItem<T>> page = null;
+            Throwable failure = null;
+            try {
+                page = loader.load(value, offset, count);
+            } catch (Throwable t) {
+                failure = t;
+            }
+            final List<? extends TreeItem<T>> result = page;
+            final Throwable error = failure;
+            Platform.runLater(() -> pageLoaded(gen, offset, count, result, error));
+        });
+    }
+
+    private void pageLoaded(int gen, int offset, int count, List<? extends TreeItem<T>> page, Throwable failure) {
+        // a reload has been requested since this page was requested
+        if (gen != generation) return;
+
+        final List<TreeItem<T>> children = getChildren();
+        if (failure != null) {
+            generation++;
+            placeholder = null;
+            children.clear();
+            exception.set(failure);
+            loading.set(false);
+            setExpanded(false);
+            return;
+        }
+
+        // the new children go before the placeholder, which stays at the end
+        // (or wherever a sort has moved it) until the last page has arrived
+        final int size = page == null ? 0 : page.size();
+        if (size > 0) {
+            int index = children.indexOf(placeholder);
+            children.addAll(index < 0 ? children.size() : index, page);
+        }
+
+        if (size >= count && count != Integer.MAX_VALUE) {
+            loadPage(offset + size, gen);
+        } else {
+            TreeItem<T> p = placeholder;
+            placeholder = null;
+            loaded = true;
+            children.remove(p);
+            loading.set(false);
+        }
+    }
+}
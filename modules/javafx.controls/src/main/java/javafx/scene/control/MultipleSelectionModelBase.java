@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -190,11 +190,6 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
         int selectedIndicesCardinality = selectedIndices.size(); // number of true bits
         if (selectedIndicesCardinality == 0) return;
 
-        int selectedIndicesSize = selectedIndices.bitsetSize();   // number of bits reserved
-
-        int[] perm = new int[selectedIndicesSize];
-        Arrays.fill(perm, -1);
-
         // sort the list so that we iterate from highest position to lowest position
         Collections.sort(shifts, (s1, s2) -> Integer.compare(s2.getKey(), s1.getKey()));
         final int lowestShiftPosition = shifts.get(shifts.size() - 1).getKey();
@@ -202,15 +197,16 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
         // make a copy of the selectedIndices before so we can compare to it afterwards
         BitSet selectedIndicesCopy = (BitSet) selectedIndices.bitset.clone();
 
+        // the number of selected indices moved so far across all shifts
+        int moved = 0;
+
         startAtomic();
         for (Pair<Integer, Integer> shift : shifts) {
-            doShift(shift, callback, perm);
+            moved += doShift(shift, callback, moved);
         }
         stopAtomic();
 
-        // strip out all useless -1 default values from the perm array
-        final int[] prunedPerm = Arrays.stream(perm).filter(value -> value > -1).toArray();
-        final boolean hasSelectionChanged = prunedPerm.length > 0;
+        final boolean hasSelectionChanged = moved > 0;
 
         // This ensure that the selection remains accurate when a shift occurs.
         final int selectedIndex = getSelectedIndex();
@@ -261,52 +257,58 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
         }
     }
 
-    private void doShift(Pair<Integer, Integer> shiftPair, final Callback<ShiftParams, Void> callback, int[] perm) {
+    // returns the number of selected indices that were moved by this shift
+    private int doShift(Pair<Integer, Integer> shiftPair, final Callback<ShiftParams, Void> callback, int moved) {
         final int position = shiftPair.getKey();
         final int shift = shiftPair.getValue();
 
         // with no check here, we get RT-15024
-        if (position < 0) return;
-        if (shift == 0) return;
+        if (position < 0) return 0;
+        if (shift == 0) return 0;
 
-        int idx = (int) Arrays.stream(perm).filter(value -> value > -1).count();
+        int idx = 0;
 
-        int selectedIndicesSize = selectedIndices.bitsetSize() - idx;   // number of bits reserved
+        int selectedIndicesSize = selectedIndices.bitsetSize() - moved;   // number of bits reserved
 
         if (shift > 0) {
-            for (int i = selectedIndicesSize - 1; i >= position && i >= 0; i--) {
-                boolean selected = selectedIndices.isSelected(i);
-
-                if (callback == null) {
-                    selectedIndices.clear(i);
-                    selectedIndices.set(i + shift, selected);
-                } else {
-                    callback.call(new ShiftParams(i, i + shift, selected));
+            if (callback == null) {
+                // move whole runs of selected indices at once, rather than
+                // walking every reserved bit one at a time
+                if (selectedIndicesSize > position) {
+                    idx = selectedIndices.shift(position, selectedIndicesSize, shift);
                 }
+            } else {
+                for (int i = selectedIndicesSize - 1; i >= position && i >= 0; i--) {
+                    boolean selected = selectedIndices.isSelected(i);
+                    callback.call(new ShiftParams(i, i + shift, selected));
 
-                if (selected) {
-                    perm[idx++] = i + 1;
+                    if (selected) {
+                        idx++;
+                    }
                 }
             }
             selectedIndices.clear(position);
         } else if (shift < 0) {
-            for (int i = position; i < selectedIndicesSize; i++) {
-                if ((i + shift) < 0) continue;
-                if ((i + 1 + shift) < position) continue;
-                boolean selected = selectedIndices.isSelected(i + 1);
-
-                if (callback == null) {
-                    selectedIndices.clear(i + 1);
-                    selectedIndices.set(i + 1 + shift, selected);
-                } else {
-                    callback.call(new ShiftParams(i + 1, i + 1 + shift, selected));
+            if (callback == null) {
+                // the first index that moves, as per the loop below
+                final int from = Math.max(1 - shift, position - shift);
+                if (from <= selectedIndicesSize) {
+                    idx = selectedIndices.shift(from, selectedIndicesSize + 1, shift);
                 }
+            } else {
+                for (int i = position; i < selectedIndicesSize; i++) {
+                    if ((i + shift) < 0) continue;
+                    if ((i + 1 + shift) < position) continue;
+                    boolean selected = selectedIndices.isSelected(i + 1);
+                    callback.call(new ShiftParams(i + 1, i + 1 + shift, selected));
 
-                if (selected) {
-                    perm[idx++] = i;
+                    if (selected) {
+                        idx++;
+                    }
                 }
             }
         }
+        return idx;
     }
 
     void startAtomic() {
@@ -674,29 +676,32 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
                 throw new IndexOutOfBoundsException(index + " >= " + itemCount);
             }
 
-            if (index == (lastGetIndex + 1) && lastGetValue < itemCount) {
-                // we're iterating forward in order, short circuit for
-                // performance reasons (RT-39776)
+            // walk to the requested index from whichever known position is
+            // closest: the first or last selected index, or the last one
+            // returned. Iterating in either direction is therefore cheap
+            // (RT-39776), as is asking for the most recently added index.
+            final int fromStart = index;
+            final int fromEnd = itemCount - 1 - index;
+            final int fromLast = lastGetIndex >= 0 ? Math.abs(index - lastGetIndex) : Integer.MAX_VALUE;
+            if (fromLast > fromStart || fromLast > fromEnd) {
+                if (fromStart <= fromEnd) {
+                    lastGetIndex = 0;
+                    lastGetValue = bitset.nextSetBit(0);
+                } else {
+                    lastGetIndex = itemCount - 1;
+                    lastGetValue = bitset.length() - 1;
+                }
+            }
+
+            while (lastGetIndex < index) {
                 lastGetIndex++;
                 lastGetValue = bitset.nextSetBit(lastGetValue + 1);
-                return lastGetValue;
-            } else if (index == (lastGetIndex - 1) && lastGetValue > 0) {
-                // we're iterating backward in order, short circuit for
-                // performance reasons (RT-39776)
+            }
+            while (lastGetIndex > index) {
                 lastGetIndex--;
                 lastGetValue = bitset.previousSetBit(lastGetValue - 1);
-                return lastGetValue;
-            } else {
-                for (lastGetIndex = 0, lastGetValue = bitset.nextSetBit(0);
-                     lastGetValue >= 0 || lastGetIndex == index;
-                     lastGetIndex++, lastGetValue = bitset.nextSetBit(lastGetValue + 1)) {
-                    if (lastGetIndex == index) {
-                        return lastGetValue;
-                    }
-                }
             }
-
-            return -1;
+            return lastGetValue;
         }
 
         public void set(int index) {
@@ -705,10 +710,12 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
             }
 
             _beginChange();
-            size = -1;
+            invalidate(size < 0 ? -1 : size + 1);
             bitset.set(index);
-            int indicesIndex = indexOf(index);
-            _nextAdd(indicesIndex, indicesIndex + 1);
+            if (!isAtomic()) {
+                int indicesIndex = indexOf(index);
+                _nextAdd(indicesIndex, indicesIndex + 1);
+            }
             _endChange();
         }
 
@@ -726,10 +733,10 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
 
         public void set(int index, int end, boolean isSet) {
             _beginChange();
-            size = -1;
+            invalidate(-1);
             if (isSet) {
                 bitset.set(index, end, isSet);
-                int indicesIndex = indexOf(index);
+                int indicesIndex = isAtomic() ? 0 : indexOf(index);
                 int span = end - index;
                 _nextAdd(indicesIndex, indicesIndex + span);
             } else {
@@ -804,7 +811,7 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
         public void clear() {
             _beginChange();
             List<Integer> removed = bitset.stream().boxed().collect(Collectors.toList());
-            size = 0;
+            invalidate(0);
             bitset.clear();
             _nextRemove(0, removed);
             _endChange();
@@ -813,14 +820,40 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
         public void clear(int index) {
             if (!bitset.get(index)) return;
 
-            int indicesIndex = indexOf(index);
+            int indicesIndex = isAtomic() ? -1 : indexOf(index);
             _beginChange();
-            size = -1;
+            invalidate(size < 0 ? -1 : size - 1);
             bitset.clear(index);
             _nextRemove(indicesIndex, index);
             _endChange();
         }
 
+        /**
+         * Moves all indices in the range [from, to) by the given shift, as one
+         * bulk operation over contiguous runs of selected indices. Indices that
+         * move to or beyond the item count are dropped. No change event is fired.
+         * @return the number of selected indices that were moved
+         */
+        int shift(int from, int to, int shift) {
+            BitSet moved = bitset.get(from, to);
+            invalidate(-1);
+            bitset.clear(from, to);
+            bitset.clear(Math.max(0, from + shift), to + shift);
+            if (moved.isEmpty()) {
+                return 0;
+            }
+
+            final int limit = getItemCount();
+            for (int start = moved.nextSetBit(0); start >= 0; start = moved.nextSetBit(start)) {
+                int end = moved.nextClearBit(start);
+                int target = from + start + shift;
+                if (target >= limit) break;
+                bitset.set(target, Math.min(from + end + shift, limit));
+                start = end;
+            }
+            return moved.cardinality();
+        }
+
         public boolean isSelected(int index) {
             return bitset.get(index);
         }
@@ -853,30 +886,19 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
                 return -1;
             }
 
-            // is left most bit
-            if (index == 0) {
-                return 0;
-            }
-
-            // is right most bit
+            // the position of a selected index is the number of selected
+            // indices below it. When asked in ascending order (as when change
+            // events are built) we only need to count from the last answer.
+            int count;
             if (index == bitset.length() - 1) {
-                return size() - 1;
-            }
-
-            // count right bit
-            if (index > bitset.length() / 2) {
-                int count = 1;
-                for (int i = bitset.nextSetBit(index+1); i >= 0; i = bitset.nextSetBit(i+1)) {
-                    count++;
-                }
-                return size() - count;
-            }
-
-            // count left bit
-            int count = 0;
-            for (int i = bitset.previousSetBit(index-1);  i >= 0; i = bitset.previousSetBit(i-1)) {
-                count++;
+                count = size() - 1;
+            } else if (lastGetIndex >= 0 && lastGetValue >= 0 && index >= lastGetValue) {
+                count = lastGetIndex + bitset.get(lastGetValue, index).cardinality();
+            } else {
+                count = bitset.get(0, index).cardinality();
             }
+            lastGetIndex = count;
+            lastGetValue = index;
             return count;
         }
 
@@ -897,6 +919,12 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
             this.lastGetValue = -1;
         }
 
+        // called whenever the bitset changes, with the new size if known or -1
+        private void invalidate(int newSize) {
+            size = newSize;
+            reset();
+        }
+
         @Override public void _beginChange() {
             if (!isAtomic()) {
                 super._beginChange();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,6 +27,7 @@ package javafx.scene.control;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -35,6 +36,11 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.IntPredicate;
 
 import com.sun.javafx.logging.PlatformLogger.Level;
@@ -44,6 +50,7 @@ import com.sun.javafx.scene.control.SelectedCellsMap;
 import com.sun.javafx.scene.control.behavior.TableCellBehavior;
 import com.sun.javafx.scene.control.behavior.TableCellBehaviorBase;
 
+import javafx.application.Platform;
 import javafx.beans.*;
 import javafx.beans.Observable;
 import javafx.beans.property.BooleanProperty;
@@ -51,6 +58,8 @@ import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ObjectPropertyBase;
 import javafx.beans.property.Property;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.property.SimpleBooleanProperty;
@@ -76,6 +85,7 @@ import javafx.util.Callback;
 
 import com.sun.javafx.collections.MappingChange;
 import com.sun.javafx.collections.NonIterableChange;
+import com.sun.javafx.collections.SortableList;
 import javafx.css.converter.SizeConverter;
 import com.sun.javafx.scene.control.ReadOnlyUnbackedObservableList;
 import com.sun.javafx.scene.control.TableColumnComparatorBase.TableColumnComparator;
@@ -494,6 +504,31 @@ public class TableView<S> extends Control {
         }
     };
 
+    /**
+     * A {@link #sortPolicyProperty() sort policy} that sorts the items on a
+     * background thread, so that sorting very large tables does not block the
+     * JavaFX Application Thread. The values of the sorted columns are read on
+     * the JavaFX Application Thread, after which they are sorted in parallel
+     * using the {@link TableColumn#comparatorProperty() comparators} of the
+     * columns, which must therefore be safe to call from any thread. Once
+     * sorted, the items are reordered with a single permutation change.
+     *
+     * <p>While the items are being sorted, the {@link #sortingProperty() sorting}
+     * property is true. Sorting again, for example because the user clicked on
+     * another column header, cancels the sort in progress, and if the items are
+     * modified before the sort completes the table is sorted again.
+     *
+     * <p>Items lists that can not be sorted in the background, such as a
+     * {@link SortedList}, are sorted as by the {@link #DEFAULT_SORT_POLICY default
+     * sort policy}.
+     * @since 18
+     */
+    public static final Callback<TableView, Boolean> ASYNC_SORT_POLICY = new Callback<TableView, Boolean>() {
+        @Override public Boolean call(TableView table) {
+            return table.sortInBackground();
+        }
+    };
+
 
 
     /* *************************************************************************
@@ -853,6 +888,10 @@ public class TableView<S> extends Control {
                     return;
                 }
 
+                // a background sort of the old items must not be applied to
+                // the new items
+                cancelBackgroundSort();
+
                 // Fix for RT-35763
                 if (! (newItems instanceof SortedList)) {
                     getSortOrder().clear();
@@ -1264,6 +1303,38 @@ public class TableView<S> extends Control {
     }
 
 
+    // --- Sorting
+    private ReadOnlyBooleanWrapper sorting;
+    private void setSorting(boolean value) {
+        sortingPropertyImpl().set(value);
+    }
+    public final boolean isSorting() {
+        return sorting == null ? false : sorting.get();
+    }
+
+    /**
+     * Indicates whether the items are being sorted in the background, as done
+     * by the {@link #ASYNC_SORT_POLICY asynchronous sort policy}. Whilst this
+     * is true, the TableView has the {@code sorting} pseudo-class.
+     * @return the sorting property
+     * @since 18
+     */
+    public final ReadOnlyBooleanProperty sortingProperty() {
+        return sortingPropertyImpl().getReadOnlyProperty();
+    }
+
+    private ReadOnlyBooleanWrapper sortingPropertyImpl() {
+        if (sorting == null) {
+            sorting = new ReadOnlyBooleanWrapper(this, "sorting") {
+                @Override protected void invalidated() {
+                    pseudoClassStateChanged(PSEUDO_CLASS_SORTING, get());
+                }
+            };
+        }
+        return sorting;
+    }
+
+
     // onSort
     /**
      * Called when there's a request to sort the control.
@@ -1547,6 +1618,9 @@ public class TableView<S> extends Control {
      * @since JavaFX 8.0
      */
     public void sort() {
+        // a sort still running in the background is superseded by this one
+        cancelBackgroundSort();
+
         final ObservableList<? extends TableColumnBase<S,?>> sortOrder = getSortOrder();
 
         // update the Comparator property
@@ -1652,6 +1726,12 @@ public class TableView<S> extends Control {
     private TableUtil.SortEventType lastSortEventType = null;
     private Object[] lastSortEventSupportInfo = null;
 
+    // the sort started by ASYNC_SORT_POLICY that is still running, if any
+    private BackgroundSort<S> backgroundSort;
+
+    // the executor that ASYNC_SORT_POLICY sorts on
+    static Executor sortExecutor = BackgroundSort.EXECUTOR;
+
     private void doSort(final TableUtil.SortEventType sortEventType, final Object... supportInfo) {
         if (sortLock) {
             return;
@@ -1664,6 +1744,191 @@ public class TableView<S> extends Control {
         this.lastSortEventSupportInfo = null;
     }
 
+    private boolean sortInBackground() {
+        ObservableList<S> items = getItems();
+        Comparator<S> comparator = getComparator();
+        if (! (items instanceof SortableList) || ! (comparator instanceof TableColumnComparator)) {
+            // this includes SortedList, which sorts itself
+            return DEFAULT_SORT_POLICY.call(this);
+        }
+        if (items.isEmpty()) {
+            return true;
+        }
+
+        backgroundSort = new BackgroundSort<>(this, items, (TableColumnComparator<S,?>) comparator);
+        setSorting(true);
+        sortExecutor.execute(backgroundSort);
+        return true;
+    }
+
+    private void cancelBackgroundSort() {
+        if (backgroundSort != null) {
+            backgroundSort.cancel();
+            backgroundSort = null;
+            setSorting(false);
+        }
+    }
+
+    // backs out the change that started a background sort that failed, as
+    // sort() does when the sort policy fails
+    private void handleBackgroundSortFailure(List<TableColumn<S,?>> previousSortOrder,
+            TableUtil.SortEventType sortEventType, Object[] supportInfo) {
+        sortLock = true;
+        if (sortEventType == TableUtil.SortEventType.SORT_ORDER_CHANGE) {
+            getSortOrder().setAll(previousSortOrder);
+        } else {
+            TableUtil.handleSortFailure(getSortOrder(), sortEventType, supportInfo);
+        }
+        setComparator(getSortOrder().isEmpty() ? null : new TableColumnComparator(getSortOrder()));
+        sortLock = false;
+    }
+
+    /**
+     * A sort of the items of a TableView that runs on a background thread, as
+     * started by ASYNC_SORT_POLICY.
+     */
+    private static final class BackgroundSort<S> implements Runnable {
+
+        private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(
+                1, 1, 1000, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), run -> {
+                    final Thread th = new Thread(run, "TableView Sorter");
+                    th.setDaemon(true);
+                    return th;
+                });
+
+        static {
+            EXECUTOR.allowCoreThreadTimeOut(true);
+        }
+
+        private final TableView<S> table;
+        private final ObservableList<S> items;
+        private final Row[] rows;
+        private final Comparator<Object>[] comparators;
+        private final boolean[] descending;
+
+        // the change that started this sort, to back it out if the sort fails
+        private final TableUtil.SortEventType sortEventType;
+        private final Object[] supportInfo;
+        private final List<TableColumn<S,?>> previousSortOrder;
+
+        private volatile boolean cancelled;
+        private boolean itemsChanged;
+        private final InvalidationListener itemsListener = o -> itemsChanged = true;
+
+        @SuppressWarnings("unchecked")
+        BackgroundSort(TableView<S> table, ObservableList<S> items, TableColumnComparator<S,?> comparator) {
+            this.table = table;
+            this.items = items;
+
+            List<TableColumn<S,Object>> columns = new ArrayList<>();
+            for (TableColumnBase<S,?> column : comparator.getColumns()) {
+                if (comparator.isSortable((TableColumnBase) column)) {
+                    columns.add((TableColumn<S,Object>) column);
+                }
+            }
+            comparators = new Comparator[columns.size()];
+            descending = new boolean[columns.size()];
+            for (int i = 0; i < comparators.length; i++) {
+                comparators[i] = columns.get(i).getComparator();
+                descending[i] = columns.get(i).getSortType() == TableColumn.SortType.DESCENDING;
+            }
+
+            // the cell values are read here, on the FX thread, as it is not
+            // safe to call the cell value factories on any other thread
+            rows = new Row[items.size()];
+            for (int i = 0; i < rows.length; i++) {
+                S item = items.get(i);
+                Object[] values = new Object[comparators.length];
+                for (int j = 0; j < values.length; j++) {
+                    values[j] = columns.get(j).getCellData(item);
+                }
+                rows[i] = new Row(i, values);
+            }
+
+            // the sort runs after the change that started it has been handled,
+            // so the sort order it replaced is worked out now
+            sortEventType = table.lastSortEventType;
+            supportInfo = table.lastSortEventSupportInfo;
+            if (sortEventType == TableUtil.SortEventType.SORT_ORDER_CHANGE) {
+                ObservableList<TableColumn<S,?>> sortOrder = FXCollections.observableArrayList(table.getSortOrder());
+                TableUtil.handleSortFailure(sortOrder, sortEventType, supportInfo);
+                previousSortOrder = sortOrder;
+            } else {
+                previousSortOrder = null;
+            }
+
+            items.addListener(itemsListener);
+        }
+
+        void cancel() {
+            cancelled = true;
+            items.removeListener(itemsListener);
+        }
+
+        @Override public void run() {
+            int[] perm = null;
+            try {
+                Arrays.parallelSort(rows, this::compare);
+                perm = new int[rows.length];
+                for (int i = 0; i < rows.length; i++) {
+                    perm[rows[i].index] = i;
+                }
+            } catch (CancellationException e) {
+                return;
+            } catch (RuntimeException e) {
+                // the comparators could not compare the values, which fails
+                // the sort like in the default sort policy
+                Logging.getControlsLogger().warning("Sorting TableView items failed", e);
+            }
+            final int[] result = perm;
+            Platform.runLater(() -> finish(result));
+        }
+
+        private int compare(Row row1, Row row2) {
+            if (cancelled) {
+                throw new CancellationException();
+            }
+            for (int i = 0; i < comparators.length; i++) {
+                int result = descending[i] ?
+                        comparators[i].compare(row2.values[i], row1.values[i]) :
+                        comparators[i].compare(row1.values[i], row2.values[i]);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        }
+
+        private void finish(int[] perm) {
+            if (cancelled) {
+                return;
+            }
+            table.cancelBackgroundSort();
+
+            if (itemsChanged) {
+                // the sorted rows no longer match the items, so we start again
+                if (table.getItems() == items) {
+                    table.sort();
+                }
+            } else if (perm == null) {
+                table.handleBackgroundSortFailure(previousSortOrder, sortEventType, supportInfo);
+            } else if (table.getItems() == items) {
+                ((SortableList<S>) items).permute(perm);
+            }
+        }
+
+        private static final class Row {
+            final int index;
+            final Object[] values;
+
+            Row(int index, Object[] values) {
+                this.index = index;
+                this.values = values;
+            }
+        }
+    }
+
 
     // --- Content width
     private void setContentWidth(double contentWidth) {
@@ -1723,6 +1988,8 @@ public class TableView<S> extends Control {
             PseudoClass.getPseudoClass("cell-selection");
     private static final PseudoClass PSEUDO_CLASS_ROW_SELECTION =
             PseudoClass.getPseudoClass("row-selection");
+    private static final PseudoClass PSEUDO_CLASS_SORTING =
+            PseudoClass.getPseudoClass("sorting");
 
     private static class StyleableProperties {
         private static final CssMetaData<TableView<?>,Number> FIXED_CELL_SIZE =
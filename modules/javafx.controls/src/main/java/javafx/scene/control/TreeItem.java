@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,6 +26,8 @@
 package javafx.scene.control;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 
@@ -366,6 +368,20 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
         new EventHandler<TreeModificationEvent<Object>>() {
             @Override public void handle(TreeModificationEvent<Object> event) {
                 expandedDescendentCountDirty = true;
+
+                // The event bubbles up from the TreeItem it was fired on, so
+                // the child of this TreeItem that it came through is the last
+                // TreeItem that handled it. Only the entry of that child in
+                // the row index needs to be updated.
+                TreeItem<?> child = event.lastHandler;
+                event.lastHandler = TreeItem.this;
+                if (child != null && child.getParent() == TreeItem.this) {
+                    markChildRowsDirty(child);
+                } else if (child != null || event.getTreeItem() != TreeItem.this) {
+                    // the handler of some TreeItem on the way was not run, so
+                    // the row index cannot be updated in place
+                    childRowTreeDirty = true;
+                }
             }
     };
 
@@ -404,6 +420,23 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
     // when all children are collapsed.
     int previousExpandedDescendentCount = 1;
 
+    // A Fenwick (binary indexed) tree over the number of rows shown for each
+    // child, so that TreeView and TreeTableView can map between rows and
+    // children in logarithmic time rather than by walking the siblings. It is
+    // rebuilt when the children change, and otherwise updated in place for
+    // the children whose expanded descendent count has changed, which are
+    // recorded in dirtyChildRows as the modification events bubble up.
+    private int[] childRowTree;
+    private int[] childRowCounts;
+    private int childRowTotal;
+    private boolean childRowTreeDirty = true;
+    private BitSet dirtyChildRows;
+
+    // The position of this TreeItem in the children of its parent when the
+    // parent last rebuilt its row index. This is only a hint, and must be
+    // checked against the children list before it is used.
+    private int indexInParent = -1;
+
     Comparator<TreeItem<T>> lastComparator = null;
     TreeSortMode lastSortMode = null;
 
@@ -422,6 +455,7 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
     // called whenever the contents of the children sequence changes
     private ListChangeListener<TreeItem<T>> childrenListener = c -> {
         expandedDescendentCountDirty = true;
+        childRowTreeDirty = true;
         updateChildren(c);
     };
 
@@ -912,14 +946,149 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
 
         ignoreSortUpdate = true;
         if (!isLeaf() && isExpanded()) {
-            for (TreeItem<T> child : getChildren()) {
-                if (child == null) continue;
-                expandedDescendentCount += child.isExpanded() ? child.getExpandedDescendentCount(reset) : 1;
+            if (reset || childRowTreeDirty || childRowTree == null) {
+                buildChildRowTree(reset);
+            } else {
+                updateChildRowTree();
             }
+            expandedDescendentCount += childRowTotal;
         }
         ignoreSortUpdate = false;
     }
 
+    private static int getRowCount(TreeItem<?> child, boolean reset) {
+        if (child == null) return 0;
+        return child.isExpanded() ? child.getExpandedDescendentCount(reset) : 1;
+    }
+
+    private void buildChildRowTree(boolean reset) {
+        // getChildren() may populate the children lazily, so call it before
+        // the row index is marked as clean
+        final List<TreeItem<T>> children = getChildren();
+        childRowTreeDirty = false;
+        if (dirtyChildRows != null) {
+            dirtyChildRows.clear();
+        }
+
+        final int size = children.size();
+        if (childRowTree == null || childRowTree.length != size + 1) {
+            childRowTree = new int[size + 1];
+            childRowCounts = new int[size];
+        } else {
+            Arrays.fill(childRowTree, 0);
+        }
+
+        // linear time construction: each node passes its total on to its
+        // parent in the Fenwick tree once all of its own entries are in
+        childRowTotal = 0;
+        for (int i = 0; i < size; i++) {
+            TreeItem<T> child = children.get(i);
+            if (child != null) {
+                child.indexInParent = i;
+            }
+            int count = getRowCount(child, reset);
+            childRowCounts[i] = count;
+            childRowTotal += count;
+
+            int node = i + 1;
+            childRowTree[node] += count;
+            int next = node + (node & -node);
+            if (next <= size) {
+                childRowTree[next] += childRowTree[node];
+            }
+        }
+    }
+
+    private void updateChildRowTree() {
+        if (dirtyChildRows == null || dirtyChildRows.isEmpty()) return;
+
+        // the dirty children are only recorded while the children list is
+        // the one the row index was built from, so there is no need to go
+        // through getChildren() here
+        for (int i = dirtyChildRows.nextSetBit(0); i >= 0 && !childRowTreeDirty; i = dirtyChildRows.nextSetBit(i + 1)) {
+            int count = getRowCount(children.get(i), false);
+            int delta = count - childRowCounts[i];
+            if (delta != 0) {
+                childRowCounts[i] = count;
+                childRowTotal += delta;
+                for (int node = i + 1; node < childRowTree.length; node += node & -node) {
+                    childRowTree[node] += delta;
+                }
+            }
+        }
+        dirtyChildRows.clear();
+    }
+
+    private void markChildRowsDirty(TreeItem<?> child) {
+        if (childRowTreeDirty || childRowTree == null) return;
+
+        int index = child.indexInParent;
+        if (children == null || index < 0 || index >= childRowCounts.length
+                || index >= children.size() || children.get(index) != child) {
+            childRowTreeDirty = true;
+            return;
+        }
+        if (dirtyChildRows == null) {
+            dirtyChildRows = new BitSet();
+        }
+        dirtyChildRows.set(index);
+    }
+
+    // The row index is only valid while this TreeItem is expanded and its
+    // expanded descendent count is up to date, so callers should call
+    // getExpandedDescendentCount before using the methods below.
+    private void ensureChildRowTree() {
+        ignoreSortUpdate = true;
+        if (childRowTree == null || childRowTreeDirty) {
+            buildChildRowTree(false);
+        } else {
+            updateChildRowTree();
+        }
+        ignoreSortUpdate = false;
+    }
+
+    // Returns true if the row index can be used without a call to getChildren(),
+    // which some TreeItem implementations use to load their children lazily
+    boolean isChildRowIndexValid() {
+        return childRowTree != null && !childRowTreeDirty;
+    }
+
+    // Returns the number of rows shown for the children before the given index
+    int getChildRowOffset(int index) {
+        ensureChildRowTree();
+        int row = 0;
+        for (int node = index; node > 0; node -= node & -node) {
+            row += childRowTree[node];
+        }
+        return row;
+    }
+
+    // Returns the index of the child whose rows include the given row, counted
+    // from the first row after this TreeItem, or the number of children if the
+    // row is beyond the last child
+    int getChildIndexForRow(int row) {
+        ensureChildRowTree();
+        final int size = childRowTree.length - 1;
+        int index = 0;
+        for (int bit = Integer.highestOneBit(size); bit != 0; bit >>= 1) {
+            int node = index + bit;
+            if (node <= size && childRowTree[node] <= row) {
+                index = node;
+                row -= childRowTree[node];
+            }
+        }
+        return index;
+    }
+
+    // Returns the index of the given TreeItem in the children of this TreeItem
+    int getChildIndex(TreeItem<T> child) {
+        int index = child.indexInParent;
+        if (children != null && index >= 0 && index < children.size() && children.get(index) == child) {
+            return index;
+        }
+        return children == null ? -1 : children.indexOf(child);
+    }
+
     private void updateChildren(ListChangeListener.Change<? extends TreeItem<T>> c) {
         setLeaf(children.isEmpty());
 
@@ -1005,6 +1174,10 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
         private final boolean wasCollapsed;
         private boolean wasPermutated;
 
+        // The last TreeItem whose row index handler has seen this event as it
+        // bubbles up the tree
+        private transient TreeItem<?> lastHandler;
+
         /**
          * Constructs a basic TreeModificationEvent - this is useful in situations
          * where the tree item has not received a new value, has not changed
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -616,6 +616,12 @@ public class TreeTableView<S> extends Control {
     // be recalculated.
     private boolean expandedItemCountDirty = true;
 
+    // Set when the root is replaced or the view is refreshed, to recount the
+    // expanded items of the whole tree rather than only the parts of it that
+    // fired modification events. This picks up TreeItems that change their
+    // children without firing any events.
+    private boolean expandedItemCountReset = true;
+
     // Used in the getTreeItem(int row) method to act as a cache.
     // See RT-26716 for the justification and performance gains.
     private Map<Integer, SoftReference<TreeItem<S>>> treeItemCacheMap = new HashMap<>();
@@ -924,6 +930,7 @@ public class TreeTableView<S> extends Control {
             getSortOrder().clear();
 
             expandedItemCountDirty = true;
+            expandedItemCountReset = true;
             updateRootExpanded();
         }
     };
@@ -1647,7 +1654,7 @@ public class TreeTableView<S> extends Control {
      *      collapsed).
      */
     public int getRow(TreeItem<S> item) {
-        return TreeUtil.getRow(item, getRoot(), expandedItemCountDirty, isShowRoot());
+        return TreeUtil.getRow(item, getRoot(), isShowRoot());
     }
 
     /**
@@ -1674,7 +1681,7 @@ public class TreeTableView<S> extends Control {
             }
         }
 
-        TreeItem<S> treeItem = TreeUtil.getItem(getRoot(), _row, expandedItemCountDirty);
+        TreeItem<S> treeItem = TreeUtil.getItem(getRoot(), _row);
         treeItemCacheMap.put(_row, new SoftReference<>(treeItem));
         return treeItem;
     }
@@ -1946,6 +1953,8 @@ public class TreeTableView<S> extends Control {
      * @since JavaFX 8u60
      */
     public void refresh() {
+        expandedItemCountDirty = true;
+        expandedItemCountReset = true;
         getProperties().put(Properties.RECREATE, Boolean.TRUE);
     }
 
@@ -1974,7 +1983,7 @@ public class TreeTableView<S> extends Control {
     }
 
     private void updateExpandedItemCount(TreeItem<S> treeItem) {
-        setExpandedItemCount(TreeUtil.updateExpandedItemCount(treeItem, expandedItemCountDirty, isShowRoot()));
+        setExpandedItemCount(TreeUtil.updateExpandedItemCount(treeItem, expandedItemCountReset, isShowRoot()));
 
         if (expandedItemCountDirty) {
             // this is a very inefficient thing to do, but for now having a cache
@@ -1983,6 +1992,7 @@ public class TreeTableView<S> extends Control {
         }
 
         expandedItemCountDirty = false;
+        expandedItemCountReset = false;
     }
 
     private void updateRootExpanded() {
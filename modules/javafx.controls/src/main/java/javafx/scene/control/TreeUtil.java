@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -33,67 +33,55 @@ import java.util.List;
  */
 class TreeUtil {
 
-    static <T> int getExpandedDescendantCount(TreeItem<T> node, boolean treeItemCountDirty) {
+    // The expanded descendant counts and the row index of each TreeItem are
+    // kept up to date by the modification events that every TreeItem fires up
+    // the tree, so that only the parts of the tree that have changed are
+    // recounted. A reset recounts the whole expanded tree.
+    static <T> int getExpandedDescendantCount(TreeItem<T> node, boolean reset) {
         if (node == null) return 0;
         if (node.isLeaf()) return 1;
 
-        return node.getExpandedDescendentCount(treeItemCountDirty);
+        return node.getExpandedDescendentCount(reset);
     }
 
-    static int updateExpandedItemCount(TreeItem treeItem, boolean treeItemCountDirty, boolean isShowRoot) {
+    static int updateExpandedItemCount(TreeItem treeItem, boolean reset, boolean isShowRoot) {
         if (treeItem == null) {
             return 0;
         } else if (! treeItem.isExpanded()) {
             return 1;
         } else {
-            int count = getExpandedDescendantCount(treeItem, treeItemCountDirty);
+            int count = getExpandedDescendantCount(treeItem, reset);
             if (! isShowRoot) count--;
 
             return count;
         }
     }
 
-    static <T> TreeItem<T> getItem(TreeItem<T> parent, int itemIndex, boolean treeItemCountDirty) {
+    static <T> TreeItem<T> getItem(TreeItem<T> parent, int itemIndex) {
         if (parent == null) return null;
 
         // if itemIndex is 0 then our parent is what we were looking for
         if (itemIndex == 0) return parent;
 
         // if itemIndex is > the total item count, then it is out of range
-        if (itemIndex >= getExpandedDescendantCount(parent, treeItemCountDirty)) return null;
+        if (itemIndex >= getExpandedDescendantCount(parent, false)) return null;
 
-        // if we got here, then one of our descendants is the item we're after
+        // if we got here, then one of our descendants is the item we're after.
+        // The row index of the parent finds the child containing it directly.
         List<TreeItem<T>> children = parent.getChildren();
         if (children == null) return null;
 
         int idx = itemIndex - 1;
-
-        TreeItem<T> child;
-        for (int i = 0, max = children.size(); i < max; i++) {
-            child = children.get(i);
-            if (idx == 0) return child;
-
-            if (child.isLeaf() || ! child.isExpanded()) {
-                idx--;
-                continue;
-            }
-
-            int expandedChildCount = getExpandedDescendantCount(child, treeItemCountDirty);
-            if (idx >= expandedChildCount) {
-                idx -= expandedChildCount;
-                continue;
-            }
-
-            TreeItem<T> result = getItem(child, idx, treeItemCountDirty);
-            if (result != null) return result;
-            idx--;
-        }
+        int childIndex = parent.getChildIndexForRow(idx);
 
         // We might get here if getItem(0) is called on an empty tree
-        return null;
+        if (childIndex >= children.size()) return null;
+
+        TreeItem<T> child = children.get(childIndex);
+        return getItem(child, idx - parent.getChildRowOffset(childIndex));
     }
 
-    static <T> int getRow(TreeItem<T> item, TreeItem<T> root, boolean treeItemCountDirty, boolean isShowRoot) {
+    static <T> int getRow(TreeItem<T> item, TreeItem<T> root, boolean isShowRoot) {
         if (item == null) {
             return -1;
         } else if (isShowRoot && item.equals(root)) {
@@ -104,8 +92,6 @@ class TreeUtil {
         TreeItem<T> i = item;
         TreeItem<T> p = item.getParent();
 
-        TreeItem<T> sibling;
-        List<TreeItem<T>> siblings;
         boolean parentIsCollapsed = false;
 
         while (!i.equals(root) && p != null) {
@@ -114,24 +100,45 @@ class TreeUtil {
                 break;
             }
 
-            siblings = p.children;
-
-            // work up each sibling, from the current item
-            int itemIndex = siblings.indexOf(i);
-            for (int pos = itemIndex - 1; pos > -1; pos--) {
-                sibling = siblings.get(pos);
-                if (sibling == null) continue;
-
-                row += getExpandedDescendantCount(sibling, treeItemCountDirty);
+            if (p.isChildRowIndexValid()) {
+                int itemIndex = p.getChildIndex(i);
+                if (itemIndex > 0) {
+                    if (root != null && root.getParent() == p) {
+                        int rootIndex = p.getChildIndex(root);
+                        if (rootIndex >= 0 && rootIndex < itemIndex) {
+                            if (! isShowRoot) {
+                                // special case: we've found out that our sibling is
+                                // actually the root node AND we aren't showing root nodes.
+                                // This means that the item shouldn't actually be shown.
+                                return -1;
+                            }
+                            return row + p.getChildRowOffset(itemIndex) - p.getChildRowOffset(rootIndex);
+                        }
+                    }
 
-                if (sibling.equals(root)) {
-                    if (! isShowRoot) {
-                        // special case: we've found out that our sibling is
-                        // actually the root node AND we aren't showing root nodes.
-                        // This means that the item shouldn't actually be shown.
-                        return -1;
+                    // add the rows of all siblings before the current item
+                    row += p.getChildRowOffset(itemIndex);
+                }
+            } else {
+                // the children of the parent have changed since its row index
+                // was built, so work up each sibling, from the current item
+                List<TreeItem<T>> siblings = p.children;
+                int itemIndex = siblings.indexOf(i);
+                for (int pos = itemIndex - 1; pos > -1; pos--) {
+                    TreeItem<T> sibling = siblings.get(pos);
+                    if (sibling == null) continue;
+
+                    row += getExpandedDescendantCount(sibling, false);
+
+                    if (sibling.equals(root)) {
+                        if (! isShowRoot) {
+                            // special case: we've found out that our sibling is
+                            // actually the root node AND we aren't showing root nodes.
+                            // This means that the item shouldn't actually be shown.
+                            return -1;
+                        }
+                        return row;
                     }
-                    return row;
                 }
             }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2008, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2008, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -353,6 +353,12 @@ public class TreeView<T> extends Control {
     // be recalculated.
     private boolean expandedItemCountDirty = true;
 
+    // Set when the root is replaced or the view is refreshed, to recount the
+    // expanded items of the whole tree rather than only the parts of it that
+    // fired modification events. This picks up TreeItems that change their
+    // children without firing any events.
+    private boolean expandedItemCountReset = true;
+
     // Used in the getTreeItem(int row) method to act as a cache.
     // See RT-26716 for the justification and performance gains.
     private Map<Integer, SoftReference<TreeItem<T>>> treeItemCacheMap = new HashMap<>();
@@ -462,6 +468,7 @@ public class TreeView<T> extends Control {
             edit(null);
 
             expandedItemCountDirty = true;
+            expandedItemCountReset = true;
             updateRootExpanded();
         }
     };
@@ -984,7 +991,7 @@ public class TreeView<T> extends Control {
      *      collapsed).
      */
     public int getRow(TreeItem<T> item) {
-        return TreeUtil.getRow(item, getRoot(), expandedItemCountDirty, isShowRoot());
+        return TreeUtil.getRow(item, getRoot(), isShowRoot());
     }
 
     /**
@@ -1011,7 +1018,7 @@ public class TreeView<T> extends Control {
             }
         }
 
-        TreeItem<T> treeItem = TreeUtil.getItem(getRoot(), _row, expandedItemCountDirty);
+        TreeItem<T> treeItem = TreeUtil.getItem(getRoot(), _row);
         treeItemCacheMap.put(_row, new SoftReference<>(treeItem));
         return treeItem;
     }
@@ -1063,6 +1070,8 @@ public class TreeView<T> extends Control {
      * @since JavaFX 8u60
      */
     public void refresh() {
+        expandedItemCountDirty = true;
+        expandedItemCountReset = true;
         getProperties().put(Properties.RECREATE, Boolean.TRUE);
     }
 
@@ -1075,7 +1084,7 @@ public class TreeView<T> extends Control {
      **************************************************************************/
 
     private void updateExpandedItemCount(TreeItem<T> treeItem) {
-        setExpandedItemCount(TreeUtil.updateExpandedItemCount(treeItem, expandedItemCountDirty, isShowRoot()));
+        setExpandedItemCount(TreeUtil.updateExpandedItemCount(treeItem, expandedItemCountReset, isShowRoot()));
 
         if (expandedItemCountDirty) {
             // this is a very inefficient thing to do, but for now having a cache
@@ -1084,6 +1093,7 @@ public class TreeView<T> extends Control {
         }
 
         expandedItemCountDirty = false;
+        expandedItemCountReset = false;
     }
 
     private void updateRootExpanded() {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -116,7 +116,10 @@ public abstract class TableRowSkinBase<T,
      * This is recreated whenever the leaf columns change, however to increase
      * efficiency we create cells for all columns, even if they aren't visible,
      * and we only create new cells if we don't already have it cached in this
-     * map.
+     * map. The exception is when a fixed cell size is set: then cells are only
+     * created for the columns within the horizontal viewport, and a cell that
+     * scrolls out of view stays in this map so it can be reused when its
+     * column scrolls back in.
      *
      * Note that this means that it is possible for this map to therefore be
      * a memory leak if an application uses TableView and is creating and removing
@@ -155,6 +158,15 @@ public abstract class TableRowSkinBase<T,
         super(control);
         getSkinnable().setPickOnBounds(false);
 
+        // subclasses only learn of the fixed cell size once this constructor
+        // returns, but we need it now so that the cells below are only created
+        // for the columns that are actually in view.
+        final VirtualFlow<C> flow = getVirtualFlow();
+        if (flow != null) {
+            fixedCellSize = flow.getFixedCellSize();
+            fixedCellSizeEnabled = fixedCellSize > 0;
+        }
+
         recreateCells();
         updateCells(true);
 
@@ -254,7 +266,7 @@ public abstract class TableRowSkinBase<T,
     /** {@inheritDoc} */
     @Override protected void layoutChildren(double x, final double y, final double w, final double h) {
         checkState();
-        if (cellsMap.isEmpty()) return;
+        if (cellsMap.isEmpty() && !fixedCellSizeEnabled) return;
 
         ObservableList<? extends TableColumnBase> visibleLeafColumns = getVisibleLeafColumns();
         if (visibleLeafColumns.isEmpty()) {
@@ -339,9 +351,19 @@ public abstract class TableRowSkinBase<T,
         int index = control.getIndex();
         if (index < 0/* || row >= itemsProperty().get().size()*/) return;
 
-        for (int column = 0, max = cells.size(); column < max; column++) {
-            R tableCell = cells.get(column);
-            TableColumnBase<T, ?> tableColumn = getTableColumn(tableCell);
+        // when the fixed cell size is enabled we walk the columns rather than
+        // the cells, as cells only exist for the columns that are in view
+        final int max = fixedCellSizeEnabled ? visibleLeafColumns.size() : cells.size();
+        final double scrollX = fixedCellSizeEnabled ? getScrollX() : 0;
+        final double viewportWidth = fixedCellSizeEnabled ? getViewportWidth() : 0;
+        double columnStart = 0;
+        if (fixedCellSizeEnabled) {
+            cells.clear();
+        }
+
+        for (int column = 0; column < max; column++) {
+            R tableCell;
+            TableColumnBase<T, ?> tableColumn;
 
             boolean isVisible = true;
             if (fixedCellSizeEnabled) {
@@ -354,16 +376,32 @@ public abstract class TableRowSkinBase<T,
                 // provided by the developer, and this means that we do not have
                 // to concern ourselves with the possibility that the height
                 // may be variable and / or dynamic.
-                isVisible = isColumnPartiallyOrFullyVisible(tableColumn);
+                tableColumn = getVisibleLeafColumn(column);
+                double columnEnd = columnStart + tableColumn.getWidth();
+                isVisible = tableColumn.isVisible()
+                        && isColumnPartiallyOrFullyVisible(columnStart, columnEnd, scrollX, viewportWidth);
+                columnStart = columnEnd;
+
+                // cells are only created once their column scrolls into view
+                tableCell = isVisible ? getOrCreateCell(tableColumn) : getCachedCell(tableColumn);
+                if (isVisible) {
+                    cells.add(tableCell);
+                }
 
                 height = fixedCellSize;
             } else {
+                tableCell = cells.get(column);
+                tableColumn = getTableColumn(tableCell);
+
                 height = Math.max(controlHeight, tableCell.prefHeight(-1));
                 height = snapSizeY(height) - snapSizeY(verticalPadding);
             }
 
             if (isVisible) {
                 if (fixedCellSizeEnabled && tableCell.getParent() == null) {
+                    // the cell may have missed updates whilst out of view
+                    updateCell(tableCell, control);
+                    tableCell.updateIndex(index);
                     getChildren().add(tableCell);
                 }
 
@@ -440,12 +478,12 @@ public abstract class TableRowSkinBase<T,
                 // This does not appear to impact performance...
                 tableCell.requestLayout();
             } else {
-                width = snapSizeX(tableCell.prefWidth(-1)) - snapSizeX(horizontalPadding);
+                width = snapSizeX(tableColumn.getWidth()) - snapSizeX(horizontalPadding);
 
-                if (fixedCellSizeEnabled) {
-                    // we only add/remove to the scenegraph if the fixed cell
-                    // length support is enabled - otherwise we keep all
-                    // TableCells in the scenegraph
+                // we only add/remove to the scenegraph if the fixed cell
+                // length support is enabled - otherwise we keep all
+                // TableCells in the scenegraph
+                if (tableCell != null && tableCell.getParent() != null) {
                     getChildren().remove(tableCell);
                 }
             }
@@ -514,27 +552,25 @@ public abstract class TableRowSkinBase<T,
 
         final C skinnable = getSkinnable();
         final int skinnableIndex = skinnable.getIndex();
-        final List<? extends TableColumnBase/*<T,?>*/> visibleLeafColumns = getVisibleLeafColumns();
-
-        for (int i = 0, max = visibleLeafColumns.size(); i < max; i++) {
-            TableColumnBase<T,?> col = visibleLeafColumns.get(i);
 
-            R cell = null;
-            if (cellsMap.containsKey(col)) {
-                cell = cellsMap.get(col).get();
+        // with a fixed cell size we only need cells for the columns that are
+        // in view - layoutChildren() takes care of the rest as we scroll
+        final double scrollX = fixedCellSizeEnabled ? getScrollX() : 0;
+        final double viewportWidth = fixedCellSizeEnabled ? getViewportWidth() : 0;
+        double columnStart = 0;
 
-                // the reference has been gc'd, remove key entry from map
-                if (cell == null) {
-                    cellsMap.remove(col);
-                }
-            }
+        for (int i = 0, max = getVisibleLeafColumns().size(); i < max; i++) {
+            TableColumnBase<T,?> col = getVisibleLeafColumn(i);
 
-            if (cell == null) {
-                // if the cell is null it means we don't have it in cache and
-                // need to create it
-                cell = createCellAndCache(col);
+            if (fixedCellSizeEnabled) {
+                double columnEnd = columnStart + col.getWidth();
+                boolean isVisible = col.isVisible()
+                        && isColumnPartiallyOrFullyVisible(columnStart, columnEnd, scrollX, viewportWidth);
+                columnStart = columnEnd;
+                if (!isVisible) continue;
             }
 
+            R cell = getOrCreateCell(col);
             updateCell(cell, skinnable);
             cell.updateIndex(skinnableIndex);
             cells.add(cell);
@@ -553,6 +589,13 @@ public abstract class TableRowSkinBase<T,
                 }
             }
             getChildren().removeAll(toRemove);
+
+            for (int i = 0, max = cells.size(); i < max; i++) {
+                R cell = cells.get(i);
+                if (cell.getParent() == null) {
+                    getChildren().add(cell);
+                }
+            }
         } else if (resetChildren || cellsEmpty) {
             getChildren().setAll(cells);
         }
@@ -572,6 +615,13 @@ public abstract class TableRowSkinBase<T,
     /** {@inheritDoc} */
     @Override protected double computePrefWidth(double height, double topInset, double rightInset, double bottomInset, double leftInset) {
         double prefWidth = 0.0;
+        if (fixedCellSizeEnabled) {
+            // not every column has a cell, but the cell widths follow the columns
+            for (TableColumnBase<?,?> col : getVisibleLeafColumns()) {
+                prefWidth += snapSizeX(col.getWidth());
+            }
+            return prefWidth;
+        }
         for (R cell : cells) {
             prefWidth += cell.prefWidth(height);
         }
@@ -663,27 +713,33 @@ public abstract class TableRowSkinBase<T,
      *                                                                         *
      **************************************************************************/
 
-    private boolean isColumnPartiallyOrFullyVisible(TableColumnBase col) {
-        if (col == null || !col.isVisible()) return false;
+    // getVisibleLeafColumns() only returns raw columns, but they all belong to
+    // the table of this row
+    @SuppressWarnings("unchecked")
+    private TableColumnBase<T,?> getVisibleLeafColumn(int index) {
+        return (TableColumnBase<T,?>) getVisibleLeafColumns().get(index);
+    }
 
+    private double getScrollX() {
         final VirtualFlow<?> virtualFlow = getVirtualFlow();
-        double scrollX = virtualFlow == null ? 0.0 : virtualFlow.getHbar().getValue();
-
-        // work out where this column header is, and it's width (start -> end)
-        double start = 0;
-        final ObservableList<? extends TableColumnBase> visibleLeafColumns = getVisibleLeafColumns();
-        for (int i = 0, max = visibleLeafColumns.size(); i < max; i++) {
-            TableColumnBase<?,?> c = visibleLeafColumns.get(i);
-            if (c.equals(col)) break;
-            start += c.getWidth();
-        }
-        double end = start + col.getWidth();
+        return virtualFlow == null ? 0.0 : virtualFlow.getHbar().getValue();
+    }
 
-        // determine the width of the table
+    private double getViewportWidth() {
+        // the row is as wide as all of its columns, so we use the width of the
+        // viewport it is shown in, falling back to the width of the row itself
+        final VirtualFlow<?> virtualFlow = getVirtualFlow();
+        if (virtualFlow != null && virtualFlow.getViewportBreadth() > 0) {
+            return virtualFlow.getViewportBreadth();
+        }
         final Insets padding = getSkinnable().getPadding();
-        double headerWidth = getSkinnable().getWidth() - padding.getLeft() + padding.getRight();
+        return getSkinnable().getWidth() - padding.getLeft() + padding.getRight();
+    }
 
-        return (start >= scrollX || end > scrollX) && (start < (headerWidth + scrollX) || end <= (headerWidth + scrollX));
+    // start and end are the position of the column header, and it's width
+    // (start -> end), as accumulated over the visible leaf columns
+    private boolean isColumnPartiallyOrFullyVisible(double start, double end, double scrollX, double viewportWidth) {
+        return (start >= scrollX || end > scrollX) && (start < (viewportWidth + scrollX) || end <= (viewportWidth + scrollX));
     }
 
     private void requestCellUpdate() {
@@ -724,15 +780,30 @@ public abstract class TableRowSkinBase<T,
         fullRefreshCounter = DEFAULT_FULL_REFRESH_COUNTER;
         getChildren().clear();
 
-        for (TableColumnBase col : columns) {
-            if (cellsMap.containsKey(col)) {
-                continue;
-            }
+        // the cells themselves are created (and cached in the cellsMap) by
+        // updateCells(), and only for the columns that need them
+    }
+
+    private R getCachedCell(TableColumnBase<T,?> col) {
+        Reference<R> cellRef = cellsMap.get(col);
+        if (cellRef == null) return null;
 
-            // create a TableCell for this column and store it in the cellsMap
-            // for future use
-            createCellAndCache(col);
+        R cell = cellRef.get();
+        // the reference has been gc'd, remove key entry from map
+        if (cell == null) {
+            cellsMap.remove(col);
         }
+        return cell;
+    }
+
+    private R getOrCreateCell(TableColumnBase<T,?> col) {
+        R cell = getCachedCell(col);
+        if (cell == null) {
+            // if the cell is null it means we don't have it in cache and
+            // need to create it
+            cell = createCellAndCache(col);
+        }
+        return cell;
     }
 
     private R createCellAndCache(TableColumnBase<T,?> col) {
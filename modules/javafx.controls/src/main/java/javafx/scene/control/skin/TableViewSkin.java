@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -38,6 +38,7 @@ import javafx.collections.ObservableList;
 import javafx.event.EventHandler;
 import javafx.scene.AccessibleAction;
 import javafx.scene.AccessibleAttribute;
+import javafx.scene.Cursor;
 import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.control.Control;
@@ -132,8 +133,10 @@ public class TableViewSkin<T> extends TableViewSkinBase<T, T, TableView<T>, Tabl
         behavior.setOnFocusRightCell(() -> onFocusRightCell());
 
         registerChangeListener(control.fixedCellSizeProperty(), e -> flow.setFixedCellSize(getSkinnable().getFixedCellSize()));
+        registerChangeListener(control.sortingProperty(), e -> updateSortingCursor());
 
         updateItemCount();
+        updateSortingCursor();
     }
 
 
@@ -213,6 +216,14 @@ public class TableViewSkin<T> extends TableViewSkinBase<T, T, TableView<T>, Tabl
      *                                                                         *
      **************************************************************************/
 
+    // show a busy cursor over the rows and headers whilst the items are being
+    // sorted in the background, as the rows will be reordered once it completes
+    private void updateSortingCursor() {
+        Cursor cursor = getSkinnable().isSorting() ? Cursor.WAIT : null;
+        flow.setCursor(cursor);
+        getTableHeaderRow().setCursor(cursor);
+    }
+
     /** {@inheritDoc} */
     private TableRow<T> createCell() {
         TableRow<T> cell;
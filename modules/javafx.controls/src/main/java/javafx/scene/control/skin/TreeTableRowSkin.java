@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -143,6 +143,11 @@ public class TreeTableRowSkin<T> extends TableRowSkinBase<TreeItem<T>, TreeTable
                 registerChangeListener(fixedCellSizeProperty, e -> {
                     fixedCellSize = fixedCellSizeProperty.get();
                     fixedCellSizeEnabled = fixedCellSize > 0;
+
+                    // cells are only created for the visible columns when the
+                    // fixed cell size is enabled, so we need to rebuild them
+                    isDirty = true;
+                    getSkinnable().requestLayout();
                 });
                 fixedCellSize = fixedCellSizeProperty.get();
                 fixedCellSizeEnabled = fixedCellSize > 0;
@@ -152,6 +157,13 @@ public class TreeTableRowSkin<T> extends TableRowSkinBase<TreeItem<T>, TreeTable
                 // that when it changes, we can appropriately add / remove cells that may or may not
                 // be required (because we remove all cells that are not visible).
                 registerChangeListener(getVirtualFlow().widthProperty(), e -> treeTableView.requestLayout());
+
+                // Likewise, columns scrolled into view horizontally need their cells to be created
+                registerChangeListener(getVirtualFlow().getHbar().valueProperty(), e -> {
+                    if (fixedCellSizeEnabled) {
+                        getSkinnable().requestLayout();
+                    }
+                });
             }
         }
     }
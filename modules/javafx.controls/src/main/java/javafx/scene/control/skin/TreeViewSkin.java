@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -463,10 +463,16 @@ public class TreeViewSkin<T> extends VirtualContainerBase<TreeView<T>, TreeCell<
             }
 
             private void updateDisplay(T item, boolean empty) {
-                if (item == null || empty) {
+                if (empty || (item == null && !LazyTreeItem.isPlaceholder(getTreeItem()))) {
                     hbox = null;
                     setText(null);
                     setGraphic(null);
+                } else if (item == null) {
+                    // the placeholder of a LazyTreeItem that is loading its
+                    // children has no value, only a graphic
+                    hbox = null;
+                    setText(null);
+                    setGraphic(getTreeItem().getGraphic());
                 } else {
                     // update the graphic if one is set in the TreeItem
                     TreeItem<T> treeItem = getTreeItem();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -36,6 +36,7 @@ import com.sun.javafx.scene.traversal.ParentTraversalEngine;
 import com.sun.javafx.scene.traversal.TraversalContext;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.beans.property.BooleanProperty;
@@ -68,12 +69,16 @@ import javafx.scene.shape.Rectangle;
 import javafx.util.Callback;
 import javafx.util.Duration;
 import com.sun.javafx.logging.PlatformLogger;
+import com.sun.javafx.logging.PulseLogger;
 
 import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.List;
 
+import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
+
 /**
  * Implementation of a virtualized container using a cell based mechanism. This
  * is used by the skin implementations for UI controls such as
@@ -193,6 +198,11 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
      */
     final ArrayLinkedList<T> pile = new ArrayLinkedList<T>();
 
+    /**
+     * Set while a request to prepare the overscan cells is waiting to run.
+     */
+    private boolean prefetchPending = false;
+
     /**
      * A special cell used to accumulate bounds, such that we reduce object
      * churn. This cell must be recreated whenever the cell factory function
@@ -281,7 +291,7 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
      * When the size of the items in the backing list changes, this list is
      * cleared.
      */
-    private ArrayList<Double> itemSizeCache = new ArrayList<>();
+    private final CellSizeCache itemSizeCache = new CellSizeCache();
 
     // used for panning the virtual flow
     private double lastX;
@@ -954,6 +964,32 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     public final DoubleProperty fixedCellSizeProperty() { return fixedCellSize; }
 
 
+    // --- overscan
+    /**
+     * The number of cells to prepare beyond each end of the viewport. When
+     * greater than zero, cells for the items just outside of the viewport are
+     * created, updated and sized (but not shown) once a layout pass is done,
+     * so that scrolling them into view does not need to create or update
+     * them. The default value is zero, meaning only cells in the viewport are
+     * prepared.
+     *
+     * @since 18
+     */
+    private IntegerProperty overscan;
+    public final void setOverscan(int value) { overscanProperty().set(value); }
+    public final int getOverscan() { return overscan == null ? 0 : overscan.get(); }
+    public final IntegerProperty overscanProperty() {
+        if (overscan == null) {
+            overscan = new SimpleIntegerProperty(this, "overscan") {
+                @Override protected void invalidated() {
+                    requestPrefetch();
+                }
+            };
+        }
+        return overscan;
+    }
+
+
     // --- Cell Factory
     private ObjectProperty<Callback<VirtualFlow<T>, T>> cellFactory;
 
@@ -1342,6 +1378,7 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         lastPosition = getPosition();
         recalculateEstimatedSize();
         cleanPile();
+        requestPrefetch();
     }
 
     /** {@inheritDoc} */
@@ -1390,8 +1427,7 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         }
 
         if (cell == null) {
-            cell = getCellFactory().call(this);
-            cell.getProperties().put(NEW_CELL, null);
+            cell = createCell();
         }
 
         if (cell.getParent() == null) {
@@ -1401,6 +1437,15 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         return cell;
     }
 
+    private T createCell() {
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter("VirtualFlow cells created");
+        }
+        T cell = getCellFactory().call(this);
+        cell.getProperties().put(NEW_CELL, null);
+        return cell;
+    }
+
     /**
      * This method will remove all cells from the VirtualFlow and remove them,
      * adding them to the 'pile' (that is, a place from where cells can be used
@@ -1723,6 +1768,7 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
         // Finally, update the scroll bars
         updateScrollBarsAndCells(false);
+        requestPrefetch();
 
         // notify
         return answer;
@@ -1810,6 +1856,9 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     protected void setCellIndex(T cell, int index) {
         assert cell != null;
 
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter("VirtualFlow cells updated");
+        }
         cell.updateIndex(index);
 
         // make sure the cell is sized correctly. This is important for both
@@ -1891,7 +1940,7 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     private final void setViewportBreadth(double value) {
         this.viewportBreadth = value;
     }
-    private final double getViewportBreadth() {
+    final double getViewportBreadth() {
         return viewportBreadth;
     }
 
@@ -2802,6 +2851,72 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         pile.addLast(cell);
     }
 
+    private void requestPrefetch() {
+        if (prefetchPending || getOverscan() <= 0) return;
+
+        // prepare the cells once the current pulse is done, rather than as
+        // part of it
+        prefetchPending = true;
+        Platform.runLater(() -> {
+            prefetchPending = false;
+            prefetchCells();
+        });
+    }
+
+    /**
+     * Prepares the cells for the given number of indices on either side of
+     * the cells in the viewport, and leaves them on the pile. As the pile is
+     * searched for a cell with the wanted index first, these cells are then
+     * used as they are once they scroll into view.
+     */
+    private void prefetchCells() {
+        final int count = getOverscan();
+        if (count <= 0 || cells.isEmpty() || getCellFactory() == null) return;
+
+        final int cellCount = getCellCount();
+        final int firstIndex = getCellIndex(cells.getFirst());
+        final int lastIndex = getCellIndex(cells.getLast());
+        final int start = Math.max(0, firstIndex - count);
+        final int end = Math.min(cellCount, lastIndex + count + 1);
+
+        for (int index = lastIndex + 1; index < end; index++) {
+            prefetchCell(index, start, end);
+        }
+        for (int index = firstIndex - 1; index >= start; index--) {
+            prefetchCell(index, start, end);
+        }
+    }
+
+    private void prefetchCell(int index, int start, int end) {
+        T cell = null;
+        int stale = -1;
+        for (int i = 0, max = pile.size(); i < max; i++) {
+            int cellIndex = getCellIndex(pile.get(i));
+            if (cellIndex == index) {
+                return;
+            }
+            if (stale == -1 && (cellIndex < start || cellIndex >= end)) {
+                stale = i;
+            }
+        }
+
+        // reuse a cell that is not for an index we are preparing, or create one
+        if (stale != -1) {
+            cell = pile.remove(stale);
+        } else {
+            cell = createCell();
+        }
+        if (cell.getParent() == null) {
+            sheetChildren.add(cell);
+        }
+        setCellIndex(cell, index);
+        resizeCell(cell);
+        cell.setVisible(false);
+
+        // cells that are not prepared are taken from the end of the pile first
+        pile.addFirst(cell);
+    }
+
     private void cleanPile() {
         boolean wasFocusOwner = false;
 
@@ -2894,22 +3009,17 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
     private double computeViewportOffset(double position, int localCellCount) {
         double p = com.sun.javafx.util.Utils.clamp(0, position, 1);
-        double bound = 0d;
         double estSize = estimatedSize / localCellCount;
         double maxOff = estimatedSize - getViewportLength();
         if ((maxOff > 0) && (absoluteOffset > maxOff)) {
             return maxOff - absoluteOffset;
         }
 
-        for (int i = 0; i < localCellCount; i++) {
-            double h = getCellSize(i);
-            if (h < 0) h = estSize;
-            if (bound + h > absoluteOffset) {
-                return absoluteOffset - bound;
-            }
-            bound += h;
+        if (localCellCount <= 0 || itemSizeCache.getOffset(localCellCount, estSize) <= absoluteOffset) {
+            return 0d;
         }
-        return 0d;
+        int index = itemSizeCache.getIndex(absoluteOffset, estSize);
+        return absoluteOffset - itemSizeCache.getOffset(index, estSize);
     }
 
     private void adjustPositionToIndex(int index) {
@@ -2920,13 +3030,8 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         if (cellCount <= 0) {
             setPosition(0.0f);
         } else {
-            double targetOffset = 0;
             double estSize = estimatedSize/cellCount;
-            for (int i = 0; i < index; i++) {
-                double cz = getCellSize(i);
-                if (cz < 0) cz = estSize;
-                targetOffset = targetOffset+ cz;
-            }
+            double targetOffset = itemSizeCache.getOffset(index, estSize);
             this.absoluteOffset = (estimatedSize < viewportLength)  ? 0  : targetOffset;
             adjustPosition();
         }
@@ -2981,15 +3086,9 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     }
 
     private double computeBaseOffset(int index) {
-        double baseOffset = 0d;
         int currentCellCount = getCellCount();
         double estSize = estimatedSize / currentCellCount;
-        for (int i = 0; i < index; i++) {
-            double nextSize = getCellSize(i);
-            if (nextSize < 0) nextSize = estSize;
-            baseOffset += nextSize;
-        }
-        return baseOffset;
+        return itemSizeCache.getOffset(index, estSize);
     }
 
     /**
@@ -3001,17 +3100,9 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     }
 
     private int computeCurrentIndex(int currentCellCount) {
-        double total = 0;
+        if (currentCellCount <= 0) return 0;
         double estSize = estimatedSize / currentCellCount;
-        for (int i = 0; i < currentCellCount; i++) {
-            double nextSize = getCellSize(i);
-            if (nextSize < 0) nextSize = estSize;
-            total = total + nextSize;
-            if (total > absoluteOffset) {
-                return i;
-            }
-        }
-        return currentCellCount == 0 ? 0 : currentCellCount - 1;
+        return Math.min(itemSizeCache.getIndex(absoluteOffset, estSize), currentCellCount - 1);
     }
 
     /**
@@ -3043,21 +3134,14 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
     private double getOrCreateCellSize (int idx, boolean create) {
         if (idx < 0) return -1;
-        // is the current cache long enough to contain idx?
-        if (itemSizeCache.size() > idx) {
-            // is there a non-null value stored in the cache?
-            if (itemSizeCache.get(idx) != null) {
-                return itemSizeCache.get(idx);
-            }
+        // is there a value stored in the cache?
+        double cached = itemSizeCache.get(idx);
+        if (cached >= 0) {
+            return cached;
         }
         if (!create) return -1;
         boolean doRelease = false;
 
-        // Make sure we have enough space in the cache to store this index
-        while (idx >= itemSizeCache.size()) {
-            itemSizeCache.add(itemSizeCache.size(), null);
-        }
-
         double answer = 1d;
         if (getFixedCellSize() > 0) {
             answer = getFixedCellSize();
@@ -3097,10 +3181,10 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         int cellIndex = cell.getIndex();
 
         if (itemSizeCache.size() > cellIndex) {
-            Double oldSize = itemSizeCache.get(cellIndex);
+            double oldSize = itemSizeCache.get(cellIndex);
             double newSize = getCellLength(cell);
             itemSizeCache.set(cellIndex, newSize);
-            if ((oldSize != null) && !oldSize.equals(newSize)) {
+            if ((oldSize >= 0) && (Double.compare(oldSize, newSize) != 0)) {
                 int currentIndex = computeCurrentIndex();
                 double oldOffset = computeViewportOffset(getPosition());
                 if ((cellIndex == currentIndex) && (oldOffset != 0)) {
@@ -3145,28 +3229,13 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
                 getOrCreateCellSize(itemSizeCache.size());
                 added++;
             }
-            cacheCount = itemSizeCache.size();
-            int cnt = 0;
-            double tot = 0d;
-            for (int i = 0; (i < itemCount && i < cacheCount); i++) {
-                Double il = itemSizeCache.get(i);
-                if (il != null) {
-                    tot = tot + il;
-                    cnt++;
-                }
-            }
+            int cnt = itemSizeCache.getCount(itemCount);
+            double tot = itemSizeCache.getTotal(itemCount);
             this.estimatedSize = cnt == 0 ? 1d : tot * itemCount / cnt;
             double estSize = estimatedSize / itemCount;
 
             if (keepRatio) {
-                double newOffset = 0;
-                for (int i = 0; i < oldIndex; i++) {
-                    double h = getCellSize(i);
-                    if (h < 0) {
-                        h = estSize;
-                    }
-                    newOffset += h;
-                }
+                double newOffset = itemSizeCache.getOffset(oldIndex, estSize);
                 this.absoluteOffset = newOffset + oldOffset;
                 adjustPosition();
             }
@@ -3199,6 +3268,129 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
      *                                                                         *
      **************************************************************************/
 
+    /**
+     * The cached sizes of the cells, by index, with a size of -1 meaning the
+     * size is not known (yet). Alongside the sizes, two Fenwick trees keep the
+     * total and the number of the known sizes, so that the offset of an index
+     * and the index at an offset are found in O(log n), with unknown sizes
+     * replaced by an estimate, rather than by summing all preceding sizes.
+     */
+    static final class CellSizeCache {
+        private double[] sizes = new double[0];
+        private double[] totalTree = new double[1];
+        private int[] countTree = new int[1];
+        private int size = 0;
+
+        /** The number of indices that have been cached or skipped over. */
+        int size() {
+            return size;
+        }
+
+        double get(int index) {
+            return index < size ? sizes[index] : -1;
+        }
+
+        void set(int index, double value) {
+            if (index >= sizes.length) {
+                grow(index + 1);
+            }
+            if (index >= size) {
+                size = index + 1;
+            }
+            double old = sizes[index];
+            sizes[index] = value;
+            double deltaTotal = value - (old < 0 ? 0 : old);
+            int deltaCount = old < 0 ? 1 : 0;
+            for (int i = index + 1; i < totalTree.length; i += i & -i) {
+                totalTree[i] += deltaTotal;
+                countTree[i] += deltaCount;
+            }
+        }
+
+        void clear() {
+            Arrays.fill(sizes, 0, size, -1);
+            Arrays.fill(totalTree, 0);
+            Arrays.fill(countTree, 0);
+            size = 0;
+        }
+
+        /** The number of known sizes for the first {@code count} indices. */
+        int getCount(int count) {
+            int answer = 0;
+            for (int i = Math.min(count, sizes.length); i > 0; i -= i & -i) {
+                answer += countTree[i];
+            }
+            return answer;
+        }
+
+        /** The total of the known sizes for the first {@code count} indices. */
+        double getTotal(int count) {
+            double answer = 0;
+            for (int i = Math.min(count, sizes.length); i > 0; i -= i & -i) {
+                answer += totalTree[i];
+            }
+            return answer;
+        }
+
+        /**
+         * The offset of the given index, i.e. the total size of the preceding
+         * indices, using the estimated size for those that are not known.
+         */
+        double getOffset(int index, double estimate) {
+            if (index <= 0) return 0;
+            int unknown = index - getCount(index);
+            return getTotal(index) + (unknown == 0 ? 0 : unknown * estimate);
+        }
+
+        /**
+         * The first index that ends beyond the given offset, using the
+         * estimated size for those that are not known. The answer is not
+         * bounded by any cell count.
+         */
+        int getIndex(double offset, double estimate) {
+            int index = 0;
+            double total = 0;
+            for (int step = Integer.highestOneBit(Math.max(1, sizes.length)); step > 0; step >>= 1) {
+                int next = index + step;
+                if (next > sizes.length) continue;
+                int unknown = step - countTree[next];
+                double length = totalTree[next] + (unknown == 0 ? 0 : unknown * estimate);
+                if (total + length <= offset) {
+                    index = next;
+                    total += length;
+                }
+            }
+            if (index == sizes.length && estimate > 0) {
+                // beyond the cached indices every size is estimated
+                double skipped = Math.floor((offset - total) / estimate);
+                index += (int) Math.min(skipped, Integer.MAX_VALUE - index);
+            }
+            return index;
+        }
+
+        private void grow(int minCapacity) {
+            int capacity = Math.max(minCapacity, Math.max(16, sizes.length * 2));
+            sizes = Arrays.copyOf(sizes, capacity);
+            Arrays.fill(sizes, size, capacity, -1);
+
+            // rebuild the trees in linear time
+            totalTree = new double[capacity + 1];
+            countTree = new int[capacity + 1];
+            for (int i = 1; i <= capacity; i++) {
+                double value = sizes[i - 1];
+                if (value >= 0) {
+                    totalTree[i] += value;
+                    countTree[i]++;
+                }
+                int parent = i + (i & -i);
+                if (parent <= capacity) {
+                    totalTree[parent] += totalTree[i];
+                    countTree[parent] += countTree[i];
+                }
+            }
+        }
+    }
+
     /**
      * A simple extension to Region that ensures that anything wanting to flow
      * outside of the bounds of the Region is clipped.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -24,6 +24,8 @@
  */
 package javafx.scene.control;
 
+import java.util.concurrent.Executor;
+
 public class TableViewShim {
 
     public static Class get_TableViewArrayListSelectionModel_class() {
@@ -34,4 +36,12 @@ public class TableViewShim {
         return new TableView.TableViewArrayListSelectionModel<>(table);
     }
 
+    public static Executor getSortExecutor() {
+        return TableView.sortExecutor;
+    }
+
+    public static void setSortExecutor(Executor executor) {
+        TableView.sortExecutor = executor;
+    }
+
 }
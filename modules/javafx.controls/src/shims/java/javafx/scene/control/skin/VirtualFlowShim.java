@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -135,6 +135,10 @@ public class VirtualFlowShim<T extends IndexedCell> extends VirtualFlow<T> {
         return list.size();
     }
 
+    public static double get_viewportBreadth(VirtualFlow<?> flow) {
+        return flow.getViewportBreadth();
+    }
+
 
 
     public static class ArrayLinkedListShim<T> extends VirtualFlow.ArrayLinkedList<T> {
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene.chart;
+
+import javafx.geometry.Point2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.chart.BubbleChart;
+import javafx.scene.chart.Chart;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.XYChart;
+import javafx.scene.chart.XYChartShim;
+import javafx.scene.layout.StackPane;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class BubbleChartTest extends ChartTestBase {
+
+    private BubbleChart<Number,Number> bubbleChart;
+
+    @Override protected Chart createChart() {
+        bubbleChart = new BubbleChart<>(new NumberAxis(0, 100, 10), new NumberAxis(0, 100, 10));
+        return bubbleChart;
+    }
+
+    private long countNodes(Class<?> type) {
+        return XYChartShim.getPlotChildren(bubbleChart).stream().filter(type::isInstance).count();
+    }
+
+    private Point2D toChart(double x, double y) {
+        NumberAxis xAxis = (NumberAxis) bubbleChart.getXAxis();
+        NumberAxis yAxis = (NumberAxis) bubbleChart.getYAxis();
+        double sceneX = xAxis.localToScene(xAxis.getDisplayPosition(x), 0).getX();
+        double sceneY = yAxis.localToScene(0, yAxis.getDisplayPosition(y)).getY();
+        return bubbleChart.sceneToLocal(sceneX, sceneY);
+    }
+
+    @Test
+    public void testBubblesAreDrawnWithoutNodes() {
+        startApp();
+        bubbleChart.setCreateSymbolNodes(false);
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        for (int i = 0; i < 100; i++) {
+            series.getData().add(new XYChart.Data<>(i, i, 2));
+        }
+        bubbleChart.getData().add(series);
+        pulse();
+        assertEquals(0, countNodes(StackPane.class));
+        assertEquals(1, countNodes(Canvas.class));
+
+        bubbleChart.setCreateSymbolNodes(true);
+        pulse();
+        assertEquals(100, countNodes(StackPane.class));
+        assertEquals(0, countNodes(Canvas.class));
+    }
+
+    @Test
+    public void testGetDataAtUsesBubbleShape() {
+        startApp();
+        bubbleChart.setCreateSymbolNodes(false);
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        XYChart.Data<Number, Number> item = new XYChart.Data<>(50, 50, 10);
+        series.getData().add(item);
+        bubbleChart.getData().add(series);
+        pulse();
+
+        Point2D inside = toChart(57, 43);
+        assertSame(item, bubbleChart.getDataAt(inside.getX(), inside.getY()));
+        // inside the bounds of the bubble, but outside the bubble
+        Point2D corner = toChart(59, 59);
+        assertNull(bubbleChart.getDataAt(corner.getX(), corner.getY()));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,21 +29,25 @@ import javafx.collections.ObservableList;
 import javafx.geometry.Point2D;
 import javafx.scene.Node;
 import javafx.scene.chart.Chart;
+import javafx.scene.chart.DoubleSeries;
 import javafx.scene.chart.LineChart;
 import javafx.scene.chart.NumberAxis;
 import javafx.scene.chart.XYChart;
 import javafx.scene.chart.XYChartShim;
 import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
 import javafx.scene.shape.Path;
 import javafx.scene.shape.PathElement;
 import org.junit.Ignore;
 import org.junit.Test;
 
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class LineChartTest extends XYChartTestBase {
 
@@ -679,6 +683,172 @@ public class LineChartTest extends XYChartTestBase {
         assertArrayEquals(convertSeriesDataToPoint2D(expectedSeries).toArray(), findDataPointsFromPathLine(lineChart).toArray());
     }
 
+    @Test
+    public void testDoubleSeriesIsReducedToPlotWidth() {
+        startApp();
+        final int count = 1_000_000;
+        double[] x = new double[count];
+        double[] y = new double[count];
+        for (int i = 0; i < count; i++) {
+            x[i] = i * 90.0 / count;
+            y[i] = 15 + 10 * Math.sin(i / 100.0);
+        }
+        y[count / 2] = 29;
+        y[count / 3] = 1;
+        DoubleSeries series = new DoubleSeries();
+        series.setAll(x, y);
+        lineChart.getDoubleSeries().add(series);
+        pulse();
+
+        Path path = getDoubleSeriesPath();
+        assertTrue(path.getStyleClass().contains("chart-series-line"));
+        List<PathElement> elements = path.getElements();
+        double plotWidth = lineChart.getXAxis().getWidth();
+        assertTrue(elements.size() > plotWidth);
+        assertTrue(elements.size() <= 4 * (plotWidth + 1));
+        assertTrue(elements.get(0) instanceof MoveTo);
+
+        // the spikes survive the reduction
+        final NumberAxis yAxis = (NumberAxis) lineChart.getYAxis();
+        double top = elements.stream().mapToDouble(this::getY).min().getAsDouble();
+        double bottom = elements.stream().mapToDouble(this::getY).max().getAsDouble();
+        assertEquals(yAxis.getDisplayPosition(29), top, 1e-6);
+        assertEquals(yAxis.getDisplayPosition(1), bottom, 1e-6);
+    }
+
+    @Test
+    public void testDoubleSeriesAppendUpdatesPath() {
+        startApp();
+        DoubleSeries series = new DoubleSeries();
+        series.add(10, 10);
+        series.add(20, 20);
+        lineChart.getDoubleSeries().add(series);
+        pulse();
+        assertEquals(2, getDoubleSeriesPath().getElements().size());
+
+        series.add(50, 5);
+        pulse();
+        List<PathElement> elements = getDoubleSeriesPath().getElements();
+        assertEquals(3, elements.size());
+        final NumberAxis xAxis = (NumberAxis) lineChart.getXAxis();
+        assertEquals(xAxis.getDisplayPosition(50), ((LineTo) elements.get(2)).getX(), 1e-6);
+    }
+
+    @Test
+    public void testDoubleSeriesAutoRanging() {
+        startApp();
+        lineChart.getXAxis().setAutoRanging(true);
+        lineChart.getYAxis().setAutoRanging(true);
+        DoubleSeries series = new DoubleSeries();
+        series.addAll(new double[] {0, 100, 200}, new double[] {5, 1000, 50});
+        lineChart.getDoubleSeries().add(series);
+        pulse();
+        final NumberAxis xAxis = (NumberAxis) lineChart.getXAxis();
+        final NumberAxis yAxis = (NumberAxis) lineChart.getYAxis();
+        assertTrue(xAxis.getUpperBound() >= 200);
+        assertTrue(yAxis.getUpperBound() >= 1000);
+
+        series.add(400, 2000);
+        pulse();
+        assertTrue(xAxis.getUpperBound() >= 400);
+        assertTrue(yAxis.getUpperBound() >= 2000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDoubleSeriesRejectsDecreasingX() {
+        DoubleSeries series = new DoubleSeries();
+        series.add(10, 10);
+        series.add(5, 10);
+    }
+
+    @Test
+    public void testDoubleSeriesMaxSizeDropsOldestValues() {
+        startApp();
+        lineChart.getYAxis().setAutoRanging(true);
+        DoubleSeries series = new DoubleSeries();
+        series.setMaxSize(3);
+        series.addAll(new double[] {10, 20, 30}, new double[] {100, 1, 2});
+        lineChart.getDoubleSeries().add(series);
+        pulse();
+        final NumberAxis yAxis = (NumberAxis) lineChart.getYAxis();
+        assertTrue(yAxis.getUpperBound() >= 100);
+
+        series.add(40, 3);
+        pulse();
+        assertEquals(3, series.size());
+        assertEquals(20, series.getX(0), 0);
+        assertEquals(3, series.getY(2), 0);
+        assertTrue(yAxis.getUpperBound() < 100);
+    }
+
+    @Test
+    public void testDoubleSeriesStreamingExtendsPath() {
+        startApp();
+        final NumberAxis xAxis = (NumberAxis) lineChart.getXAxis();
+        final NumberAxis yAxis = (NumberAxis) lineChart.getYAxis();
+        xAxis.setAnimated(false);
+        DoubleSeries series = new DoubleSeries();
+        series.setMaxSize(5000);
+        lineChart.getDoubleSeries().add(series);
+        Random random = new Random(0);
+        double x = 0;
+        PathElement retained = null;
+        for (int step = 0; step < 40; step++) {
+            for (int i = 0; i < 250; i++) {
+                series.add(x, 1 + 28 * random.nextDouble());
+                x += 0.05;
+            }
+            xAxis.setLowerBound(x - 90);
+            xAxis.setUpperBound(x);
+            pulse();
+
+            Path path = getDoubleSeriesPath();
+            List<PathElement> elements = path.getElements();
+            assertTrue(elements.get(0) instanceof MoveTo);
+            assertTrue(elements.size() <= 4 * (xAxis.getWidth() + 3));
+            double previousX = Double.NEGATIVE_INFINITY;
+            double top = Double.POSITIVE_INFINITY, bottom = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < elements.size(); i++) {
+                if (i > 0) assertTrue(elements.get(i) instanceof LineTo);
+                double elementX = getX(elements.get(i)) + path.getTranslateX();
+                assertTrue(elementX >= previousX - 1e-6);
+                previousX = elementX;
+                top = Math.min(top, getY(elements.get(i)));
+                bottom = Math.max(bottom, getY(elements.get(i)));
+            }
+            // the extremes of the visible values are drawn
+            double minY = Double.POSITIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < series.size(); i++) {
+                if (series.getX(i) >= x - 90) {
+                    minY = Math.min(minY, series.getY(i));
+                    maxY = Math.max(maxY, series.getY(i));
+                }
+            }
+            assertTrue(top <= yAxis.getDisplayPosition(maxY) + 1e-3);
+            assertTrue(bottom >= yAxis.getDisplayPosition(minY) - 1e-3);
+            // elements drawing values that are still visible are kept
+            if (retained != null) {
+                final PathElement element = retained;
+                assertTrue(elements.stream().anyMatch(e -> e == element));
+            }
+            retained = elements.get(elements.size() / 2);
+        }
+    }
+
+    private Path getDoubleSeriesPath() {
+        return (Path) XYChartShim.getPlotChildren(lineChart).stream()
+                .filter(n -> n instanceof Path)
+                .findFirst().get();
+    }
+
+    private double getX(PathElement element) {
+        return element instanceof MoveTo ? ((MoveTo) element).getX() : ((LineTo) element).getX();
+    }
+
+    private double getY(PathElement element) {
+        return element instanceof MoveTo ? ((MoveTo) element).getY() : ((LineTo) element).getY();
+    }
+
     private List<Point2D> convertSeriesDataToPoint2D(XYChart.Series<Number, Number> series) {
         return series.getData().stream()
                 .map(data -> new Point2D(data.getXValue().doubleValue(), data.getYValue().doubleValue()))
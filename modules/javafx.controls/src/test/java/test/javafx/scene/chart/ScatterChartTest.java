@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene.chart;
+
+import javafx.geometry.Point2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.chart.Chart;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.ScatterChart;
+import javafx.scene.chart.XYChart;
+import javafx.scene.chart.XYChartShim;
+import javafx.scene.layout.StackPane;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ScatterChartTest extends ChartTestBase {
+
+    private ScatterChart<Number,Number> scatterChart;
+    private final XYChart.Series<Number, Number> series1 = new XYChart.Series<>();
+
+    @Override protected Chart createChart() {
+        scatterChart = new ScatterChart<>(new NumberAxis(0, 100, 10), new NumberAxis(0, 100, 10));
+        for (int i = 0; i < 1000; i++) {
+            series1.getData().add(new XYChart.Data<>(i / 10.0, i / 10.0));
+        }
+        return scatterChart;
+    }
+
+    private long countNodes(Class<?> type) {
+        return XYChartShim.getPlotChildren(scatterChart).stream().filter(type::isInstance).count();
+    }
+
+    private Point2D toChart(double x, double y) {
+        NumberAxis xAxis = (NumberAxis) scatterChart.getXAxis();
+        NumberAxis yAxis = (NumberAxis) scatterChart.getYAxis();
+        double sceneX = xAxis.localToScene(xAxis.getDisplayPosition(x), 0).getX();
+        double sceneY = yAxis.localToScene(0, yAxis.getDisplayPosition(y)).getY();
+        return scatterChart.sceneToLocal(sceneX, sceneY);
+    }
+
+    @Test
+    public void testSymbolNodesAreCreatedByDefault() {
+        startApp();
+        scatterChart.getData().add(series1);
+        pulse();
+        assertEquals(1000, countNodes(StackPane.class));
+        assertEquals(0, countNodes(Canvas.class));
+    }
+
+    @Test
+    public void testSymbolsAreDrawnWithoutNodes() {
+        startApp();
+        scatterChart.setCreateSymbolNodes(false);
+        scatterChart.getData().add(series1);
+        pulse();
+        assertEquals(0, countNodes(StackPane.class));
+        assertEquals(1, countNodes(Canvas.class));
+        for (XYChart.Data<Number, Number> item : series1.getData()) {
+            assertNull(item.getNode());
+        }
+    }
+
+    @Test
+    public void testGetDataAtWithoutSymbolNodes() {
+        startApp();
+        scatterChart.setCreateSymbolNodes(false);
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        XYChart.Data<Number, Number> item1 = new XYChart.Data<>(20, 20);
+        XYChart.Data<Number, Number> item2 = new XYChart.Data<>(60, 40);
+        series.getData().addAll(item1, item2);
+        scatterChart.getData().add(series);
+        pulse();
+
+        Point2D p1 = toChart(20, 20);
+        Point2D p2 = toChart(60, 40);
+        assertSame(item1, scatterChart.getDataAt(p1.getX() + 1, p1.getY() - 1));
+        assertSame(item2, scatterChart.getDataAt(p2.getX(), p2.getY()));
+        Point2D empty = toChart(80, 80);
+        assertNull(scatterChart.getDataAt(empty.getX(), empty.getY()));
+    }
+
+    @Test
+    public void testGetDataAtReturnsTopSymbol() {
+        startApp();
+        scatterChart.setCreateSymbolNodes(false);
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        XYChart.Data<Number, Number> below = new XYChart.Data<>(50, 50);
+        XYChart.Data<Number, Number> above = new XYChart.Data<>(50, 50);
+        series.getData().addAll(below, above);
+        scatterChart.getData().add(series);
+        pulse();
+
+        Point2D p = toChart(50, 50);
+        assertSame(above, scatterChart.getDataAt(p.getX(), p.getY()));
+    }
+
+    @Test
+    public void testGetDataAtPrefersSymbolNodes() {
+        startApp();
+        scatterChart.setCreateSymbolNodes(false);
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        XYChart.Data<Number, Number> withNode = new XYChart.Data<>(50, 50);
+        withNode.setNode(new StackPane());
+        XYChart.Data<Number, Number> drawn = new XYChart.Data<>(50, 50);
+        series.getData().addAll(withNode, drawn);
+        scatterChart.getData().add(series);
+        pulse();
+        assertEquals(1, countNodes(StackPane.class));
+
+        // the symbol node is shown above the symbols in the canvas
+        Point2D p = toChart(50, 50);
+        assertSame(withNode, scatterChart.getDataAt(p.getX(), p.getY()));
+
+        withNode.getNode().setVisible(false);
+        pulse();
+        assertSame(drawn, scatterChart.getDataAt(p.getX(), p.getY()));
+    }
+
+    @Test
+    public void testSwitchingSymbolNodesOnAndOff() {
+        startApp();
+        scatterChart.getData().add(series1);
+        pulse();
+        scatterChart.setCreateSymbolNodes(false);
+        pulse();
+        assertEquals(0, countNodes(StackPane.class));
+        assertEquals(1, countNodes(Canvas.class));
+
+        scatterChart.setCreateSymbolNodes(true);
+        pulse();
+        assertEquals(1000, countNodes(StackPane.class));
+        assertEquals(0, countNodes(Canvas.class));
+        for (XYChart.Data<Number, Number> item : series1.getData()) {
+            assertNotNull(item.getNode());
+        }
+        // symbols overlap, the one drawn last is on top
+        Point2D p = toChart(50, 50);
+        XYChart.Data<Number, Number> item = scatterChart.getDataAt(p.getX(), p.getY());
+        assertNotNull(item);
+        assertEquals(50, item.getXValue().doubleValue(), 1);
+    }
+}
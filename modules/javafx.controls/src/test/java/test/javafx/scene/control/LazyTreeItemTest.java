@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene.control;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.scene.control.IndexedCell;
+import javafx.scene.control.Label;
+import javafx.scene.control.LazyTreeItem;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeView;
+
+import com.sun.javafx.tk.Toolkit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import test.com.sun.javafx.scene.control.infrastructure.StageLoader;
+import test.com.sun.javafx.scene.control.infrastructure.VirtualFlowTestUtils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class LazyTreeItemTest {
+
+    private List<Runnable> tasks;
+    private Executor executor;
+    private List<String> requests;
+    private int childCount;
+    private RuntimeException failure;
+    private StageLoader stageLoader;
+
+    @Before public void setup() {
+        tasks = new ArrayList<>();
+        executor = tasks::add;
+        requests = new ArrayList<>();
+        childCount = 5;
+        failure = null;
+    }
+
+    @After public void cleanup() {
+        if (stageLoader != null) {
+            stageLoader.dispose();
+        }
+    }
+
+    private LazyTreeItem<String> createItem(String value) {
+        LazyTreeItem<String> item = new LazyTreeItem<>(value, (v, offset, count) -> {
+            requests.add(v + " " + offset + " " + count);
+            if (failure != null) {
+                throw failure;
+            }
+            List<TreeItem<String>> children = new ArrayList<>();
+            for (int i = offset; i < childCount && i - offset < count; i++) {
+                children.add(new TreeItem<>(v + "." + i));
+            }
+            return children;
+        });
+        item.setExecutor(executor);
+        return item;
+    }
+
+    // runs the queued loads, each of which delivers its result immediately
+    // as runLater is synchronous with the stub toolkit
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    @Test public void testNotLoadedUntilExpanded() {
+        LazyTreeItem<String> item = createItem("a");
+        assertFalse(item.isLeaf());
+        assertTrue(item.getChildren().isEmpty());
+        assertTrue(tasks.isEmpty());
+
+        item.setExpanded(true);
+        assertTrue(item.isLoading());
+        assertEquals(1, item.getChildren().size());
+        assertTrue(LazyTreeItem.isPlaceholder(item.getChildren().get(0)));
+        assertNull(item.getChildren().get(0).getValue());
+
+        runTasks();
+        assertFalse(item.isLoading());
+        assertEquals(List.of("a 0 " + Integer.MAX_VALUE), requests);
+        assertEquals(5, item.getChildren().size());
+        assertEquals("a.0", item.getChildren().get(0).getValue());
+        assertFalse(LazyTreeItem.isPlaceholder(item.getChildren().get(4)));
+        assertFalse(item.isLeaf());
+
+        // collapsing and expanding again does not reload
+        item.setExpanded(false);
+        item.setExpanded(true);
+        assertTrue(tasks.isEmpty());
+        assertEquals(5, item.getChildren().size());
+    }
+
+    @Test public void testNoChildrenBecomesLeaf() {
+        childCount = 0;
+        LazyTreeItem<String> item = createItem("a");
+        item.setExpanded(true);
+        runTasks();
+        assertTrue(item.getChildren().isEmpty());
+        assertTrue(item.isLeaf());
+    }
+
+    @Test public void testPaging() {
+        LazyTreeItem<String> item = createItem("a");
+        item.setPageSize(2);
+        item.setExpanded(true);
+
+        tasks.remove(0).run();
+        assertEquals(3, item.getChildren().size());
+        assertTrue(LazyTreeItem.isPlaceholder(item.getChildren().get(2)));
+        assertTrue(item.isLoading());
+
+        runTasks();
+        assertEquals(List.of("a 0 2", "a 2 2", "a 4 2"), requests);
+        assertEquals(5, item.getChildren().size());
+        assertEquals("a.4", item.getChildren().get(4).getValue());
+        assertFalse(item.isLoading());
+    }
+
+    @Test public void testFailureCollapsesAndRetries() {
+        failure = new RuntimeException("offline");
+        LazyTreeItem<String> item = createItem("a");
+        item.setExpanded(true);
+        runTasks();
+        assertSame(failure, item.getException());
+        assertFalse(item.isExpanded());
+        assertFalse(item.isLoading());
+        assertTrue(item.getChildren().isEmpty());
+
+        failure = null;
+        item.setExpanded(true);
+        runTasks();
+        assertNull(item.getException());
+        assertEquals(5, item.getChildren().size());
+    }
+
+    @Test public void testReloadDiscardsLoadInProgress() {
+        LazyTreeItem<String> item = createItem("a");
+        item.setExpanded(true);
+        Runnable stale = tasks.remove(0);
+
+        childCount = 3;
+        item.reload();
+        stale.run();
+        assertTrue(item.isLoading());
+        assertEquals(1, item.getChildren().size());
+
+        runTasks();
+        assertEquals(3, item.getChildren().size());
+        assertFalse(item.isLoading());
+    }
+
+    @Test public void testTreeViewRowsAndSelection() {
+        LazyTreeItem<String> root = createItem("r");
+        root.setPageSize(2);
+        TreeView<String> treeView = new TreeView<>(root);
+        root.setExpanded(true);
+        assertEquals(2, treeView.getExpandedItemCount());
+
+        tasks.remove(0).run();
+        assertEquals(4, treeView.getExpandedItemCount());
+        treeView.getSelectionModel().select(2);
+        assertEquals("r.1", treeView.getSelectionModel().getSelectedItem().getValue());
+
+        runTasks();
+        assertEquals(6, treeView.getExpandedItemCount());
+        assertEquals(2, treeView.getSelectionModel().getSelectedIndex());
+        assertEquals("r.1", treeView.getSelectionModel().getSelectedItem().getValue());
+        assertEquals("r.4", treeView.getTreeItem(5).getValue());
+    }
+
+    @Test public void testTreeViewShowsPlaceholder() {
+        LazyTreeItem<String> root = createItem("r");
+        TreeView<String> treeView = new TreeView<>(root);
+        root.setExpanded(true);
+        stageLoader = new StageLoader(treeView);
+
+        IndexedCell cell = VirtualFlowTestUtils.getCell(treeView, 1);
+        assertTrue(cell.getGraphic() instanceof Label);
+        assertSame(root.getChildren().get(0).getGraphic(), cell.getGraphic());
+
+        runTasks();
+        Toolkit.getToolkit().firePulse();
+        cell = VirtualFlowTestUtils.getCell(treeView, 1);
+        assertEquals("r.0", cell.getText());
+    }
+}
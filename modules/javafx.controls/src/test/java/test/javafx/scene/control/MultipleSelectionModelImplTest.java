@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -1445,4 +1445,29 @@ public class MultipleSelectionModelImplTest {
 
         assertEquals(2, model.getSelectedIndices().size());
     }
+
+    @Test public void testSelectedIndicesList_ShiftKeepsSelectedItems() {
+        model.clearSelection();
+        model.setSelectionMode(SelectionMode.MULTIPLE);
+        for (int i = 1; i < 20; i += 2) {
+            model.select(i);
+        }
+        List<Object> selectedItems = new ArrayList<>(model.getSelectedItems());
+
+        addItem(4, isTree() ? new TreeItem<>("new item") : "new item");
+        addItem(0, isTree() ? new TreeItem<>("first item") : "first item");
+
+        assertEquals(selectedItems, model.getSelectedItems());
+        assertEquals(selectedItems.size(), model.getSelectedIndices().size());
+
+        // walk the selected indices backwards, then in no particular order
+        List<Integer> selectedIndices = new ArrayList<>(model.getSelectedIndices());
+        for (int i = selectedIndices.size() - 1; i >= 0; i--) {
+            assertEquals(selectedIndices.get(i), model.getSelectedIndices().get(i));
+            assertEquals(i, model.getSelectedIndices().indexOf(selectedIndices.get(i)));
+        }
+        for (int i : new int[] { 7, 0, 9, 3, 4, 8, 1 }) {
+            assertEquals(selectedIndices.get(i), model.getSelectedIndices().get(i));
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -32,6 +32,7 @@ import static javafx.collections.FXCollections.*;
 import static org.junit.Assert.*;
 
 import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -648,6 +649,172 @@ public class TableViewTest {
         VirtualFlowTestUtils.assertListContainsItemsInOrder(table.getItems(), "Apple", "Orange", "Banana");
     }
 
+    private void runSortTasks(List<Runnable> tasks) {
+        // the sort results are applied immediately, as runLater is
+        // synchronous with the stub toolkit
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    @Test public void testAsyncSortPolicySortsInBackground() {
+        List<Runnable> tasks = new ArrayList<>();
+        Executor executor = TableViewShim.getSortExecutor();
+        TableViewShim.setSortExecutor(tasks::add);
+        try {
+            TableColumn<String, String> col = initSortTestStructure();
+            table.setSortPolicy((Callback) TableView.ASYNC_SORT_POLICY);
+            table.getSortOrder().add(col);
+            assertTrue(table.isSorting());
+            assertTrue(table.getPseudoClassStates().contains(PseudoClass.getPseudoClass("sorting")));
+            VirtualFlowTestUtils.assertListContainsItemsInOrder(table.getItems(), "Apple", "Orange", "Banana");
+
+            List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+            table.getItems().addListener((ListChangeListener<String>) c -> changes.add(c));
+            runSortTasks(tasks);
+            assertFalse(table.isSorting());
+            assertFalse(table.getPseudoClassStates().contains(PseudoClass.getPseudoClass("sorting")));
+            VirtualFlowTestUtils.assertListContainsItemsInOrder(table.getItems(), "Apple", "Banana", "Orange");
+
+            // the items are reordered with a single permutation
+            assertEquals(1, changes.size());
+            assertTrue(changes.get(0).next());
+            assertTrue(changes.get(0).wasPermutated());
+        } finally {
+            TableViewShim.setSortExecutor(executor);
+        }
+    }
+
+    @Test public void testAsyncSortPolicyCancelsSortInProgress() {
+        List<Runnable> tasks = new ArrayList<>();
+        Executor executor = TableViewShim.getSortExecutor();
+        TableViewShim.setSortExecutor(tasks::add);
+        try {
+            TableColumn<String, String> col = initSortTestStructure();
+            table.setSortPolicy((Callback) TableView.ASYNC_SORT_POLICY);
+            table.getSortOrder().add(col);
+            col.setSortType(DESCENDING);
+            assertEquals(2, tasks.size());
+
+            // the first sort has been cancelled, so does nothing
+            tasks.remove(0).run();
+            assertTrue(table.isSorting());
+            VirtualFlowTestUtils.assertListContainsItemsInOrder(table.getItems(), "Apple", "Orange", "Banana");
+
+            runSortTasks(tasks);
+            assertFalse(table.isSorting());
+            VirtualFlowTestUtils.assertListContainsItemsInOrder(table.getItems(), "Orange", "Banana", "Apple");
+        } finally {
+            TableViewShim.setSortExecutor(executor);
+        }
+    }
+
+    @Test public void testAsyncSortPolicySortsAgainWhenItemsChange() {
+        List<Runnable> tasks = new ArrayList<>();
+        Executor executor = TableViewShim.getSortExecutor();
+        TableViewShim.setSortExecutor(tasks::add);
+        try {
+            TableColumn<String, String> col = initSortTestStructure();
+            table.setSortPolicy((Callback) TableView.ASYNC_SORT_POLICY);
+            table.getSortOrder().add(col);
+            table.getItems().add("Cherry");
+
+            // the first sort no longer matches the items, so another is started
+            tasks.remove(0).run();
+            assertTrue(table.isSorting());
+            assertEquals(1, tasks.size());
+
+            runSortTasks(tasks);
+            assertFalse(table.isSorting());
+            VirtualFlowTestUtils.assertListContainsItemsInOrder(table.getItems(), "Apple", "Banana", "Cherry", "Orange");
+        } finally {
+            TableViewShim.setSortExecutor(executor);
+        }
+    }
+
+    @Test public void testAsyncSortPolicyCancelsSortWhenItemsReplaced() {
+        List<Runnable> tasks = new ArrayList<>();
+        Executor executor = TableViewShim.getSortExecutor();
+        TableViewShim.setSortExecutor(tasks::add);
+        try {
+            TableColumn<String, String> col = initSortTestStructure();
+            table.setSortPolicy((Callback) TableView.ASYNC_SORT_POLICY);
+            table.getSortOrder().add(col);
+            ObservableList<String> oldItems = table.getItems();
+            assertTrue(table.isSorting());
+
+            // the sort of the old items must not be applied to either list. A
+            // SortedList keeps the sort order, so this does not sort again
+            table.setItems(new SortedList<>(FXCollections.observableArrayList("Pear", "Fig", "Lime")));
+            assertFalse(table.isSorting());
+
+            runSortTasks(tasks);
+            assertFalse(table.isSorting());
+            VirtualFlowTestUtils.assertListContainsItemsInOrder(oldItems, "Apple", "Orange", "Banana");
+            VirtualFlowTestUtils.assertListContainsItemsInOrder(table.getItems(), "Pear", "Fig", "Lime");
+        } finally {
+            TableViewShim.setSortExecutor(executor);
+        }
+    }
+
+    @Test public void testAsyncSortPolicyBacksOutChangeWhenComparatorFails() {
+        List<Runnable> tasks = new ArrayList<>();
+        Executor executor = TableViewShim.getSortExecutor();
+        TableViewShim.setSortExecutor(tasks::add);
+        try {
+            TableColumn<String, String> col = initSortTestStructure();
+            table.setSortPolicy((Callback) TableView.ASYNC_SORT_POLICY);
+            col.setComparator((s1, s2) -> {
+                throw new IllegalStateException("comparator failure");
+            });
+
+            // the failed sort backs out the addition to the sort order
+            table.getSortOrder().add(col);
+            runSortTasks(tasks);
+            assertFalse(table.isSorting());
+            assertTrue(table.getSortOrder().isEmpty());
+            assertNull(table.getComparator());
+            VirtualFlowTestUtils.assertListContainsItemsInOrder(table.getItems(), "Apple", "Orange", "Banana");
+
+            // the failed sort backs out the change of the sort type
+            col.setComparator(TableColumn.DEFAULT_COMPARATOR);
+            table.getSortOrder().add(col);
+            runSortTasks(tasks);
+            VirtualFlowTestUtils.assertListContainsItemsInOrder(table.getItems(), "Apple", "Banana", "Orange");
+            col.setComparator((s1, s2) -> {
+                throw new IllegalStateException("comparator failure");
+            });
+            runSortTasks(tasks);
+            col.setSortType(DESCENDING);
+            runSortTasks(tasks);
+            assertFalse(table.isSorting());
+            assertEquals(ASCENDING, col.getSortType());
+            assertEquals(1, table.getSortOrder().size());
+            VirtualFlowTestUtils.assertListContainsItemsInOrder(table.getItems(), "Apple", "Banana", "Orange");
+        } finally {
+            TableViewShim.setSortExecutor(executor);
+        }
+    }
+
+    @Test public void testAsyncSortPolicyKeepsSelectedItem() {
+        List<Runnable> tasks = new ArrayList<>();
+        Executor executor = TableViewShim.getSortExecutor();
+        TableViewShim.setSortExecutor(tasks::add);
+        try {
+            TableColumn<String, String> col = initSortTestStructure();
+            sm.select(2);
+            assertEquals("Banana", sm.getSelectedItem());
+
+            table.setSortPolicy((Callback) TableView.ASYNC_SORT_POLICY);
+            table.getSortOrder().add(col);
+            runSortTasks(tasks);
+            assertEquals("Banana", sm.getSelectedItem());
+            assertEquals(1, sm.getSelectedIndex());
+        } finally {
+            TableViewShim.setSortExecutor(executor);
+        }
+    }
+
     @Test public void testFailedSortPolicyBacksOutLastChange_sortOrderAddition() {
         TableColumn<String, String> col = initSortTestStructure();
         col.setSortType(DESCENDING);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -3935,6 +3936,157 @@ public class TreeViewTest {
         assertTrue(scrolledCell.isVisible());
     }
 
+    private static void addVisibleItems(TreeItem<String> item, List<TreeItem<String>> items) {
+        items.add(item);
+        if (item.isExpanded()) {
+            for (TreeItem<String> child : item.getChildren()) {
+                addVisibleItems(child, items);
+            }
+        }
+    }
+
+    private static void assertRowsMatch(TreeView<String> treeView) {
+        List<TreeItem<String>> items = new ArrayList<>();
+        addVisibleItems(treeView.getRoot(), items);
+
+        assertEquals(items.size(), treeView.getExpandedItemCount());
+        for (int row = 0; row < items.size(); row++) {
+            assertSame(items.get(row), treeView.getTreeItem(row));
+            assertEquals(row, treeView.getRow(items.get(row)));
+        }
+        assertNull(treeView.getTreeItem(items.size()));
+    }
+
+    @Test
+    public void testRowMappingAfterExpansionAndChildrenChanges() {
+        Random random = new Random(8);
+        List<TreeItem<String>> all = new ArrayList<>();
+        TreeItem<String> rootNode = new TreeItem<>("Root");
+        rootNode.setExpanded(true);
+        all.add(rootNode);
+        for (int i = 1; i < 500; i++) {
+            TreeItem<String> item = new TreeItem<>("Item " + i);
+            all.get(random.nextInt(all.size())).getChildren().add(item);
+            all.add(item);
+        }
+        TreeView<String> treeView = new TreeView<>(rootNode);
+        assertRowsMatch(treeView);
+
+        for (int i = 0; i < 200; i++) {
+            TreeItem<String> item = all.get(random.nextInt(all.size()));
+            if (i % 5 == 0 && item != rootNode) {
+                TreeItem<String> added = new TreeItem<>("Added " + i);
+                added.setExpanded(true);
+                added.getChildren().add(new TreeItem<>("Added child " + i));
+                List<TreeItem<String>> siblings = item.getParent().getChildren();
+                siblings.add(random.nextInt(siblings.size() + 1), added);
+                all.add(added);
+            } else if (item != rootNode) {
+                item.setExpanded(!item.isExpanded());
+            }
+            assertEquals(-1, treeView.getRow(new TreeItem<>("Not in tree")));
+            assertRowsMatch(treeView);
+        }
+    }
+
+    @Test
+    public void testRowMappingInDeepTree() {
+        TreeItem<String> rootNode = new TreeItem<>("Root");
+        rootNode.setExpanded(true);
+        List<TreeItem<String>> chain = new ArrayList<>();
+        TreeItem<String> parent = rootNode;
+        for (int depth = 0; depth < 50; depth++) {
+            parent.getChildren().add(new TreeItem<>("Before " + depth));
+            TreeItem<String> item = new TreeItem<>("Depth " + depth);
+            item.setExpanded(true);
+            parent.getChildren().add(item);
+            parent.getChildren().add(new TreeItem<>("After " + depth));
+            chain.add(item);
+            parent = item;
+        }
+        TreeView<String> treeView = new TreeView<>(rootNode);
+        assertRowsMatch(treeView);
+
+        for (int depth : new int[] {49, 10, 30, 0, 30, 10, 0, 49}) {
+            TreeItem<String> item = chain.get(depth);
+            item.setExpanded(!item.isExpanded());
+            assertRowsMatch(treeView);
+        }
+    }
+
+    @Test
+    public void testExpandedItemCountWithChildrenChangedWithoutEvents() {
+        // a TreeItem with its own children list, which it changes without
+        // firing any modification events
+        ObservableList<TreeItem<String>> silentChildren = FXCollections.observableArrayList();
+        TreeItem<String> silentNode = new TreeItem<String>("Silent") {
+            @Override public ObservableList<TreeItem<String>> getChildren() {
+                return silentChildren;
+            }
+
+            @Override public boolean isLeaf() {
+                return silentChildren.isEmpty();
+            }
+        };
+        silentNode.setExpanded(true);
+        silentChildren.add(new TreeItem<>("Silent child 1"));
+
+        TreeItem<String> other = new TreeItem<>("Other");
+        other.getChildren().add(new TreeItem<>("Other child"));
+        TreeItem<String> rootNode = new TreeItem<>("Root");
+        rootNode.setExpanded(true);
+        rootNode.getChildren().addAll(silentNode, other);
+
+        TreeView<String> treeView = new TreeView<>(rootNode);
+        assertEquals(4, treeView.getExpandedItemCount());
+
+        // the view only picks up the silent change when it is refreshed
+        silentChildren.add(new TreeItem<>("Silent child 2"));
+        other.setExpanded(true);
+        treeView.refresh();
+        assertEquals(6, treeView.getExpandedItemCount());
+        assertEquals("Other", treeView.getTreeItem(4).getValue());
+    }
+
+    @Test
+    public void testExpansionOnlyRecountsChangedBranch() {
+        // counts the calls to getChildren() of a branch that does not change
+        int[] childrenCalls = new int[1];
+        TreeItem<String> unchanged = new TreeItem<String>("Unchanged") {
+            @Override public ObservableList<TreeItem<String>> getChildren() {
+                childrenCalls[0]++;
+                return super.getChildren();
+            }
+        };
+        unchanged.setExpanded(true);
+        for (int i = 0; i < 100; i++) {
+            unchanged.getChildren().add(new TreeItem<>("Unchanged child " + i));
+        }
+
+        TreeItem<String> toggled = new TreeItem<>("Toggled");
+        toggled.getChildren().add(new TreeItem<>("Toggled child"));
+        TreeItem<String> rootNode = new TreeItem<>("Root");
+        rootNode.setExpanded(true);
+        rootNode.getChildren().addAll(unchanged, toggled);
+
+        TreeView<String> treeView = new TreeView<>(rootNode);
+        assertRowsMatch(treeView);
+
+        childrenCalls[0] = 0;
+        for (int i = 0; i < 10; i++) {
+            toggled.setExpanded(!toggled.isExpanded());
+            assertEquals(i % 2 == 0 ? 104 : 103, treeView.getExpandedItemCount());
+            assertEquals(102, treeView.getRow(toggled));
+            assertSame(toggled, treeView.getTreeItem(102));
+        }
+        assertEquals(0, childrenCalls[0]);
+
+        // refreshing the view recounts the whole tree
+        treeView.refresh();
+        assertEquals(103, treeView.getExpandedItemCount());
+        assertTrue(childrenCalls[0] > 0);
+    }
+
     public static class MisbehavingOnCancelTreeCell<S> extends TreeCell<S> {
 
         @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,12 +25,18 @@
 
 package test.javafx.scene.control.skin;
 
+import com.sun.javafx.scene.control.VirtualScrollBar;
 import com.sun.javafx.tk.Toolkit;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.control.IndexedCell;
+import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.scene.control.skin.VirtualFlow;
+import javafx.scene.control.skin.VirtualFlowShim;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -38,7 +44,12 @@ import test.com.sun.javafx.scene.control.infrastructure.StageLoader;
 import test.com.sun.javafx.scene.control.infrastructure.VirtualFlowTestUtils;
 import test.com.sun.javafx.scene.control.test.Person;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class TableRowSkinTest {
 
@@ -94,6 +105,43 @@ public class TableRowSkinTest {
         invisibleColumnsShouldRemoveCorrespondingCellsInRowImpl();
     }
 
+    @Test
+    public void onlyColumnsInViewShouldHaveCellsInRowFixedCellSize() {
+        tableView.setFixedCellSize(24);
+        tableView.setPrefWidth(400);
+
+        int[] cellCount = new int[1];
+        for (int i = 0; i < 200; i++) {
+            TableColumn<Person, String> column = new TableColumn<>("Column" + i);
+            column.setCellValueFactory(new PropertyValueFactory<>("firstName"));
+            column.setCellFactory(col -> {
+                cellCount[0]++;
+                return new TableCell<>();
+            });
+            tableView.getColumns().add(column);
+        }
+
+        Toolkit.getToolkit().firePulse();
+
+        // each column creates one cell to size its header, but the rows should
+        // only have created cells for the columns in view
+        IndexedCell<?> row = VirtualFlowTestUtils.getCell(tableView, 0);
+        assertCellsMatchLeafColumnsInViewport();
+        assertTrue(row.getChildrenUnmodifiable().size() < 20);
+        assertTrue(cellCount[0] < 2 * 200);
+
+        // scrolling to the far right should create cells for the last columns
+        VirtualScrollBar hbar = VirtualFlowTestUtils.getVirtualFlowHorizontalScrollbar(tableView);
+        hbar.setValue(hbar.getMax());
+        Toolkit.getToolkit().firePulse();
+
+        TableColumn<Person, ?> lastColumn = tableView.getColumns().get(tableView.getColumns().size() - 1);
+        assertCellsMatchLeafColumnsInViewport();
+        assertTrue(row.getChildrenUnmodifiable().size() < 20);
+        assertTrue(row.getChildrenUnmodifiable().stream()
+                .anyMatch(n -> n instanceof TableCell && ((TableCell<?,?>) n).getTableColumn() == lastColumn));
+    }
+
     @After
     public void after() {
         stageLoader.dispose();
@@ -107,8 +155,7 @@ public class TableRowSkinTest {
         Toolkit.getToolkit().firePulse();
 
         // We set 2 columns to invisible, so the cell count should be decremented by 2 as well.
-        assertEquals(tableView.getColumns().size() - 2,
-                VirtualFlowTestUtils.getCell(tableView, 0).getChildrenUnmodifiable().size());
+        assertCellsMatchVisibleLeafColumns(tableView.getColumns().size() - 2);
     }
 
     private void removedColumnsShouldRemoveCorrespondingCellsInRowImpl() {
@@ -118,8 +165,42 @@ public class TableRowSkinTest {
         Toolkit.getToolkit().firePulse();
 
         // We removed 2 columns, so the cell count should be decremented by 2 as well.
-        assertEquals(tableView.getColumns().size(),
-                VirtualFlowTestUtils.getCell(tableView, 0).getChildrenUnmodifiable().size());
+        assertCellsMatchVisibleLeafColumns(tableView.getColumns().size());
+    }
+
+    private void assertCellsMatchVisibleLeafColumns(int expectedColumnCount) {
+        assertEquals(expectedColumnCount, tableView.getVisibleLeafColumns().size());
+
+        if (tableView.getFixedCellSize() > 0) {
+            // with a fixed cell size the row only has cells for the columns in view
+            assertCellsMatchLeafColumnsInViewport();
+        } else {
+            assertEquals(expectedColumnCount,
+                    VirtualFlowTestUtils.getCell(tableView, 0).getChildrenUnmodifiable().size());
+        }
+    }
+
+    private void assertCellsMatchLeafColumnsInViewport() {
+        VirtualFlow<?> flow = VirtualFlowTestUtils.getVirtualFlow(tableView);
+        double scrollX = VirtualFlowTestUtils.getVirtualFlowHorizontalScrollbar(tableView).getValue();
+        double viewportEnd = scrollX + VirtualFlowShim.get_viewportBreadth(flow);
+
+        List<TableColumn<Person, ?>> expectedColumns = new ArrayList<>();
+        double start = 0;
+        for (TableColumn<Person, ?> column : tableView.getVisibleLeafColumns()) {
+            double end = start + column.getWidth();
+            if ((start >= scrollX || end > scrollX) && (start < viewportEnd || end <= viewportEnd)) {
+                expectedColumns.add(column);
+            }
+            start = end;
+        }
+        assertFalse(expectedColumns.isEmpty());
+
+        List<TableColumn<?, ?>> cellColumns = new ArrayList<>();
+        for (Node child : VirtualFlowTestUtils.getCell(tableView, 0).getChildrenUnmodifiable()) {
+            cellColumns.add(((TableCell<?, ?>) child).getTableColumn());
+        }
+        assertEquals(expectedColumns, cellColumns);
     }
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -1768,6 +1768,50 @@ assertEquals(0, firstCell.getIndex());
         assertEquals(29, idx);
     }
 
+    @Test
+    public void testOverscanPreparesCellsBeyondViewport() {
+        flow.setOverscan(5);
+        pulse();
+
+        int lastIndex = VirtualFlowShim.<IndexedCell>cells_getLast(flow.cells).getIndex();
+        List<IndexedCell> prepared = new ArrayList<>();
+        for (int i = lastIndex + 1; i <= lastIndex + 5; i++) {
+            IndexedCell cell = getSheetCell(i);
+            assertNotNull("no cell prepared for index " + i, cell);
+            assertFalse(cell.isVisible());
+            prepared.add(cell);
+        }
+
+        // the prepared cells are used as they scroll into view
+        flow.scrollPixels(5 * 25);
+        for (IndexedCell cell : prepared) {
+            assertSame(cell, flow.getVisibleCell(cell.getIndex()));
+            assertTrue(cell.isVisible());
+        }
+    }
+
+    @Test
+    public void testScrollToTopWithVariableCellSizes() {
+        // index 29 is four times the size of the other cells
+        for (int index : new int[] { 60, 5, 30, 29, 28, 0 }) {
+            flow.scrollToTop(index);
+            pulse();
+            assertEquals(index, flow.shim_computeCurrentIndex());
+            IndexedCell cell = VirtualFlowShim.<IndexedCell>cells_getFirst(flow.cells);
+            assertEquals(index, cell.getIndex());
+            assertEquals(0, flow.getCellPosition(cell), 0.0);
+        }
+    }
+
+    private IndexedCell getSheetCell(int index) {
+        for (Node node : flow.sheetChildren) {
+            if (node instanceof IndexedCell && ((IndexedCell) node).getIndex() == index) {
+                return (IndexedCell) node;
+            }
+        }
+        return null;
+    }
+
 }
 
 class GraphicalCellStub extends IndexedCellShim<Node> {
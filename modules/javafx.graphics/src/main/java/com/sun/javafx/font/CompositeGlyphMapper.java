@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,7 +25,8 @@
 
 package com.sun.javafx.font;
 
-import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class CompositeGlyphMapper extends CharToGlyphMapper {
 
@@ -41,8 +42,11 @@ public class CompositeGlyphMapper extends CharToGlyphMapper {
     private static final int ASCII_COUNT =
             SIMPLE_ASCII_MASK_END - SIMPLE_ASCII_MASK_START + 1;
 
-    private boolean asciiCacheOK;
-    private char charToGlyph[]; // Quick lookup
+    /* Glyphs can be mapped by several threads at once (see PrismTextLayout),
+     * the quick lookup array is only published once fully initialized.
+     */
+    private volatile boolean asciiCacheOK;
+    private volatile char charToGlyph[]; // Quick lookup
 
     CompositeFontResource font;
     CharToGlyphMapper slotMappers[];
@@ -52,18 +56,20 @@ public class CompositeGlyphMapper extends CharToGlyphMapper {
      * perhaps for less common values, just not cache at all if
      * lookup is relatively inexpensive. Or let the slot fonts do
      * the caching ? So a variety of strategies are possible.
+     * The map is concurrent as large texts are mapped to glyphs
+     * by several threads at once (see PrismTextLayout).
      */
-    HashMap<Integer, Integer> glyphMap;
+    Map<Integer, Integer> glyphMap;
 
     public CompositeGlyphMapper(CompositeFontResource compFont) {
         font = compFont;
         missingGlyph = 0; // TrueType font standard, avoids lookup.
-        glyphMap = new HashMap<Integer, Integer>();
+        glyphMap = new ConcurrentHashMap<Integer, Integer>();
         slotMappers = new CharToGlyphMapper[compFont.getNumSlots()];
         asciiCacheOK = true;
     }
 
-    private final CharToGlyphMapper getSlotMapper(int slot) {
+    private synchronized CharToGlyphMapper getSlotMapper(int slot) {
         if (slot >= slotMappers.length) {
             CharToGlyphMapper[] tmp = new CharToGlyphMapper[font.getNumSlots()];
             System.arraycopy(slotMappers, 0, tmp, 0, slotMappers.length);
@@ -115,28 +121,39 @@ public class CompositeGlyphMapper extends CharToGlyphMapper {
             return -1;
         }
 
-        // Construct charToGlyph array of all ASCII characters
-        if (charToGlyph == null) {
-            char glyphCodes[] = new char[ASCII_COUNT];
-            CharToGlyphMapper mapper = getSlotMapper(0);
-            int missingGlyphCode = mapper.getMissingGlyphCode();
-            for (int i = 0; i < ASCII_COUNT; i++) {
-                int glyphCode = mapper.charToGlyph(SIMPLE_ASCII_MASK_START + i);
-                if (glyphCode == missingGlyphCode) {
-                    // If any glyphCode is missing, then do not use charToGlyph
-                    // array.
-                    charToGlyph = null;
-                    asciiCacheOK = false;
-                    return -1;
-                }
-                // Slot 0 mask is 0, so can use this glyphCode directly
-                glyphCodes[i] = (char)glyphCode;
+        char[] glyphCodes = charToGlyph;
+        if (glyphCodes == null) {
+            glyphCodes = initAsciiCache();
+            if (glyphCodes == null) {
+                return -1;
             }
-            charToGlyph = glyphCodes;
         }
 
         int index = charCode - SIMPLE_ASCII_MASK_START;
-        return charToGlyph[index];
+        return glyphCodes[index];
+    }
+
+    // Construct charToGlyph array of all ASCII characters
+    private synchronized char[] initAsciiCache() {
+        if (charToGlyph != null || !asciiCacheOK) {
+            return charToGlyph;
+        }
+        char glyphCodes[] = new char[ASCII_COUNT];
+        CharToGlyphMapper mapper = getSlotMapper(0);
+        int missingGlyphCode = mapper.getMissingGlyphCode();
+        for (int i = 0; i < ASCII_COUNT; i++) {
+            int glyphCode = mapper.charToGlyph(SIMPLE_ASCII_MASK_START + i);
+            if (glyphCode == missingGlyphCode) {
+                // If any glyphCode is missing, then do not use charToGlyph
+                // array.
+                asciiCacheOK = false;
+                return null;
+            }
+            // Slot 0 mask is 0, so can use this glyphCode directly
+            glyphCodes[i] = (char)glyphCode;
+        }
+        charToGlyph = glyphCodes;
+        return glyphCodes;
     }
 
     public int getGlyphCode(int charCode) {
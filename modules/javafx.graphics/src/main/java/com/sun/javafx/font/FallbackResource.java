@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -155,14 +155,17 @@ class FallbackResource implements CompositeFontResource {
         return false;
     }
 
-    public CharToGlyphMapper getGlyphMapper() {
+    /* The glyph mapper and the slots can be used by several threads at
+     * once, see PrismTextLayout.
+     */
+    public synchronized CharToGlyphMapper getGlyphMapper() {
         if (mapper == null) {
             mapper = new CompositeGlyphMapper(this);
         }
         return mapper;
     }
 
-    public int getSlotForFont(String fontName) {
+    public synchronized int getSlotForFont(String fontName) {
         getLinkedFonts();
         int i = 0;
         for (String linkedFontName : linkedFontNames) {
@@ -241,7 +244,7 @@ class FallbackResource implements CompositeFontResource {
         }
     }
 
-    public int getNumSlots() {
+    public synchronized int getNumSlots() {
         getLinkedFonts();
         int num = linkedFontFiles.size();
         if (nativeFallbacks != null) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,12 +25,18 @@
 
 package com.sun.javafx.font;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.security.PrivilegedActionException;
+import sun.misc.Unsafe;
 
 /*
  * Utility class to read font files.
@@ -40,8 +46,28 @@ class FontFileReader implements FontConstants {
     long filesize;
     RandomAccessFile raFile;
 
+    /* When enabled, files of at least MAPPING_THRESHOLD bytes are memory
+     * mapped the first time they are opened, which is when the font is
+     * initialized and most of its tables are read. The blocks are copied
+     * out of the mapping, and the mapping is released as soon as the file
+     * is closed, so installed fonts are not held open for the life time of
+     * the font. Later opens to lazily read a single table use the
+     * RandomAccessFile, as mapping the whole file again for one table does
+     * not pay off. Only used for files that are never deleted while the
+     * font is in use, as some platforms do not allow a mapped file to be
+     * deleted.
+     */
+    static final int MAPPING_THRESHOLD = 0x100000;
+    private boolean useMapping;
+    private ByteBuffer mappedFile;
+
     public FontFileReader(String filename) {
+        this(filename, false);
+    }
+
+    public FontFileReader(String filename, boolean useMapping) {
         this.filename = filename;
+        this.useMapping = useMapping;
     }
 
     public String getFilename() {
@@ -56,9 +82,33 @@ class FontFileReader implements FontConstants {
      */
     @SuppressWarnings("removal")
     public synchronized boolean openFile() throws PrivilegedActionException {
-        if (raFile != null) {
+        if (raFile != null || mappedFile != null) {
             return false;
         }
+        if (useMapping && new File(filename).length() >= MAPPING_THRESHOLD) {
+            useMapping = false;
+            mappedFile = AccessController.doPrivileged(
+                    (PrivilegedAction<ByteBuffer>) () -> {
+                        try (FileChannel fc = FileChannel.open(new File(filename).toPath(),
+                                                               StandardOpenOption.READ)) {
+                            long size = fc.size();
+                            if (size > Integer.MAX_VALUE) {
+                                return null;
+                            }
+                            return fc.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                        } catch (IOException | UnsupportedOperationException e) {
+                            if (PrismFontFactory.debugFonts) {
+                                System.err.println("Cannot map font file " + filename + ": " + e);
+                            }
+                            return null;
+                        }
+                    }
+            );
+            if (mappedFile != null) {
+                filesize = mappedFile.capacity();
+                return true;
+            }
+        }
         raFile = AccessController.doPrivileged(
                 (PrivilegedAction<RandomAccessFile>) () -> {
                     try {
@@ -79,6 +129,10 @@ class FontFileReader implements FontConstants {
     }
 
     public synchronized void closeFile() throws IOException {
+        if (mappedFile != null) {
+            unmap(mappedFile);
+            mappedFile = null;
+        }
         if (raFile != null) {
             raFile.close();
             raFile = null;
@@ -86,6 +140,42 @@ class FontFileReader implements FontConstants {
         }
     }
 
+    private static Unsafe unsafe;
+
+    /* Releases the mapping right away rather than when the buffer is
+     * collected, so that the file is no longer locked by the mapping.
+     * No other view of the mapping may be used afterwards.
+     */
+    @SuppressWarnings("removal")
+    private static void unmap(ByteBuffer buffer) {
+        if (unsafe == null) {
+            unsafe = AccessController.doPrivileged(
+                    (PrivilegedAction<Unsafe>) () -> {
+                        try {
+                            Field field = Unsafe.class.getDeclaredField("theUnsafe");
+                            field.setAccessible(true);
+                            return (Unsafe) field.get(null);
+                        } catch (Exception e) {
+                            return null;
+                        }
+                    }
+            );
+        }
+        if (unsafe != null) {
+            try {
+                unsafe.invokeCleaner(buffer);
+            } catch (IllegalArgumentException e) {
+                if (PrismFontFactory.debugFonts) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    synchronized boolean isMapped() {
+        return mappedFile != null;
+    }
+
     public synchronized long getLength() {
         return filesize;
     }
@@ -97,7 +187,7 @@ class FontFileReader implements FontConstants {
     }
 
     static class Buffer {
-        byte[] data;
+        ByteBuffer data;
         int pos;
         int orig;
 
@@ -109,61 +199,46 @@ class FontFileReader implements FontConstants {
          * assumed to be careful.
          */
         Buffer(byte[] data, int bufStart) {
+            this(ByteBuffer.wrap(data), bufStart);
+        }
+
+        /**
+         * @param data the buffer, in big endian byte order
+         * @param bufStart the starting position within the data buffer.
+         */
+        Buffer(ByteBuffer data, int bufStart) {
             this.orig = this.pos = bufStart;
             this.data = data;
         }
 
         int getInt(int tpos) {
-            tpos += orig;
-            int val = data[tpos++]&0xff;
-            val <<= 8;
-            val |= data[tpos++]&0xff;
-            val <<= 8;
-            val |= data[tpos++]&0xff;
-            val <<= 8;
-            val |= data[tpos++]&0xff;
-            return val;
+            return data.getInt(orig + tpos);
         }
 
         int getInt() {
-            int val = data[pos++]&0xff;
-            val <<= 8;
-            val |= data[pos++]&0xff;
-            val <<= 8;
-            val |= data[pos++]&0xff;
-            val <<= 8;
-            val |= data[pos++]&0xff;
+            int val = data.getInt(pos);
+            pos += 4;
             return val;
         }
 
         short getShort(int tpos) {
-            tpos += orig;
-            int val = data[tpos++]&0xff;
-            val <<= 8;
-            val |= data[tpos++]&0xff;
-            return (short)val;
+            return data.getShort(orig + tpos);
         }
 
         short getShort() {
-            int val = data[pos++]&0xff;
-            val <<= 8;
-            val |= data[pos++]&0xff;
-            return (short)val;
+            short val = data.getShort(pos);
+            pos += 2;
+            return val;
         }
 
         char getChar(int tpos) {
-            tpos += orig;
-            int val = data[tpos++]&0xff;
-            val <<= 8;
-            val |= data[tpos++]&0xff;
-            return (char)val;
+            return data.getChar(orig + tpos);
         }
 
         char getChar() {
-            int val = data[pos++]&0xff;
-            val <<= 8;
-            val |= data[pos++]&0xff;
-            return (char)(val);
+            char val = data.getChar(pos);
+            pos += 2;
+            return val;
         }
 
         void position(int newPos) {
@@ -171,16 +246,16 @@ class FontFileReader implements FontConstants {
         }
 
         int capacity() {
-            return data.length-orig;
+            return data.capacity()-orig;
         }
 
         byte get() {
-            return data[pos++];
+            return data.get(pos++);
         }
 
         byte get(int tpos) {
             tpos += orig;
-            return data[tpos];
+            return data.get(tpos);
         }
 
         void skip(int nbytes) {
@@ -188,7 +263,9 @@ class FontFileReader implements FontConstants {
         }
 
         void get(int startPos, byte[] dest, int destPos, int destLen) {
-            System.arraycopy(data, orig+startPos, dest, destPos, destLen);
+            ByteBuffer src = data.duplicate();
+            src.position(orig+startPos);
+            src.get(dest, destPos, destLen);
         }
     }
 
@@ -231,6 +308,18 @@ class FontFileReader implements FontConstants {
     private int readBufferLen;
     private int readBufferStart;
     synchronized public Buffer readBlock(int offset, int len) {
+        if (mappedFile != null) {
+            /* As with the RandomAccessFile, a block that extends past
+             * the end of the file is only partially filled.
+             */
+            byte[] data = new byte[Math.max(len, 0)];
+            if (offset >= 0 && offset < filesize) {
+                ByteBuffer src = mappedFile.duplicate();
+                src.position(offset);
+                src.get(data, 0, (int)Math.min(data.length, filesize - offset));
+            }
+            return new Buffer(data, 0);
+        }
         if (readBuffer == null) {
             readBuffer = new byte[READBUFFERSIZE];
             readBufferLen = 0; // length of valid contents.
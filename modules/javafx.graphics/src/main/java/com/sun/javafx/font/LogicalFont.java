@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -185,9 +185,17 @@ public class LogicalFont implements CompositeFontResource {
         }
     }
 
-    private FontResource slot0FontResource;
+    private volatile FontResource slot0FontResource;
 
     private FontResource getSlot0Resource() {
+        FontResource resource = slot0FontResource;
+        if (resource != null) {
+            return resource;
+        }
+        return initSlot0Resource();
+    }
+
+    private synchronized FontResource initSlot0Resource() {
         if (slot0FontResource == null) {
             PrismFontFactory factory = PrismFontFactory.getFontFactory();
             if (physicalFamily != null) {
@@ -212,7 +220,7 @@ public class LogicalFont implements CompositeFontResource {
     private FontResource[] fallbacks;
     private FontResource[] nativeFallbacks;
 
-    private void getLinkedFonts() {
+    private synchronized void getLinkedFonts() {
         if (fallbacks == null) {
             ArrayList<String>[] linkedFontInfo;
             if (PrismFontFactory.isLinux) {
@@ -295,27 +303,34 @@ public class LogicalFont implements CompositeFontResource {
         if (slot == 0) {
             return getSlot0Resource();
         } else {
-            getLinkedFonts();
-            slot = slot - 1;
-            if (slot >= fallbacks.length) {
-                slot = slot - fallbacks.length;
-                if (nativeFallbacks == null || slot >= nativeFallbacks.length) {
-                    return null;
-                }
-                return nativeFallbacks[slot];
+            return getFallbackResource(slot);
+        }
+    }
+
+    /* Synchronized as glyphs can be mapped and measured by several threads
+     * at once, see PrismTextLayout.
+     */
+    private synchronized FontResource getFallbackResource(int slot) {
+        getLinkedFonts();
+        slot = slot - 1;
+        if (slot >= fallbacks.length) {
+            slot = slot - fallbacks.length;
+            if (nativeFallbacks == null || slot >= nativeFallbacks.length) {
+                return null;
             }
+            return nativeFallbacks[slot];
+        }
+        if (fallbacks[slot] == null) {
+            String file = linkedFontFiles.get(slot);
+            String name = linkedFontNames.get(slot);
+            fallbacks[slot] =
+                PrismFontFactory.getFontFactory().
+                      getFontResource(name, file, false);
             if (fallbacks[slot] == null) {
-                String file = linkedFontFiles.get(slot);
-                String name = linkedFontNames.get(slot);
-                fallbacks[slot] =
-                    PrismFontFactory.getFontFactory().
-                          getFontResource(name, file, false);
-                if (fallbacks[slot] == null) {
-                    fallbacks[slot] = getSlot0Resource();
-                }
+                fallbacks[slot] = getSlot0Resource();
             }
-            return fallbacks[slot];
         }
+        return fallbacks[slot];
     }
 
     public String getFullName() {
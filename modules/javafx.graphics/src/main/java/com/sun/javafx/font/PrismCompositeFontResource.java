@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -141,7 +141,7 @@ class PrismCompositeFontResource implements CompositeFontResource {
     }
 
     CompositeGlyphMapper mapper;
-    public CharToGlyphMapper getGlyphMapper() {
+    public synchronized CharToGlyphMapper getGlyphMapper() {
         if (mapper == null) {
             mapper = new CompositeGlyphMapper(this);
         }
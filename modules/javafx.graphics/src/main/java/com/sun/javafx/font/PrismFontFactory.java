@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -56,6 +56,7 @@ public abstract class PrismFontFactory implements FontFactory {
     public static final boolean isAndroid;
     public static final boolean isEmbedded;
     public static final int cacheLayoutSize;
+    public static final int parallelShapingThreshold;
     private static int subPixelMode;
     public static final int SUB_PIXEL_ON = 1;
     public static final int SUB_PIXEL_Y = 2;
@@ -92,6 +93,7 @@ public abstract class PrismFontFactory implements FontFactory {
         isAndroid = PlatformUtil.isAndroid();
         isEmbedded = PlatformUtil.isEmbedded();
         int[] tempCacheLayoutSize = {0x10000};
+        int[] tempParallelShapingThreshold = {0x10000};
 
         @SuppressWarnings("removal")
         boolean tmp = AccessController.doPrivileged(
@@ -151,11 +153,24 @@ public abstract class PrismFontFactory implements FontFactory {
                         }
                     }
 
+                    s = System.getProperty("prism.parallelShapingThreshold");
+                    if (s != null) {
+                        try {
+                            tempParallelShapingThreshold[0] = Integer.parseInt(s);
+                        } catch (NumberFormatException nfe) {
+                            if (debug) {
+                                System.err.println("Cannot parse parallel shaping threshold '"
+                                        + s + "'");
+                            }
+                        }
+                    }
+
                     return debug;
                 }
         );
         debugFonts = tmp;
         cacheLayoutSize = tempCacheLayoutSize[0];
+        parallelShapingThreshold = tempParallelShapingThreshold[0];
     }
 
     private static String getJDKFontDir() {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -470,7 +470,9 @@ public abstract class PrismFontFile implements FontResource, FontConstants {
      * Throws an exception if it doesn't like what it finds.
      */
     private void init(String name, int fIndex) throws Exception {
-        filereader = new FontFileReader(filename);
+        /* Temporary copies are deleted when the font is disposed, which
+         * some platforms do not allow while the file is mapped. */
+        filereader = new FontFileReader(filename, !isCopy);
         WoffDecoder decoder = null;
         try {
             if (!filereader.openFile()) {
@@ -1155,20 +1157,29 @@ public abstract class PrismFontFile implements FontResource, FontConstants {
         }
     }
 
-    private OpenTypeGlyphMapper mapper = null;
+    /* Volatile as glyphs can be mapped and measured by several threads
+     * at once, see PrismTextLayout. The same applies to advanceWidths.
+     */
+    private volatile OpenTypeGlyphMapper mapper = null;
 
     public CharToGlyphMapper getGlyphMapper() {
-        if (mapper == null) {
-            mapper = new OpenTypeGlyphMapper(this);
+        OpenTypeGlyphMapper m = mapper;
+        if (m == null) {
+            synchronized (this) {
+                m = mapper;
+                if (m == null) {
+                    m = mapper = new OpenTypeGlyphMapper(this);
+                }
+            }
         }
-        return mapper;
+        return m;
     }
 
     public FontStrike getStrike(float size, BaseTransform transform) {
         return getStrike(size, transform, getDefaultAAMode());
     }
 
-    char[] advanceWidths = null;
+    volatile char[] advanceWidths = null;
     /*
      * This is returning the unhinted advance, should be OK so
      * long as we do unhinted rendering. If we are doing hinted glyphs
@@ -1203,28 +1214,18 @@ public abstract class PrismFontFile implements FontResource, FontConstants {
             return 0f;
 
         // If we haven't initialised yet, do so now.
-        if (advanceWidths == null && numHMetrics > 0) {
-            synchronized (this) {
-                Buffer hmtx = readTable(hmtxTag);
-                if (hmtx == null) {
-                    numHMetrics = -1;
-                    return 0;
-                }
-                char[] aw = new char[numHMetrics];
-                for (int i=0; i<numHMetrics; i++) {
-                    aw[i] = hmtx.getChar(i*4);
-                }
-                advanceWidths = aw;
-            }
+        char[] aw = advanceWidths;
+        if (aw == null && numHMetrics > 0) {
+            aw = initAdvanceWidths();
         }
 
         // If we have a valid numHMetrics, look up the advance
-        if (numHMetrics > 0) {
+        if (aw != null) {
             char cadv;
-            if (glyphCode < numHMetrics) {
-                cadv = advanceWidths[glyphCode];
+            if (glyphCode < aw.length) {
+                cadv = aw[glyphCode];
             } else {
-                cadv = advanceWidths[numHMetrics-1];
+                cadv = aw[aw.length-1];
             }
             return ((float)(cadv & 0xffff)*ptSize)/upem;
         } else { // no valid lookup.
@@ -1232,6 +1233,22 @@ public abstract class PrismFontFile implements FontResource, FontConstants {
         }
     }
 
+    private synchronized char[] initAdvanceWidths() {
+        if (advanceWidths == null && numHMetrics > 0) {
+            Buffer hmtx = readTable(hmtxTag);
+            if (hmtx == null) {
+                numHMetrics = -1;
+                return null;
+            }
+            char[] aw = new char[numHMetrics];
+            for (int i=0; i<numHMetrics; i++) {
+                aw[i] = hmtx.getChar(i*4);
+            }
+            advanceWidths = aw;
+        }
+        return advanceWidths;
+    }
+
     public PrismMetrics getFontMetrics(float ptSize) {
         return new PrismMetrics((ascent*ptSize)/upem,
                               (descent*ptSize)/upem,
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -31,6 +31,7 @@ import com.sun.javafx.font.PrismFontFactory;
 class FTDisposer implements DisposerRecord  {
     long library;
     long face;
+    FTGlyphCache glyphCache;
 
     FTDisposer(long library, long face) {
         this.library = library;
@@ -38,6 +39,10 @@ class FTDisposer implements DisposerRecord  {
     }
 
     public synchronized void dispose() {
+        if (glyphCache != null) {
+            glyphCache.close();
+            glyphCache = null;
+        }
         if (face != 0) {
             OSFreetype.FT_Done_Face(face);
             if (PrismFontFactory.debugFonts) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -35,6 +35,7 @@ import com.sun.javafx.text.TextRun;
 public class FTFactory extends PrismFontFactory {
 
     static boolean LCD_SUPPORT;
+    static String FT_VERSION;
 
     public static PrismFontFactory getFactory() {
         PrismFontFactory factory = null;
@@ -45,6 +46,7 @@ public class FTFactory extends PrismFontFactory {
         if (error == 0) {
             factory = new FTFactory();
             OSFreetype.FT_Library_Version(library, major, minor, patch);
+            FT_VERSION = major[0] + "." + minor[0] + "." + patch[0];
 
             /* This implementation only supports LCD if freetype has support. */
             error = OSFreetype.FT_Library_SetLcdFilter(library, OSFreetype.FT_LCD_FILTER_DEFAULT);
@@ -53,8 +55,7 @@ public class FTFactory extends PrismFontFactory {
         }
         if (PrismFontFactory.debugFonts) {
             if (factory != null) {
-                String version = major[0] + "." + minor[0] + "." + patch[0];
-                System.err.println("Freetype2 Loaded (version " + version + ")");
+                System.err.println("Freetype2 Loaded (version " + FT_VERSION + ")");
                 String lcdSupport = LCD_SUPPORT ? "Enabled" : "Disabled";
                 System.err.println("LCD support " + lcdSupport);
             } else {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -51,6 +51,8 @@ class FTFontFile extends PrismFontFile {
     private long library;
     private long face;
     private FTDisposer disposer;
+    private FTGlyphCache glyphCache;
+    private boolean glyphCacheOpened;
 
     FTFontFile(String name, String filename, int fIndex, boolean register,
                boolean embedded, boolean copy, boolean tracked) throws Exception {
@@ -117,6 +119,22 @@ class FTFontFile extends PrismFontFile {
         return OSFreetype.FT_Outline_Decompose(face);
     }
 
+    /*
+     * Returns the persistent glyph cache of this font, which is opened on
+     * first use and kept until this font is disposed. A cache that can not
+     * be opened is not tried again.
+     */
+    private FTGlyphCache getGlyphCache() {
+        if (!glyphCacheOpened) {
+            glyphCacheOpened = true;
+            glyphCache = FTGlyphCache.open(getFileName(), getFontIndex());
+            if (glyphCache != null && disposer != null) {
+                disposer.glyphCache = glyphCache;
+            }
+        }
+        return glyphCache;
+    }
+
     synchronized void initGlyph(FTGlyph glyph, FTFontStrike strike) {
         float size = strike.getSize();
         if (size == 0) {
@@ -124,6 +142,11 @@ class FTFontFile extends PrismFontFile {
             glyph.bitmap = new FT_Bitmap();
             return;
         }
+        FTGlyphCache.StrikeKey cacheKey = strike.glyphCacheKey;
+        FTGlyphCache cache = cacheKey != null ? getGlyphCache() : null;
+        if (cache != null && cache.fill(cacheKey, glyph)) {
+            return;
+        }
         int size26dot6 = (int)(size * 64);
         OSFreetype.FT_Set_Char_Size(face, 0, size26dot6, 72, 72);
 
@@ -205,5 +228,8 @@ class FTFontFile extends PrismFontFile {
         glyph.advanceY = glyphRec.advance_y / 64f;
         glyph.userAdvance = glyphRec.linearHoriAdvance / 65536.0f; /* Fixed 16.16 */
         glyph.lcd = lcd;
+        if (cache != null) {
+            cache.store(cacheKey, glyph);
+        }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -35,6 +35,7 @@ import com.sun.javafx.geom.transform.BaseTransform;
 
 class FTFontStrike extends PrismFontStrike<FTFontFile> {
     FT_Matrix matrix;
+    FTGlyphCache.StrikeKey glyphCacheKey;
 
     protected FTFontStrike(FTFontFile fontResource, float size,
                               BaseTransform tx, int aaMode,
@@ -60,6 +61,9 @@ class FTFontStrike extends PrismFontStrike<FTFontFile> {
                 drawShapes = true;
             }
         }
+        if (FTGlyphCache.isEnabled() && !drawShapes) {
+            glyphCacheKey = FTGlyphCache.StrikeKey.of(this);
+        }
     }
 
     @Override
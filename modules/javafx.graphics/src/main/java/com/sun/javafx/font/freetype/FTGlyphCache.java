@@ -0,0 +1,518 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.font.freetype;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.sun.javafx.font.FontResource;
+import com.sun.javafx.font.PrismFontFactory;
+
+/*
+ * Opt-in persistent cache of the glyph images rasterized by Freetype.
+ *
+ * Each font file maps to one file in the directory named by the
+ * "prism.glyphCacheDir" property, holding the glyphs of all the strikes
+ * (size, transform and AA mode) of that font. The file is identified by the
+ * path, size and modification time of the font file, the font index, the
+ * Freetype version and the LCD filter, so a changed font or a different
+ * Freetype serves no stale glyphs. The identity is also written to the file
+ * header and checked when the file is opened.
+ *
+ * Each FTFontFile owns the cache of its font, which lives as long as the
+ * font file. The file is indexed once, when the cache is opened, and glyphs
+ * are read from it with positional reads, so it is never memory mapped.
+ * Glyphs rasterized by this run are appended to the end of the file. At most
+ * MAX_OPEN_FILES files are kept open: the channel of the least recently used
+ * cache is closed when another cache is used, but its index is kept, so the
+ * file is reopened without being read again on its next use.
+ *
+ * File layout (big endian):
+ *   int magic, int version, UTF identity,
+ *   { float size, long xx, long yx, long xy, long yy, byte lcdStrike,
+ *     int glyphCode, int width, int rows, int left, int top,
+ *     float advanceX, float advanceY, float userAdvance, byte lcd,
+ *     int length, byte[length] data }*
+ *
+ * A truncated trailing record, as left behind by a process that died while
+ * appending to the file, is discarded when the file is opened.
+ */
+final class FTGlyphCache {
+
+    private static final int MAGIC = 0x4A464743; /* JFGC */
+    private static final int VERSION = 2;
+    private static final int RECORD_SIZE = 74;
+    static final int MAX_OPEN_FILES = 16;
+
+    private static final File cacheDir;
+
+    /* The caches whose channel is open, in access order */
+    private static final LinkedHashMap<FTGlyphCache, Boolean> openCaches =
+            new LinkedHashMap<>(16, 0.75f, true);
+
+    static {
+        @SuppressWarnings("removal")
+        String dir = AccessController.doPrivileged(
+                (PrivilegedAction<String>) () -> System.getProperty("prism.glyphCacheDir"));
+        cacheDir = dir != null && !dir.isEmpty() ? new File(dir) : null;
+    }
+
+    private final File file;
+    private final String identity;
+    private FileChannel channel;
+    private boolean writable;
+    private final Map<StrikeKey, Map<Integer, Long>> index = new HashMap<>();
+    private long end;
+    private volatile boolean closed;
+
+    static boolean isEnabled() {
+        return cacheDir != null;
+    }
+
+    /*
+     * Opens the cache for the given font file, or returns null if the persistent
+     * cache is not enabled or the cache file can not be used. This is only
+     * called once per font file, which keeps the cache until it is disposed.
+     */
+    static FTGlyphCache open(String fileName, int fontIndex) {
+        if (cacheDir == null) {
+            return null;
+        }
+        String identity = identity(fileName, fontIndex, FTFactory.FT_VERSION,
+                FTFactory.LCD_SUPPORT ? OSFreetype.FT_LCD_FILTER_DEFAULT : 0);
+        if (identity == null) {
+            return null;
+        }
+        @SuppressWarnings("removal")
+        FTGlyphCache cache = AccessController.doPrivileged(
+                (PrivilegedAction<FTGlyphCache>) () -> open(cacheDir, identity));
+        return cache;
+    }
+
+    /*
+     * Returns a string identifying the contents of the given font file and
+     * the way Freetype rasterizes it, or null if the file can not be read.
+     * This only looks at the file attributes, not at its contents.
+     */
+    static String identity(String fileName, int fontIndex, String ftVersion, int lcdFilter) {
+        @SuppressWarnings("removal")
+        String result = AccessController.doPrivileged((PrivilegedAction<String>) () -> {
+            File file = new File(fileName);
+            long length = file.length();
+            long modified = file.lastModified();
+            if (length == 0 || modified == 0) {
+                return null;
+            }
+            return file.getAbsolutePath() + "|" + length + "|" + modified + "|" + fontIndex +
+                   "|ft" + ftVersion + "|lcd" + lcdFilter;
+        });
+        return result;
+    }
+
+    static FTGlyphCache open(File dir, String identity) {
+        int separator = identity.indexOf('|');
+        String base = new File(separator < 0 ? identity : identity.substring(0, separator)).getName()
+                .replaceAll("[^A-Za-z0-9._-]", "_");
+        File file = new File(dir, base + "-" + Integer.toHexString(identity.hashCode()) + ".glyphs");
+        FTGlyphCache cache = new FTGlyphCache(file, identity);
+        try {
+            dir.mkdirs();
+            synchronized (cache) {
+                cache.openChannel();
+                cache.readIndex();
+            }
+        } catch (IOException | RuntimeException e) {
+            if (PrismFontFactory.debugFonts) {
+                System.err.println("Cannot use glyph cache " + file + ": " + e);
+            }
+            cache.close();
+            return null;
+        }
+        cache.used();
+        return cache;
+    }
+
+    private FTGlyphCache(File file, String identity) {
+        this.file = file;
+        this.identity = identity;
+    }
+
+    /* Opens the channel, and takes the file lock if no other process has it */
+    private void openChannel() throws IOException {
+        channel = FileChannel.open(file.toPath(),
+                                   StandardOpenOption.CREATE,
+                                   StandardOpenOption.READ,
+                                   StandardOpenOption.WRITE);
+        try {
+            /* Only one process appends to a given file, the others read it */
+            FileLock lock = channel.tryLock();
+            writable = lock != null;
+        } catch (IOException | RuntimeException e) {
+            closeChannel();
+            throw e;
+        }
+    }
+
+    /*
+     * Reopens the channel of a cache whose channel was closed because it was
+     * not used recently. The index is kept, unless the file no longer holds
+     * the records it points at.
+     */
+    private boolean reopenChannel() {
+        try {
+            openChannel();
+            long size = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(8);
+            readFully(header, 0);
+            if (size < end || header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                /* Replaced by another process: index it again */
+                index.clear();
+                readIndex();
+            } else if (writable) {
+                /* Append after the records written by others meanwhile */
+                end = size;
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            if (PrismFontFactory.debugFonts) {
+                System.err.println("Cannot reopen glyph cache " + file + ": " + e);
+            }
+            closeChannel();
+            return false;
+        }
+    }
+
+    /* Reads the header and indexes the records of the file */
+    private void readIndex() throws IOException {
+        long size = channel.size();
+        DataInputStream in = new DataInputStream(new BufferedInputStream(
+                Channels.newInputStream(channel.position(0)), 64 * 1024));
+        boolean valid;
+        long offset = 0;
+        try {
+            valid = size > 0 && in.readInt() == MAGIC && in.readInt() == VERSION &&
+                    in.readUTF().equals(identity);
+        } catch (IOException e) {
+            valid = false;
+        }
+        if (!valid) {
+            if (!writable) {
+                throw new IOException("Invalid glyph cache file");
+            }
+            /* Empty, or written for another font or Freetype: start over */
+            ByteBuffer header = ByteBuffer.allocate(8);
+            header.putInt(MAGIC).putInt(VERSION).flip();
+            byte[] id = identity.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer name = ByteBuffer.allocate(2 + id.length);
+            name.putShort((short)id.length).put(id).flip();
+            channel.truncate(0);
+            channel.write(header, 0);
+            channel.write(name, 8);
+            end = 10 + id.length;
+            return;
+        }
+        offset = 10 + identity.getBytes(StandardCharsets.UTF_8).length;
+        byte[] skip = new byte[4096];
+        while (offset + RECORD_SIZE <= size) {
+            StrikeKey strike = new StrikeKey(in.readFloat(), in.readLong(), in.readLong(),
+                                             in.readLong(), in.readLong(), in.readByte() != 0);
+            int glyphCode = in.readInt();
+            in.readFully(skip, 0, RECORD_SIZE - 37 - 4 - 4);
+            int length = in.readInt();
+            if (length < 0 || offset + RECORD_SIZE + length > size) {
+                break;
+            }
+            for (int remaining = length; remaining > 0; ) {
+                int n = Math.min(remaining, skip.length);
+                in.readFully(skip, 0, n);
+                remaining -= n;
+            }
+            index.computeIfAbsent(strike, k -> new HashMap<>()).put(glyphCode, offset);
+            offset += RECORD_SIZE + length;
+        }
+        end = offset;
+        if (writable && end != size) {
+            channel.truncate(end);
+        }
+    }
+
+    /*
+     * Initializes the glyph from the cache, returns false if the glyph
+     * is not present.
+     */
+    private Long getOffset(StrikeKey strike, int glyphCode) {
+        Map<Integer, Long> glyphs = index.get(strike);
+        return glyphs != null ? glyphs.get(glyphCode) : null;
+    }
+
+    boolean fill(StrikeKey strike, FTGlyph glyph) {
+        boolean found;
+        synchronized (this) {
+            found = read(strike, glyph);
+        }
+        if (found) {
+            used();
+        }
+        return found;
+    }
+
+    private boolean read(StrikeKey strike, FTGlyph glyph) {
+        if (closed) {
+            return false;
+        }
+        Long offset = getOffset(strike, glyph.getGlyphCode());
+        if (offset != null && channel == null) {
+            /* the file may have been indexed again */
+            offset = reopenChannel() ? getOffset(strike, glyph.getGlyphCode()) : null;
+        }
+        if (offset == null) {
+            return false;
+        }
+        ByteBuffer record;
+        try {
+            ByteBuffer header = ByteBuffer.allocate(RECORD_SIZE);
+            readFully(header, offset);
+            int length = header.getInt(RECORD_SIZE - 4);
+            record = ByteBuffer.allocate(RECORD_SIZE + length);
+            readFully(record, offset);
+            record.flip();
+        } catch (IOException e) {
+            return false;
+        }
+        record.position(37 + 4); /* strike and glyph code */
+        FT_Bitmap bitmap = new FT_Bitmap();
+        bitmap.width = record.getInt();
+        bitmap.rows = record.getInt();
+        bitmap.pitch = bitmap.width;
+        glyph.bitmap_left = record.getInt();
+        glyph.bitmap_top = record.getInt();
+        glyph.advanceX = record.getFloat();
+        glyph.advanceY = record.getFloat();
+        glyph.userAdvance = record.getFloat();
+        glyph.lcd = record.get() != 0;
+        byte[] buffer = new byte[record.getInt()];
+        record.get(buffer);
+        glyph.buffer = buffer;
+        glyph.bitmap = bitmap;
+        return true;
+    }
+
+    void store(StrikeKey strike, FTGlyph glyph) {
+        boolean stored;
+        synchronized (this) {
+            stored = write(strike, glyph);
+        }
+        if (stored) {
+            used();
+        }
+    }
+
+    private boolean write(StrikeKey strike, FTGlyph glyph) {
+        if (closed || glyph.bitmap == null || glyph.buffer == null) {
+            return false;
+        }
+        int glyphCode = glyph.getGlyphCode();
+        if (getOffset(strike, glyphCode) != null) {
+            return false;
+        }
+        if ((channel == null && !reopenChannel()) || !writable || getOffset(strike, glyphCode) != null) {
+            return false;
+        }
+        byte[] buffer = glyph.buffer;
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE + buffer.length);
+        record.putFloat(strike.size);
+        record.putLong(strike.xx).putLong(strike.yx).putLong(strike.xy).putLong(strike.yy);
+        record.put((byte)(strike.lcd ? 1 : 0));
+        record.putInt(glyphCode);
+        record.putInt(glyph.bitmap.width);
+        record.putInt(glyph.bitmap.rows);
+        record.putInt(glyph.bitmap_left);
+        record.putInt(glyph.bitmap_top);
+        record.putFloat(glyph.advanceX);
+        record.putFloat(glyph.advanceY);
+        record.putFloat(glyph.userAdvance);
+        record.put((byte)(glyph.lcd ? 1 : 0));
+        record.putInt(buffer.length);
+        record.put(buffer);
+        record.flip();
+        try {
+            long offset = end;
+            while (record.hasRemaining()) {
+                offset += channel.write(record, offset);
+            }
+            index.computeIfAbsent(strike, k -> new HashMap<>()).put(glyphCode, end);
+            end = offset;
+        } catch (IOException e) {
+            if (PrismFontFactory.debugFonts) {
+                System.err.println("Cannot write glyph cache: " + e);
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Marks this cache as the most recently used one, and closes the
+     * channels of the least recently used caches beyond MAX_OPEN_FILES.
+     * This is called without holding the lock of any cache, as closing a
+     * channel takes the lock of its cache.
+     */
+    private void used() {
+        List<FTGlyphCache> evicted = null;
+        synchronized (openCaches) {
+            if (closed) {
+                return;
+            }
+            openCaches.put(this, Boolean.TRUE);
+            Iterator<FTGlyphCache> it = openCaches.keySet().iterator();
+            for (int n = openCaches.size(); n > MAX_OPEN_FILES; n--) {
+                if (evicted == null) {
+                    evicted = new ArrayList<>();
+                }
+                evicted.add(it.next());
+                it.remove();
+            }
+        }
+        if (evicted != null) {
+            for (FTGlyphCache cache : evicted) {
+                cache.closeChannel();
+            }
+        }
+    }
+
+    synchronized boolean isChannelOpen() {
+        return channel != null;
+    }
+
+    synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /* Closing the channel also releases the file lock */
+    private synchronized void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            if (PrismFontFactory.debugFonts) {
+                System.err.println("Cannot close glyph cache: " + e);
+            }
+        }
+        channel = null;
+        writable = false;
+    }
+
+    /* Closes this cache for good, once its font file is disposed */
+    void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            index.clear();
+            closeChannel();
+        }
+        synchronized (openCaches) {
+            openCaches.remove(this);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long offset) throws IOException {
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, offset + buffer.position());
+            if (n < 0) {
+                throw new EOFException();
+            }
+        }
+    }
+
+    /*
+     * Identifies the strike a glyph was rasterized for: its size, its
+     * transform and whether it was rendered for LCD.
+     */
+    static final class StrikeKey {
+        final float size;
+        final long xx, yx, xy, yy;
+        final boolean lcd;
+
+        StrikeKey(float size, long xx, long yx, long xy, long yy, boolean lcd) {
+            this.size = size;
+            this.xx = xx;
+            this.yx = yx;
+            this.xy = xy;
+            this.yy = yy;
+            this.lcd = lcd;
+        }
+
+        static StrikeKey of(FTFontStrike strike) {
+            FT_Matrix matrix = strike.matrix;
+            boolean lcd = strike.getAAMode() == FontResource.AA_LCD && FTFactory.LCD_SUPPORT;
+            if (matrix == null) {
+                return new StrikeKey(strike.getSize(), 0, 0, 0, 0, lcd);
+            }
+            return new StrikeKey(strike.getSize(), matrix.xx, matrix.yx, matrix.xy, matrix.yy, lcd);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof StrikeKey)) {
+                return false;
+            }
+            StrikeKey other = (StrikeKey)obj;
+            return Float.floatToIntBits(size) == Float.floatToIntBits(other.size) &&
+                   xx == other.xx && yx == other.yx && xy == other.xy && yy == other.yy &&
+                   lcd == other.lcd;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = Float.floatToIntBits(size);
+            hash = 31 * hash + Long.hashCode(xx);
+            hash = 31 * hash + Long.hashCode(yx);
+            hash = 31 * hash + Long.hashCode(xy);
+            hash = 31 * hash + Long.hashCode(yy);
+            return 31 * hash + (lcd ? 1 : 0);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -62,6 +62,10 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
     static final int PNG_FILTER_UP = 2;
     static final int PNG_FILTER_AVERAGE = 3;
     static final int PNG_FILTER_PAETH = 4;
+
+    // a larger input buffer than the default of 512 bytes reduces the number
+    // of calls into the native inflater
+    private static final int INFLATER_BUFFER_SIZE = 0x2000;
     // data stream
     private final DataInputStream stream;
     private int width, height, bitDepth, colorType;
@@ -322,67 +326,81 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
         }
     }
 
-    private void doSubFilter(byte line[], int bpp) {
-        int l = line.length;
-        for (int i = bpp; i != l; ++i) {
+    /*
+     * The filters below reconstruct len bytes of a row starting at lpos in
+     * line, using the previous row starting at ppos in pline. Both rows may
+     * live in the same array, which allows unfiltering directly in the
+     * decoded image. The Up filter and the first bpp bytes of the other
+     * filters have no dependency between bytes, which lets the JIT vectorize
+     * them.
+     */
+    private static void doSubFilter(byte line[], int lpos, int len, int bpp) {
+        for (int i = lpos + bpp, l = lpos + len; i < l; ++i) {
             line[i] = (byte) (line[i] + line[i - bpp]);
         }
     }
 
-    private void doUpFilter(byte line[], byte pline[]) {
-        int l = line.length;
-        for (int i = 0; i != l; ++i) {
-            line[i] = (byte) (line[i] + pline[i]);
+    private static void doUpFilter(byte line[], int lpos, byte pline[], int ppos, int len) {
+        int offset = ppos - lpos;
+        for (int i = lpos, l = lpos + len; i < l; ++i) {
+            line[i] = (byte) (line[i] + pline[i + offset]);
         }
     }
 
-    private void doAvrgFilter(byte line[], byte pline[], int bpp) {
-        int l = line.length;
-        for (int i = 0; i != bpp; ++i) {
-            line[i] = (byte) (line[i] + (pline[i] & 0xFF) / 2);
+    private static void doAvrgFilter(byte line[], int lpos, byte pline[], int ppos, int len, int bpp) {
+        for (int i = 0; i < bpp; ++i) {
+            line[lpos + i] = (byte) (line[lpos + i] + (pline[ppos + i] & 0xFF) / 2);
         }
-        for (int i = bpp; i != l; ++i) {
-            line[i] = (byte) (line[i]
-                    + (((line[i - bpp] & 0xFF) + (pline[i] & 0xFF))) / 2);
+        for (int i = bpp; i < len; ++i) {
+            line[lpos + i] = (byte) (line[lpos + i]
+                    + (((line[lpos + i - bpp] & 0xFF) + (pline[ppos + i] & 0xFF))) / 2);
         }
     }
 
-    private static int paethPr(int a, int b, int c) {
-        // int p = a + b - c
-        int pa = Math.abs(b - c);      // p-a
-        int pb = Math.abs(a - c);      // p-b
-        int pc = Math.abs(b - c + a - c);  // p-c
-        return (pa <= pb && pa <= pc) ? a : (pb <= pc) ? b : c;
-    }
-
-    private void doPaethFilter(byte line[], byte pline[], int bpp) {
-        int l = line.length;
-        for (int i = 0; i != bpp; ++i) {
-            line[i] = (byte) (line[i] + pline[i]);
+    private static void doPaethFilter(byte line[], int lpos, byte pline[], int ppos, int len, int bpp) {
+        for (int i = 0; i < bpp; ++i) {
+            line[lpos + i] = (byte) (line[lpos + i] + pline[ppos + i]);
         }
-        for (int i = bpp; i != l; ++i) {
-            line[i] = (byte) (line[i]
-                    + paethPr(line[i - bpp] & 0xFF, pline[i] & 0xFF, pline[i - bpp] & 0xFF));
+        for (int i = bpp; i < len; ++i) {
+            int a = line[lpos + i - bpp] & 0xFF;
+            int b = pline[ppos + i] & 0xFF;
+            int c = pline[ppos + i - bpp] & 0xFF;
+            // p = a + b - c
+            int pa = Math.abs(b - c);          // p - a
+            int pb = Math.abs(a - c);          // p - b
+            int pc = Math.abs(b - c + a - c);  // p - c
+            // (pa <= pb && pa <= pc) ? a : (pb <= pc) ? b : c, computed
+            // with masks since the branches are unpredictable on photos
+            int m = (pb - pa) >> 31;
+            int ab = a ^ ((a ^ b) & m);
+            int pab = pa ^ ((pa ^ pb) & m);
+            int pr = ab ^ ((ab ^ c) & ((pc - pab) >> 31));
+            line[lpos + i] = (byte) (line[lpos + i] + pr);
         }
     }
 
-    private void doFilter(byte line[], byte pline[], int fType, int bpp) {
+    private static void doFilter(byte line[], int lpos, byte pline[], int ppos,
+                                 int len, int fType, int bpp) {
         switch (fType) {
             case PNG_FILTER_SUB:
-                doSubFilter(line, bpp);
+                doSubFilter(line, lpos, len, bpp);
                 break;
             case PNG_FILTER_UP:
-                doUpFilter(line, pline);
+                doUpFilter(line, lpos, pline, ppos, len);
                 break;
             case PNG_FILTER_AVERAGE:
-                doAvrgFilter(line, pline, bpp);
+                doAvrgFilter(line, lpos, pline, ppos, len, bpp);
                 break;
             case PNG_FILTER_PAETH:
-                doPaethFilter(line, pline, bpp);
+                doPaethFilter(line, lpos, pline, ppos, len, bpp);
                 break;
         }
     }
 
+    private void doFilter(byte line[], byte pline[], int fType, int bpp) {
+        doFilter(line, 0, pline, 0, line.length, fType, bpp);
+    }
+
     private void downsample16to8trns_gray(byte line[], byte image[], int pos, int step) {
         int l = line.length / 2;
         for (int i = 0, oPos = pos; i < l; oPos += step * 2, ++i) {
@@ -554,9 +572,7 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
                 throw new EOFException();
             }
 
-            if (data.read(scanLine0) != scanLineSize) {
-                throw new EOFException();
-            }
+            ImageTools.readFully(data, scanLine0);
 
             doFilter(scanLine0, scanLine1, filterByte, srcBpp);
 
@@ -577,8 +593,36 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
         }
     }
 
+    /*
+     * Decodes a non-interlaced image whose decoded rows have the same layout
+     * as the filtered rows, that is 8 bit samples without a tRNS expansion.
+     * Rows are read and unfiltered in place in the image, so no intermediate
+     * scanline buffers or copies are needed.
+     */
+    private void loadDirect(byte image[], InputStream data) throws IOException {
+        int rowSize = width * numBandsPerColorType[colorType];
+        byte firstPrevRow[] = new byte[rowSize];
+
+        for (int y = 0, pos = 0; y != height; ++y, pos += rowSize) {
+            int filterByte = data.read();
+            if (filterByte == -1) {
+                throw new EOFException();
+            }
+
+            ImageTools.readFully(data, image, pos, rowSize);
+
+            if (y == 0) {
+                doFilter(image, pos, firstPrevRow, 0, rowSize, filterByte, numBandsPerColorType[colorType]);
+            } else {
+                doFilter(image, pos, image, pos - rowSize, rowSize, filterByte, numBandsPerColorType[colorType]);
+            }
+        }
+    }
+
     private void load(byte image[], InputStream data) throws IOException {
-        if (isInterlaced) {
+        if (!isInterlaced && bitDepth == 8 && !tRNS_GRAY_RGB) {
+            loadDirect(image, data);
+        } else if (isInterlaced) {
             for (int mip = 0; mip != 7; ++mip) {
                 if (width > starting_x[mip] && height > starting_y[mip]) {
                     loadMip(image, data, mip);
@@ -666,7 +710,7 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
 
         PNGIDATChunkInputStream iDat = new PNGIDATChunkInputStream(stream, dataSize);
         Inflater inf = new Inflater();
-        InputStream data = new BufferedInputStream(new InflaterInputStream(iDat, inf));
+        InputStream data = new BufferedInputStream(new InflaterInputStream(iDat, inf, INFLATER_BUFFER_SIZE));
 
         try {
             load(bb.array(), data);
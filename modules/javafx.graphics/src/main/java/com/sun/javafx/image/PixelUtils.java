@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -53,15 +53,48 @@ public class PixelUtils {
                          (xrgb      ) & 0xff);
     }
 
+    /*
+     * Reciprocals of the alpha values scaled by 2^24 and rounded up so
+     * that div8() produces exactly the same results as a true division
+     * for every component and alpha value in the range [0, 0xff].
+     */
+    private static final long UNPREMUL_RECIP[] = new long[256];
+    static {
+        for (int a = 1; a < 256; a++) {
+            UNPREMUL_RECIP[a] = ((1L << 24) + a - 1) / a;
+        }
+    }
+
+    /**
+     * Multiplies a color component by an alpha value, rounding to the
+     * nearest integer.  This returns exactly {@code (c * a + 0x7f) / 0xff}
+     * for {@code c} and {@code a} in the range {@code [0, 0xff]}, but
+     * without the cost of an integer division in the per-pixel loops.
+     */
+    public static int mul8(int c, int a) {
+        int t = c * a + 0x80;
+        return (t + (t >> 8)) >> 8;
+    }
+
+    /**
+     * Divides a premultiplied color component by its alpha value, rounding
+     * to the nearest integer.  This returns exactly
+     * {@code (c * 0xff + (a >> 1)) / a} for {@code c} in the range
+     * {@code [0, 0xff]} and {@code a} in the range {@code [1, 0xff]}.
+     */
+    public static int div8(int c, int a) {
+        return (int) (((c * 0xff + (a >> 1)) * UNPREMUL_RECIP[a]) >>> 24);
+    }
+
     public static int NonPretoPre(int nonpre, int alpha) {
         if (alpha == 0xff) return nonpre;
         if (alpha == 0x00) return 0;
-        return (nonpre * alpha + 0x7f) / 0xff;
+        return mul8(nonpre, alpha);
     }
 
     public static int PreToNonPre(int pre, int alpha) {
         if (alpha == 0xff || alpha == 0x00) return pre;
-        return (pre >= alpha) ? 0xff : (pre * 0xff + (alpha >> 1)) / alpha;
+        return (pre >= alpha) ? 0xff : div8(pre, alpha);
     }
 
     public static int NonPretoPre(int nonpre) {
@@ -71,9 +104,9 @@ public class PixelUtils {
         int r = (nonpre >> 16) & 0xff;
         int g = (nonpre >>  8) & 0xff;
         int b = (nonpre      ) & 0xff;
-        r = (r * a + 0x7f) / 0xff;
-        g = (g * a + 0x7f) / 0xff;
-        b = (b * a + 0x7f) / 0xff;
+        r = mul8(r, a);
+        g = mul8(g, a);
+        b = mul8(b, a);
         return (a << 24) | (r << 16) | (g << 8) | b;
     }
 
@@ -83,10 +116,9 @@ public class PixelUtils {
         int r = (pre >> 16) & 0xff;
         int g = (pre >>  8) & 0xff;
         int b = (pre      ) & 0xff;
-        int halfa = a >> 1;
-        r = (r >= a) ? 0xff : (r * 0xff + halfa) / a;
-        g = (g >= a) ? 0xff : (g * 0xff + halfa) / a;
-        b = (b >= a) ? 0xff : (b * 0xff + halfa) / a;
+        r = (r >= a) ? 0xff : div8(r, a);
+        g = (g >= a) ? 0xff : div8(g, a);
+        b = (b >= a) ? 0xff : div8(b, a);
         return (a << 24) | (r << 16) | (g << 8) | b;
     }
 
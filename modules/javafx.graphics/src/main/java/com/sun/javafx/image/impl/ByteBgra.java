@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -152,9 +152,9 @@ public class ByteBgra {
                         if (a == 0) {
                             b = g = r = 0;
                         } else {
-                            b = (byte) (((b & 0xff) * a + 0x7f) / 0xff);
-                            g = (byte) (((g & 0xff) * a + 0x7f) / 0xff);
-                            r = (byte) (((r & 0xff) * a + 0x7f) / 0xff);
+                            b = (byte) (PixelUtils.mul8(b & 0xff, a));
+                            g = (byte) (PixelUtils.mul8(g & 0xff, a));
+                            r = (byte) (PixelUtils.mul8(r & 0xff, a));
                         }
                     }
                     dstarr[dstoff++] = b;
@@ -185,9 +185,9 @@ public class ByteBgra {
                         if (a == 0) {
                             b = g = r = 0;
                         } else {
-                            b = (byte) (((b & 0xff) * a + 0x7f) / 0xff);
-                            g = (byte) (((g & 0xff) * a + 0x7f) / 0xff);
-                            r = (byte) (((r & 0xff) * a + 0x7f) / 0xff);
+                            b = (byte) (PixelUtils.mul8(b & 0xff, a));
+                            g = (byte) (PixelUtils.mul8(g & 0xff, a));
+                            r = (byte) (PixelUtils.mul8(r & 0xff, a));
                         }
                     }
                     dstbuf.put(dstoff    , b);
@@ -277,9 +277,9 @@ public class ByteBgra {
                         if (a == 0) {
                             b = g = r = 0;
                         } else {
-                            b = (b * a + 0x7f) / 0xff;
-                            g = (g * a + 0x7f) / 0xff;
-                            r = (r * a + 0x7f) / 0xff;
+                            b = PixelUtils.mul8(b, a);
+                            g = PixelUtils.mul8(g, a);
+                            r = PixelUtils.mul8(r, a);
                         }
                     }
                     dstarr[dstoff++] =
@@ -307,9 +307,9 @@ public class ByteBgra {
                         if (a == 0) {
                             b = g = r = 0;
                         } else {
-                            b = (b * a + 0x7f) / 0xff;
-                            g = (g * a + 0x7f) / 0xff;
-                            r = (r * a + 0x7f) / 0xff;
+                            b = PixelUtils.mul8(b, a);
+                            g = PixelUtils.mul8(g, a);
+                            r = PixelUtils.mul8(r, a);
                         }
                     }
                     dstbuf.put(dstoff + x, (a << 24) | (r << 16) | (g << 8) | b);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -149,10 +149,9 @@ public class ByteBgraPre {
                     byte r = srcarr[srcoff++];
                     int  a = srcarr[srcoff++] & 0xff;
                     if (a > 0 && a < 0xff) {
-                        int halfa = a >> 1;
-                        b = (byte) (((b & 0xff) * 0xff + halfa) / a);
-                        g = (byte) (((g & 0xff) * 0xff + halfa) / a);
-                        r = (byte) (((r & 0xff) * 0xff + halfa) / a);
+                        b = (byte) (PixelUtils.div8(b & 0xff, a));
+                        g = (byte) (PixelUtils.div8(g & 0xff, a));
+                        r = (byte) (PixelUtils.div8(r & 0xff, a));
                     }
                     dstarr[dstoff++] = b;
                     dstarr[dstoff++] = g;
@@ -179,10 +178,9 @@ public class ByteBgraPre {
                     int  a = srcbuf.get(srcoff + 3) & 0xff;
                     srcoff += 4;
                     if (a > 0 && a < 0xff) {
-                        int halfa = a >> 1;
-                        b = (byte) (((b & 0xff) * 0xff + halfa) / a);
-                        g = (byte) (((g & 0xff) * 0xff + halfa) / a);
-                        r = (byte) (((r & 0xff) * 0xff + halfa) / a);
+                        b = (byte) (PixelUtils.div8(b & 0xff, a));
+                        g = (byte) (PixelUtils.div8(g & 0xff, a));
+                        r = (byte) (PixelUtils.div8(r & 0xff, a));
                     }
                     dstbuf.put(dstoff    , b);
                     dstbuf.put(dstoff + 1, g);
@@ -218,10 +216,9 @@ public class ByteBgraPre {
                     int r = srcarr[srcoff++] & 0xff;
                     int a = srcarr[srcoff++] & 0xff;
                     if (a > 0 && a < 0xff) {
-                        int halfa = a >> 1;
-                        r = (r * 0xff + halfa) / a;
-                        g = (g * 0xff + halfa) / a;
-                        b = (b * 0xff + halfa) / a;
+                        r = PixelUtils.div8(r, a);
+                        g = PixelUtils.div8(g, a);
+                        b = PixelUtils.div8(b, a);
                     }
                     dstarr[dstoff++] =
                         (a << 24) | (r << 16) | (g << 8) | b;
@@ -245,10 +242,9 @@ public class ByteBgraPre {
                     int a = srcbuf.get(srcoff + 3) & 0xff;
                     srcoff += 4;
                     if (a > 0 && a < 0xff) {
-                        int halfa = a >> 1;
-                        r = (r * 0xff + halfa) / a;
-                        g = (g * 0xff + halfa) / a;
-                        b = (b * 0xff + halfa) / a;
+                        r = PixelUtils.div8(r, a);
+                        g = PixelUtils.div8(g, a);
+                        b = PixelUtils.div8(b, a);
                     }
                     dstbuf.put(dstoff + x, (a << 24) | (r << 16) | (g << 8) | b);
                 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -140,10 +140,9 @@ public class IntArgbPre {
                     int pixel = srcarr[srcoff++];
                     int a = pixel >>> 24;
                     if (a > 0 && a < 0xff) {
-                        int halfa = a >> 1;
-                        int r = (((pixel >> 16) & 0xff) * 0xff + halfa) / a;
-                        int g = (((pixel >>  8) & 0xff) * 0xff + halfa) / a;
-                        int b = (((pixel      ) & 0xff) * 0xff + halfa) / a;
+                        int r = PixelUtils.div8((pixel >> 16) & 0xff, a);
+                        int g = PixelUtils.div8((pixel >>  8) & 0xff, a);
+                        int b = PixelUtils.div8((pixel      ) & 0xff, a);
                         pixel = (a << 24) | (r << 16) | (g << 8) | b;
                     }
                     dstarr[dstoff++] = pixel;
@@ -163,10 +162,9 @@ public class IntArgbPre {
                     int pixel = srcbuf.get(srcoff + x);
                     int a = pixel >>> 24;
                     if (a > 0 && a < 0xff) {
-                        int halfa = a >> 1;
-                        int r = (((pixel >> 16) & 0xff) * 0xff + halfa) / a;
-                        int g = (((pixel >>  8) & 0xff) * 0xff + halfa) / a;
-                        int b = (((pixel      ) & 0xff) * 0xff + halfa) / a;
+                        int r = PixelUtils.div8((pixel >> 16) & 0xff, a);
+                        int g = PixelUtils.div8((pixel >>  8) & 0xff, a);
+                        int b = PixelUtils.div8((pixel      ) & 0xff, a);
                         pixel = (a << 24) | (r << 16) | (g << 8) | b;
                     }
                     dstbuf.put(dstoff + x, pixel);
@@ -200,10 +198,9 @@ public class IntArgbPre {
                     int g = (pixel >>  8) & 0xff;
                     int b = (pixel      ) & 0xff;
                     if (a > 0 && a < 0xff) {
-                        int halfa = a >> 1;
-                        r = (r * 0xff + halfa) / a;
-                        g = (g * 0xff + halfa) / a;
-                        b = (b * 0xff + halfa) / a;
+                        r = PixelUtils.div8(r, a);
+                        g = PixelUtils.div8(g, a);
+                        b = PixelUtils.div8(b, a);
                     }
                     dstarr[dstoff++] = (byte) b;
                     dstarr[dstoff++] = (byte) g;
@@ -229,10 +226,9 @@ public class IntArgbPre {
                     int g = (pixel >>  8) & 0xff;
                     int b = (pixel      ) & 0xff;
                     if (a > 0 && a < 0xff) {
-                        int halfa = a >> 1;
-                        r = (r * 0xff + halfa) / a;
-                        g = (g * 0xff + halfa) / a;
-                        b = (b * 0xff + halfa) / a;
+                        r = PixelUtils.div8(r, a);
+                        g = PixelUtils.div8(g, a);
+                        b = PixelUtils.div8(b, a);
                     }
                     dstbuf.put(dstoff    , (byte) b);
                     dstbuf.put(dstoff + 1, (byte) g);
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.runtime.async;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Throttles a set of asynchronous operations so that at most
+ * {@code maxRunning} of them are started at any given time. Operations
+ * submitted while the limit is reached are queued and started, either in
+ * submission order or most recent first, as running operations finish.
+ *
+ * Pending operations are only weakly referenced by the queue. An operation
+ * whose owner became unreachable before it was started is silently dropped,
+ * and an operation cancelled before it was started is removed from the queue
+ * when it reports back through {@link #finished}. Neither of them counts
+ * against the running limit.
+ */
+public final class AsyncOperationQueue {
+
+    private static final class Entry {
+        final WeakReference<AsyncOperation> ref;
+        final long enqueueTime;
+
+        Entry(AsyncOperation op) {
+            ref = new WeakReference<>(op);
+            enqueueTime = System.nanoTime();
+        }
+    }
+
+    private final int maxRunning;
+    private final boolean lifo;
+
+    private final ArrayDeque<Entry> pending = new ArrayDeque<>();
+    private final Map<AsyncOperation, Entry> pendingEntries = new WeakHashMap<>();
+    private final Set<AsyncOperation> running =
+            Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private long startedCount;
+    private long cancelledCount;
+    private long droppedCount;
+    private long totalQueuedNanos;
+
+    /**
+     * Creates a new queue.
+     *
+     * @param maxRunning the maximum number of operations running at once
+     * @param lifo if true, the most recently submitted pending operation is
+     *             started first, otherwise pending operations are started in
+     *             submission order
+     */
+    public AsyncOperationQueue(int maxRunning, boolean lifo) {
+        if (maxRunning < 1) {
+            throw new IllegalArgumentException("maxRunning must be positive: " + maxRunning);
+        }
+        this.maxRunning = maxRunning;
+        this.lifo = lifo;
+    }
+
+    /**
+     * Starts the given operation right away if fewer than
+     * {@code maxRunning} operations are running, or queues it otherwise.
+     */
+    public void submit(AsyncOperation op) {
+        synchronized (this) {
+            if (running.contains(op) || pendingEntries.containsKey(op)) {
+                return;
+            }
+            if (running.size() >= maxRunning) {
+                final Entry entry = new Entry(op);
+                pendingEntries.put(op, entry);
+                pending.offer(entry);
+                return;
+            }
+            running.add(op);
+            startedCount++;
+        }
+        op.start();
+    }
+
+    /**
+     * Must be called once the given operation has completed, failed or was
+     * cancelled. If the operation was running, the next pending operation is
+     * started. If it was still pending (cancelled before being started), it is
+     * removed from the queue.
+     */
+    public void finished(AsyncOperation op) {
+        final AsyncOperation next;
+        synchronized (this) {
+            if (!running.remove(op)) {
+                final Entry entry = pendingEntries.remove(op);
+                if (entry != null) {
+                    pending.remove(entry);
+                    cancelledCount++;
+                }
+                return;
+            }
+            next = pollNext();
+            if (next == null) {
+                return;
+            }
+            running.add(next);
+            startedCount++;
+        }
+        next.start();
+    }
+
+    private AsyncOperation pollNext() {
+        Entry entry;
+        while ((entry = (lifo ? pending.pollLast() : pending.pollFirst())) != null) {
+            final AsyncOperation op = entry.ref.get();
+            if (op == null) {
+                droppedCount++;
+                continue;
+            }
+            pendingEntries.remove(op);
+            if (op.isCancelled() || op.isDone()) {
+                cancelledCount++;
+                continue;
+            }
+            totalQueuedNanos += System.nanoTime() - entry.enqueueTime;
+            return op;
+        }
+        return null;
+    }
+
+    public int getMaxRunning() {
+        return maxRunning;
+    }
+
+    public boolean isLifo() {
+        return lifo;
+    }
+
+    public synchronized int getRunningCount() {
+        return running.size();
+    }
+
+    /**
+     * Returns the number of queued entries, including entries whose operation
+     * has become unreachable but has not been dropped yet.
+     */
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    /** Returns the number of operations started by this queue. */
+    public synchronized long getStartedCount() {
+        return startedCount;
+    }
+
+    /** Returns the number of queued operations cancelled before they started. */
+    public synchronized long getCancelledCount() {
+        return cancelledCount;
+    }
+
+    /** Returns the number of queued operations dropped because they became unreachable. */
+    public synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Returns the average time, in milliseconds, that the started operations
+     * spent in the queue. Operations started right away count as zero.
+     */
+    public synchronized double getAverageQueueLatency() {
+        return startedCount == 0 ? 0 : totalQueuedNanos / 1e6 / startedCount;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -121,6 +121,30 @@ public abstract class NGCamera extends NGNode {
         return pos;
     }
 
+    /**
+     * Returns a copy of the viewport dependent state of this camera.
+     * This is used to render a snapshot with a temporary viewport on the
+     * render thread without disturbing the state the scene is rendered with.
+     *
+     * @return the current view state of this camera
+     */
+    public ViewState getViewState() {
+        return new ViewState(this);
+    }
+
+    /**
+     * Restores the viewport dependent state of this camera from a copy
+     * obtained from {@link #getViewState()}.
+     *
+     * @param state the view state to restore
+     */
+    public void setViewState(ViewState state) {
+        viewWidth = state.viewWidth;
+        viewHeight = state.viewHeight;
+        projViewTx.set(state.projViewTx);
+        worldPosition.set(state.worldPosition);
+    }
+
     @Override
     public void release() {
         // TODO: 3D - Need to release native resources
@@ -129,4 +153,18 @@ public abstract class NGCamera extends NGNode {
 
 //    public abstract void validate(final int w, final int h);
     public abstract PickRay computePickRay(float x, float y, PickRay pickRay);
+
+    public static final class ViewState {
+        private final double viewWidth;
+        private final double viewHeight;
+        private final GeneralTransform3D projViewTx;
+        private final Vec3d worldPosition;
+
+        private ViewState(NGCamera camera) {
+            viewWidth = camera.viewWidth;
+            viewHeight = camera.viewHeight;
+            projViewTx = camera.getProjViewTx(null);
+            worldPosition = camera.getPositionInWorld(null);
+        }
+    }
 }
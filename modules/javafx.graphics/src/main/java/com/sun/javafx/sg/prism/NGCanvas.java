@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2018, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -368,12 +368,20 @@ public class NGCanvas extends NGNode {
 
         path = new Path2D();
         ngtext = new NGText();
-        textLayout = new PrismTextLayout();
         transform = new Affine2D();
         clipStack = new LinkedList<Path2D>();
         initAttributes();
     }
 
+    // The text layout is only created once text is drawn, as it needs the
+    // font factory, which canvases that draw no text can do without
+    private PrismTextLayout getTextLayout() {
+        if (textLayout == null) {
+            textLayout = new PrismTextLayout();
+        }
+        return textLayout;
+    }
+
     private void initAttributes() {
         globalAlpha = 1.0f;
         blendmode = Mode.SRC_OVER;
@@ -1376,7 +1384,7 @@ public class NGCanvas extends NGNode {
                 int dir = rtl ? PrismTextLayout.DIRECTION_RTL :
                                 PrismTextLayout.DIRECTION_LTR;
 
-                textLayout.setContent(string, pgfont);
+                getTextLayout().setContent(string, pgfont);
                 textLayout.setAlignment(align);
                 textLayout.setDirection(dir);
                 float xAlign = 0, yAlign = 0;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -207,12 +207,32 @@ public abstract class NGNode {
 
     /**
      * A filter used when the node is cached. If null, then the node is not
-     * being cached. While in theory this could be created automatically by
-     * the implementation due to some form of heuristic, currently we
-     * only set this if the application has requested that the node be cached.
+     * being cached. This is set if the application has requested that the
+     * node be cached, or automatically for a node with an effect whose
+     * output has been stable for prism.effectCacheFrames renders.
      */
     private CacheFilter cacheFilter;
 
+    /**
+     * True if the cacheFilter was created automatically for the effect on
+     * this node rather than requested by the application. An automatic
+     * cache is discarded as soon as the node changes, so that animated
+     * content does not pay for a cache it cannot reuse.
+     */
+    private boolean autoCached;
+
+    /**
+     * The number of renders of this node with an effect since its content,
+     * effect, cache, or the scale or rotation of its transform last changed.
+     */
+    private int effectCleanRenders;
+
+    /**
+     * The accumulated transform this node was last rendered with while it
+     * had an effect, used to detect a transform that is being animated.
+     */
+    private BaseTransform effectRenderTransform;
+
     /**
      * A filter used whenever an effect is placed on the node. Of course
      * effects can form a kind of tree, such that this one effect might be
@@ -515,7 +535,12 @@ public abstract class NGNode {
         }
 
         if (cached) {
-            if (cacheFilter == null) {
+            if (autoCached) {
+                // The application now owns the automatic cache
+                autoCached = false;
+                cacheFilter.setHint(cacheHint);
+                markDirty();
+            } else if (cacheFilter == null) {
                 cacheFilter = new CacheFilter(this, cacheHint);
                 // We do not technically need to do a render pass here, but if
                 // we wait for the next render pass to cache it, then we will
@@ -540,7 +565,7 @@ public abstract class NGNode {
                 }
             }
         } else {
-            if (cacheFilter != null) {
+            if (cacheFilter != null && !autoCached) {
                 cacheFilter.dispose();
                 cacheFilter = null;
                 // A cache will often look worse than uncached rendering.  It
@@ -942,9 +967,63 @@ public abstract class NGNode {
      * reconstructed.
      */
     protected final void invalidateCache() {
+        effectCleanRenders = 0;
         if (cacheFilter != null) {
-            cacheFilter.invalidate();
+            if (autoCached) {
+                disposeAutoCache();
+            } else {
+                cacheFilter.invalidate();
+            }
+        }
+    }
+
+    /**
+     * Creates an automatic cache for the output of the effect on this node
+     * once the node has been rendered cacheFrames times without any change.
+     * The cache is keyed implicitly by the content and the effect, since any
+     * change to either invalidates it, and the CacheFilter reuses it for as
+     * long as the node is only translated. A change to the scale or rotation
+     * of the accumulated transform restarts the count and discards an
+     * automatic cache, since the CacheFilter would have to render the cache
+     * again on every frame of such an animation.
+     */
+    void updateAutoCache(BaseTransform xform, int cacheFrames) {
+        if (effectFilter == null) {
+            effectRenderTransform = null;
+            return;
+        }
+        if (effectRenderTransform != null &&
+                !isSameScaleAndRotation(effectRenderTransform, xform)) {
+            effectCleanRenders = 0;
+            if (autoCached) {
+                disposeAutoCache();
+            }
         }
+        effectRenderTransform = (effectRenderTransform == null)
+                ? xform.copy()
+                : effectRenderTransform.deriveWithNewTransform(xform);
+        if (cacheFilter == null && ++effectCleanRenders >= cacheFrames) {
+            cacheFilter = new CacheFilter(this, CacheHint.DEFAULT);
+            autoCached = true;
+        }
+    }
+
+    private static boolean isSameScaleAndRotation(BaseTransform a, BaseTransform b) {
+        return a.getMxx() == b.getMxx()
+                && a.getMxy() == b.getMxy()
+                && a.getMxz() == b.getMxz()
+                && a.getMyx() == b.getMyx()
+                && a.getMyy() == b.getMyy()
+                && a.getMyz() == b.getMyz()
+                && a.getMzx() == b.getMzx()
+                && a.getMzy() == b.getMzy()
+                && a.getMzz() == b.getMzz();
+    }
+
+    private void disposeAutoCache() {
+        cacheFilter.dispose();
+        cacheFilter = null;
+        autoCached = false;
     }
 
     /**
@@ -2052,6 +2131,9 @@ public abstract class NGNode {
         // approximation, but somewhat more accurate (at least it doesn't include
         // groups which don't paint anything themselves).
         boolean p = false;
+        if (PrismSettings.effectCacheFrames > 0 && effectsSupported && !isShape3D()) {
+            updateAutoCache(g.getTransformNoClone(), PrismSettings.effectCacheFrames);
+        }
         // NOTE: Opt out 2D operations on 3D Shapes, which are not yet handled by Prism
         if (!isShape3D() && g instanceof ReadbackGraphics && needsBlending()) {
             renderNodeBlendMode(g);
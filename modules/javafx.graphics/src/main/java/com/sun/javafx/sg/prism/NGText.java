@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -36,6 +36,7 @@ import com.sun.javafx.geom.RectBounds;
 import com.sun.javafx.geom.RoundRectangle2D;
 import com.sun.javafx.geom.Shape;
 import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.javafx.geom.transform.NoninvertibleTransformException;
 import com.sun.javafx.scene.text.GlyphList;
 import com.sun.javafx.text.TextRun;
 import com.sun.prism.Graphics;
@@ -261,6 +262,9 @@ public class NGText extends NGShape {
             // Note: this clip does not including any clip in the ancestors.
             clipBds = getClippedBounds(new RectBounds(), IDENT);
         }
+        if (!printing) {
+            clipBds = intersectDeviceClip(g, tx, clipBds);
+        }
 
         // FILL or STROKE_FILL
         if (mode != Mode.STROKE) {
@@ -290,9 +294,62 @@ public class NGText extends NGShape {
         g.setNodeBounds(null);
     }
 
+    /*
+     * Intersects the clip bounds with the clip of the graphics, which includes
+     * the clips of the ancestors (i.e. the viewport of a ScrollPane), mapped
+     * to local coordinates. The result is padded by the font size to account
+     * for glyphs that extend outside of their line bounds.
+     * This allows large texts, such as the content of a TextArea, to only
+     * render the lines that are visible.
+     */
+    private BaseBounds intersectDeviceClip(Graphics g, BaseTransform tx,
+                                           BaseBounds clipBds) {
+        /* With a perspective camera the transform does not map to device space */
+        if (!tx.is2D() || !(g.getCameraNoClone() instanceof NGParallelCamera)) {
+            return clipBds;
+        }
+        RectBounds devClip = g.getFinalClipNoClone();
+        if (devClip == null || devClip.isEmpty()) return clipBds;
+        BaseBounds localClip;
+        try {
+            localClip = tx.inverseTransform(devClip, new RectBounds());
+        } catch (NoninvertibleTransformException e) {
+            return clipBds;
+        }
+        if (!(localClip instanceof RectBounds)) return clipBds;
+        float pad = font != null ? font.getSize() : 0;
+        RectBounds bounds = (RectBounds)localClip;
+        bounds.setBounds(bounds.getMinX() - pad, bounds.getMinY() - pad,
+                         bounds.getMaxX() + pad, bounds.getMaxY() + pad);
+        if (clipBds != null) {
+            bounds.intersectWith(clipBds);
+        }
+        return bounds;
+    }
+
+    /*
+     * Returns the index of the first run that is not above minY. The runs
+     * are sorted by line, so the line locations are never decreasing.
+     */
+    private int findFirstRun(float minY) {
+        int low = 0, high = runs.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            TextRun run = (TextRun)runs[mid];
+            float y = run.getLocation().y - layoutY;
+            if (y + run.getLineBounds().getHeight() < minY) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
     private void renderText(Graphics g, FontStrike strike, BaseBounds clipBds,
                             Color selectionColor, int op) {
-        for (int i = 0; i < runs.length; i++) {
+        int first = clipBds != null ? findFirstRun(clipBds.getMinY()) : 0;
+        for (int i = first; i < runs.length; i++) {
             TextRun run = (TextRun)runs[i];
             RectBounds lineBounds = run.getLineBounds();
             Point2D pt = run.getLocation();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -46,11 +46,11 @@ import com.sun.javafx.geom.transform.Translate2D;
 import com.sun.javafx.scene.text.GlyphList;
 import com.sun.javafx.scene.text.TextLayout;
 import com.sun.javafx.scene.text.TextSpan;
+import java.nio.CharBuffer;
 import java.text.Bidi;
 import java.text.BreakIterator;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Hashtable;
+import java.util.stream.IntStream;
 
 public class PrismTextLayout implements TextLayout {
     private static final BaseTransform IDENTITY = BaseTransform.IDENTITY_TRANSFORM;
@@ -59,17 +59,19 @@ public class PrismTextLayout implements TextLayout {
     private static final int X_MAX_INDEX = 2;
     private static final int Y_MAX_INDEX = 3;
 
-    private static final Hashtable<Integer, LayoutCache> stringCache = new Hashtable<>();
-    private static final Object  CACHE_SIZE_LOCK = new Object();
-    private static int cacheSize = 0;
     private static final int MAX_STRING_SIZE = 256;
     private static final int MAX_CACHE_SIZE = PrismFontFactory.cacheLayoutSize;
+    /* Layouts of short strings shared by all the instances */
+    private static final StringLayoutCache stringCache =
+            new StringLayoutCache(MAX_CACHE_SIZE);
+    private static final int PARALLEL_SHAPING_THRESHOLD = PrismFontFactory.parallelShapingThreshold;
+    private static final int PARALLEL_SHAPING_CHUNK = 0x4000;
 
     private char[] text;
     private TextSpan[] spans;   /* Rich text  (null for single font text) */
     private PGFont font;        /* Single font text (null for rich text) */
     private FontStrike strike;  /* cached strike of font (identity) */
-    private Integer cacheKey;
+    private StringLayoutCache.Key cacheKey;
     private TextLine[] lines;
     private TextRun[] runs;
     private int runCount;
@@ -132,6 +134,13 @@ public class PrismTextLayout implements TextLayout {
     }
 
     public boolean setContent(String text, Object font) {
+        /* Keep the glyphs and advances when the content is unchanged, mapping
+         * a large text again is as expensive as the first layout.
+         */
+        if (this.spans == null && this.font == font &&
+            this.text != null && text.contentEquals(CharBuffer.wrap(this.text))) {
+            return false;
+        }
         reset();
         this.spans = null;
         this.font = (PGFont)font;
@@ -140,7 +149,7 @@ public class PrismTextLayout implements TextLayout {
         if (MAX_CACHE_SIZE > 0) {
             int length = text.length();
             if (0 < length && length <= MAX_STRING_SIZE) {
-                cacheKey = text.hashCode() * strike.hashCode();
+                cacheKey = new StringLayoutCache.Key(text, this.font);
             }
         }
         return true;
@@ -692,7 +701,7 @@ public class PrismTextLayout implements TextLayout {
         if (cacheKey != null) {
             if (layoutCache == null) {
                 LayoutCache cache = stringCache.get(cacheKey);
-                if (cache != null && cache.font.equals(font) && Arrays.equals(cache.text, text)) {
+                if (cache != null) {
                     layoutCache = cache;
                     runs = cache.runs;
                     runCount = cache.runCount;
@@ -874,7 +883,14 @@ public class PrismTextLayout implements TextLayout {
 
                 /* The text only contains non-complex runs, all the glyphs and
                  * advances are stored in the shapeCache */
-                if (!layoutCache.valid) {
+                if (layoutCache.prefilled && !layoutCache.valid) {
+                    int end = start + length;
+                    float width = 0;
+                    for (int i = start; i < end; i++) {
+                        width += layoutCache.advances[i];
+                    }
+                    run.setWidth(width);
+                } else if (!layoutCache.valid) {
                     float fontSize = strike.getSize();
                     CharToGlyphMapper mapper  = fr.getGlyphMapper();
                     mapper.charsToGlyphs(start, length, chars, layoutCache.glyphs, start);
@@ -892,6 +908,43 @@ public class PrismTextLayout implements TextLayout {
         }
     }
 
+    /* Maps all the chars to glyphs and advances using several threads.
+     * Only used for large texts with a single font, where this is the
+     * bulk of the layout cost. The line breaking that follows is done
+     * sequentially using the advances stored in the layoutCache.
+     * The calling thread maps chunks as well and waits for the others, as
+     * the layout is needed right away. Composite fonts synchronize the
+     * lazy creation of their glyph mappers and fallback slots.
+     */
+    private void prefillCache(char[] chars) {
+        FontResource fr = strike.getFontResource();
+        CharToGlyphMapper mapper = fr.getGlyphMapper();
+        float fontSize = strike.getSize();
+        int[] glyphs = layoutCache.glyphs;
+        float[] advances = layoutCache.advances;
+
+        /* Never split a surrogate pair between two chunks */
+        ArrayList<Integer> bounds = new ArrayList<>();
+        int offset = 0;
+        bounds.add(offset);
+        while (offset < chars.length) {
+            offset = Math.min(offset + PARALLEL_SHAPING_CHUNK, chars.length);
+            if (offset < chars.length && Character.isHighSurrogate(chars[offset - 1])) {
+                offset++;
+            }
+            bounds.add(offset);
+        }
+        IntStream.range(0, bounds.size() - 1).parallel().forEach(chunk -> {
+            int start = bounds.get(chunk);
+            int end = bounds.get(chunk + 1);
+            mapper.charsToGlyphs(start, end - start, chars, glyphs, start);
+            for (int i = start; i < end; i++) {
+                advances[i] = fr.getAdvance(glyphs[i], fontSize);
+            }
+        });
+        layoutCache.prefilled = true;
+    }
+
     private TextLine createLine(int start, int end, int startOffset) {
         int count = end - start + 1;
         TextRun[] lineRuns = new TextRun[count];
@@ -1066,6 +1119,11 @@ public class PrismTextLayout implements TextLayout {
                 layoutCache.glyphs = new int[chars.length];
                 layoutCache.advances = new float[chars.length];
             }
+            if (!layoutCache.valid && spans == null &&
+                PARALLEL_SHAPING_THRESHOLD > 0 &&
+                chars.length >= PARALLEL_SHAPING_THRESHOLD) {
+                prefillCache(chars);
+            }
         } else {
             layoutCache = null;
         }
@@ -1298,23 +1356,13 @@ public class PrismTextLayout implements TextLayout {
                  * be immutable. See copyCache() for the cases where the entire
                  * layout is immutable.
                  */
-                layoutCache.font = font;
-                layoutCache.text = text;
                 layoutCache.runs = runs;
                 layoutCache.runCount = runCount;
                 layoutCache.lines = lines;
                 layoutCache.layoutWidth = layoutWidth;
                 layoutCache.layoutHeight = layoutHeight;
                 layoutCache.analysis = flags & ANALYSIS_MASK;
-                synchronized (CACHE_SIZE_LOCK) {
-                    int charCount = chars.length;
-                    if (cacheSize + charCount > MAX_CACHE_SIZE) {
-                        stringCache.clear();
-                        cacheSize = 0;
-                    }
-                    stringCache.put(cacheKey, layoutCache);
-                    cacheSize += charCount;
-                }
+                stringCache.put(cacheKey, layoutCache);
             }
             layoutCache.valid = true;
         }
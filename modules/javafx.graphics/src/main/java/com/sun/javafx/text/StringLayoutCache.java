@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.text;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import com.sun.javafx.logging.PulseLogger;
+
+import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
+
+/*
+ * Layouts of short strings shared by all the PrismTextLayout instances. The
+ * least recently used entries are evicted once the total number of cached
+ * chars exceeds the size limit. The entry being added is never evicted.
+ * Hits, misses and evictions are reported to the pulse logger.
+ */
+final class StringLayoutCache {
+
+    private final Map<Key, LayoutCache> map = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxSize;
+    private int size;
+    private int hits, misses, evictions;
+
+    StringLayoutCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    synchronized LayoutCache get(Key key) {
+        LayoutCache cache = map.get(key);
+        if (cache != null) {
+            hits++;
+            if (PULSE_LOGGING_ENABLED) {
+                PulseLogger.incrementCounter("Text layout cache hits");
+            }
+        } else {
+            misses++;
+            if (PULSE_LOGGING_ENABLED) {
+                PulseLogger.incrementCounter("Text layout cache misses");
+            }
+        }
+        return cache;
+    }
+
+    synchronized void put(Key key, LayoutCache cache) {
+        if (map.put(key, cache) == null) {
+            size += key.text.length();
+        }
+        Iterator<Key> it = map.keySet().iterator();
+        while (size > maxSize && it.hasNext()) {
+            Key eldest = it.next();
+            if (eldest.equals(key)) break;
+            it.remove();
+            size -= eldest.text.length();
+            evictions++;
+            if (PULSE_LOGGING_ENABLED) {
+                PulseLogger.incrementCounter("Text layout cache evictions");
+            }
+        }
+    }
+
+    /* Number of chars held by the cache */
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized int getHitCount() {
+        return hits;
+    }
+
+    synchronized int getMissCount() {
+        return misses;
+    }
+
+    synchronized int getEvictionCount() {
+        return evictions;
+    }
+
+    static final class Key {
+        private final String text;
+        private final Object font;
+        private final int hash;
+
+        Key(String text, Object font) {
+            this.text = text;
+            this.font = font;
+            this.hash = 31 * text.hashCode() + font.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key)) return false;
+            Key other = (Key)obj;
+            return hash == other.hash &&
+                   text.equals(other.text) &&
+                   font.equals(other.font);
+        }
+    }
+}
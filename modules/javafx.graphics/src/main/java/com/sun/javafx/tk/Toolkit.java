@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -68,8 +68,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import com.sun.glass.ui.CommonDialogs.FileChooserResult;
 import com.sun.glass.ui.GlassRobot;
 import com.sun.glass.utils.NativeLibLoader;
@@ -82,6 +86,7 @@ import com.sun.javafx.perf.PerformanceTracker;
 import com.sun.javafx.runtime.VersionInfo;
 import com.sun.javafx.runtime.async.AsyncOperation;
 import com.sun.javafx.runtime.async.AsyncOperationListener;
+import com.sun.javafx.runtime.async.BackgroundExecutor;
 import com.sun.javafx.scene.SceneHelper;
 import com.sun.javafx.scene.text.TextLayoutFactory;
 import com.sun.javafx.sg.prism.NGCamera;
@@ -581,6 +586,54 @@ public abstract class Toolkit {
                                           boolean preserveRatio,
                                           boolean smooth);
 
+    /**
+     * Loads the images at the given URLs in parallel, with up to one image
+     * per available processor being decoded at any time, and returns one
+     * future per URL in the same order. Each future completes with the
+     * result of {@link #loadImage(String, double, double, boolean, boolean)}
+     * for its URL, or exceptionally if that throws. A URL whose future is
+     * cancelled before its turn is not loaded.
+     *
+     * @param executor the executor running the loads, or null to use the
+     * {@link BackgroundExecutor}
+     */
+    public List<CompletableFuture<ImageLoader>> loadImages(List<String> urls,
+            double width, double height, boolean preserveRatio, boolean smooth,
+            Executor executor) {
+        final int count = urls.size();
+        final List<CompletableFuture<ImageLoader>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            futures.add(new CompletableFuture<>());
+        }
+        if (executor == null) {
+            executor = BackgroundExecutor.getExecutor();
+        }
+
+        // A fixed number of workers take the URLs in order, which bounds the
+        // number of images being decoded at once whatever the executor
+        final AtomicInteger next = new AtomicInteger();
+        final Runnable worker = () -> {
+            int index;
+            while ((index = next.getAndIncrement()) < count) {
+                CompletableFuture<ImageLoader> future = futures.get(index);
+                if (future.isDone()) {
+                    continue;
+                }
+                try {
+                    future.complete(loadImage(urls.get(index), width, height,
+                                              preserveRatio, smooth));
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            }
+        };
+        int workers = Math.min(count, Runtime.getRuntime().availableProcessors());
+        for (int i = 0; i < workers; i++) {
+            executor.execute(worker);
+        }
+        return futures;
+    }
+
     /*
      * The loadPlatformImage method supports the following image types:
      *   - an object returned by the renderToImage method
@@ -828,6 +881,10 @@ public abstract class Toolkit {
 
         // PlatformImage into which to render or null
         public Object platformImage;
+
+        // Camera view state to render with, or null to render with the
+        // current state of the camera
+        public NGCamera.ViewState cameraViewState;
     }
 
     /*
@@ -865,6 +922,28 @@ public abstract class Toolkit {
 
     public abstract Object renderToImage(ImageRenderingContext context);
 
+    /*
+     * This method renders a PG-graph to a platform image object in the
+     * same way as renderToImage, but does not wait for the rendering to
+     * complete. The callback is called on the FX application thread with
+     * the platform image, or null if nothing was rendered, once the image
+     * is ready.
+     * The caller must have synchronized the PG-graph before calling this
+     * method. Toolkits that render on a separate thread do not synchronize
+     * the PG-graph again until the image is complete, so the image shows
+     * the PG-graph as it was when this method was called.
+     * The default implementation renders synchronously and calls the
+     * callback before returning.
+     *
+     * @param context a ImageRenderingContext instance specifying
+     *               the various rendering parameters
+     * @param callback the callback to be called with the platform image
+     */
+    public void renderToImageAsync(ImageRenderingContext context,
+                                   Consumer<Object> callback) {
+        callback.accept(renderToImage(context));
+    }
+
     /**
      * Returns the key code for the key which is commonly used on the
      * corresponding platform as a modifier key in shortcuts. For example
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.tk.quantum;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import com.sun.prism.impl.PrismSettings;
+
+/**
+ * A process wide cache of decoded images, keyed by URL and requested size.
+ *
+ * Concurrent loads of the same key are always deduplicated: the first thread
+ * decodes the image while the others wait for its result. Successfully
+ * decoded images are in addition kept in a least recently used cache bounded
+ * by the total size of their pixel buffers, as set by
+ * {@code -Dprism.imageCacheSize}. The cache is disabled by default.
+ *
+ * Images loaded from a URL are never modified once decoded, so the same
+ * decoded frames can be shared by all the javafx.scene.image.Image instances
+ * loaded from the same URL with the same parameters.
+ */
+final class DecodedImageCache {
+
+    interface Loader {
+        PrismImageLoader2 load() throws IOException;
+    }
+
+    static final class Key {
+        private final String url;
+        private final double width;
+        private final double height;
+        private final boolean preserveRatio;
+        private final boolean smooth;
+        private final float pixelScale;
+        private final int hash;
+
+        Key(String url, double width, double height,
+            boolean preserveRatio, boolean smooth, float pixelScale)
+        {
+            this.url = url;
+            this.width = width;
+            this.height = height;
+            this.preserveRatio = preserveRatio;
+            this.smooth = smooth;
+            this.pixelScale = pixelScale;
+            int h = url.hashCode();
+            h = 31 * h + Double.hashCode(width);
+            h = 31 * h + Double.hashCode(height);
+            h = 31 * h + (preserveRatio ? 1 : 0);
+            h = 31 * h + (smooth ? 1 : 0);
+            h = 31 * h + Float.floatToIntBits(pixelScale);
+            this.hash = h;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hash == other.hash &&
+                   url.equals(other.url) &&
+                   Double.compare(width, other.width) == 0 &&
+                   Double.compare(height, other.height) == 0 &&
+                   preserveRatio == other.preserveRatio &&
+                   smooth == other.smooth &&
+                   Float.compare(pixelScale, other.pixelScale) == 0;
+        }
+    }
+
+    private static final class Entry {
+        final PrismImageLoader2 loader;
+        final long size;
+
+        Entry(PrismImageLoader2 loader, long size) {
+            this.loader = loader;
+            this.size = size;
+        }
+    }
+
+    private static final DecodedImageCache instance =
+            new DecodedImageCache(PrismSettings.imageCacheSize);
+
+    private final long maxSize;
+
+    /* Guarded by cache */
+    private final LinkedHashMap<Key, Entry> cache =
+            new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Key, FutureTask<PrismImageLoader2>> loading =
+            new HashMap<>();
+    private long size;
+    private int hits, misses;
+
+    /**
+     * Creates a cache that keeps up to maxSize bytes of pixel data, or that
+     * only deduplicates concurrent loads if maxSize is 0.
+     */
+    DecodedImageCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the image for the given key from the process wide cache.
+     * See {@link #load(Key, Loader)}.
+     */
+    static PrismImageLoader2 get(Key key, Loader loader) throws IOException {
+        return instance.load(key, loader);
+    }
+
+    /**
+     * Returns the image for the given key from the cache or from a load of
+     * the same key in progress on another thread, or loads it with the given
+     * loader.
+     */
+    PrismImageLoader2 load(Key key, Loader loader) throws IOException {
+        @SuppressWarnings("removal")
+        boolean hasSecurityManager = System.getSecurityManager() != null;
+        if (hasSecurityManager) {
+            // sharing would bypass the permission checks done when the URL
+            // is opened in the caller's context
+            return loader.load();
+        }
+
+        final FutureTask<PrismImageLoader2> task;
+        final boolean owner;
+        synchronized (cache) {
+            Entry entry = cache.get(key);
+            if (entry != null) {
+                hits++;
+                return entry.loader;
+            }
+            FutureTask<PrismImageLoader2> pending = loading.get(key);
+            if (pending != null) {
+                hits++;
+                task = pending;
+                owner = false;
+            } else {
+                misses++;
+                task = new FutureTask<>(loader::load);
+                loading.put(key, task);
+                owner = true;
+            }
+        }
+
+        if (owner) {
+            try {
+                task.run();
+            } finally {
+                synchronized (cache) {
+                    loading.remove(key);
+                    if (task.isDone() && !task.isCancelled()) {
+                        try {
+                            put(key, task.get());
+                        } catch (InterruptedException | ExecutionException e) {
+                            // not cached
+                        }
+                    }
+                }
+            }
+        }
+
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (owner) {
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IOException(cause);
+            }
+            // the load we waited for failed, possibly because it was
+            // cancelled, so try again on this thread
+            return loader.load();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Image loading interrupted");
+        }
+    }
+
+    /*
+     * The statistics below are kept on the cache rather than reported to the
+     * pulse logger, as images are mostly loaded on background threads.
+     */
+
+    /**
+     * Returns the number of loads that shared an image, either from the cache
+     * or from a load of the same key in progress on another thread.
+     */
+    int getHitCount() {
+        synchronized (cache) {
+            return hits;
+        }
+    }
+
+    /**
+     * Returns the number of loads that decoded the image.
+     */
+    int getMissCount() {
+        synchronized (cache) {
+            return misses;
+        }
+    }
+
+    /**
+     * Returns the total size in bytes of the pixel buffers held by the cache.
+     */
+    long getResidentBytes() {
+        synchronized (cache) {
+            return size;
+        }
+    }
+
+    private void put(Key key, PrismImageLoader2 loader) {
+        if (maxSize <= 0 || loader == null || loader.getException() != null) {
+            return;
+        }
+        long entrySize = loader.getByteSize();
+        if (entrySize > maxSize) {
+            return;
+        }
+        Entry old = cache.put(key, new Entry(loader, entrySize));
+        if (old != null) {
+            size -= old.size;
+        }
+        size += entrySize;
+        Iterator<Entry> it = cache.values().iterator();
+        while (size > maxSize && it.hasNext()) {
+            Entry eldest = it.next();
+            it.remove();
+            size -= eldest.size;
+        }
+    }
+}
@@ -127,6 +127,7 @@ abstract class GlassScene implements TKScene {
 
     @Override
     public void waitForSynchronization() {
+        ((QuantumToolkit) QuantumToolkit.getToolkit()).waitForSnapshots();
         ViewPainter.renderLock.lock();
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -117,6 +117,20 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
         return exception;
     }
 
+    /**
+     * Returns the total size in bytes of the pixel buffers of all frames.
+     */
+    long getByteSize() {
+        long size = 0;
+        if (images != null) {
+            for (Image image : images) {
+                size += (long) image.getPixelBuffer().capacity() *
+                        image.getDataType().getSizeInBytes();
+            }
+        }
+        return size;
+    }
+
     private void loadAll(String url, double w, double h,
                          boolean preserveRatio, float pixelScale,
                          boolean smooth)
@@ -254,9 +268,16 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
             return new PrismImageLoader2(stream, width, height, preserveRatio, smooth);
         }
 
-        @SuppressWarnings("removal")
         @Override
         public PrismImageLoader2 call() throws IOException {
+            return DecodedImageCache.get(
+                    new DecodedImageCache.Key(url, width, height,
+                                              preserveRatio, smooth, 1.0f),
+                    this::load);
+        }
+
+        @SuppressWarnings("removal")
+        private PrismImageLoader2 load() throws IOException {
             try {
                 return AccessController.doPrivileged(
                         (PrivilegedExceptionAction<PrismImageLoader2>) () -> AsyncImageLoader.super.call(), acc);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -56,6 +56,7 @@ import javafx.stage.Modality;
 import javafx.stage.StageStyle;
 import javafx.stage.Window;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
@@ -74,6 +75,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import com.sun.glass.ui.Application;
 import com.sun.glass.ui.Clipboard;
@@ -96,6 +98,7 @@ import com.sun.javafx.perf.PerformanceTracker;
 import com.sun.javafx.runtime.async.AbstractRemoteResource;
 import com.sun.javafx.runtime.async.AsyncOperationListener;
 import com.sun.javafx.scene.text.TextLayoutFactory;
+import com.sun.javafx.sg.prism.NGCamera;
 import com.sun.javafx.sg.prism.NGNode;
 import com.sun.javafx.tk.CompletionListener;
 import com.sun.javafx.tk.FileChooserType;
@@ -572,6 +575,7 @@ public final class QuantumToolkit extends Toolkit {
                 animationRunning.set(false);
             }
             firePulse();
+            renderPendingSnapshots();
             if (collect) collector.renderAll();
         } finally {
             inPulse--;
@@ -781,7 +785,17 @@ public final class QuantumToolkit extends Toolkit {
     }
 
     @Override public ImageLoader loadImage(String url, double width, double height, boolean preserveRatio, boolean smooth) {
-        return new PrismImageLoader2(url, width, height, preserveRatio, getMaxRenderScale(), smooth);
+        final float pixelScale = getMaxRenderScale();
+        final DecodedImageCache.Key key =
+                new DecodedImageCache.Key(url, width, height, preserveRatio, smooth, pixelScale);
+        try {
+            return DecodedImageCache.get(key,
+                    () -> new PrismImageLoader2(url, width, height, preserveRatio, pixelScale, smooth));
+        } catch (IOException e) {
+            // interrupted while waiting for the same image to be loaded on
+            // another thread
+            return new PrismImageLoader2(url, width, height, preserveRatio, pixelScale, smooth);
+        }
     }
 
     @Override public ImageLoader loadImage(InputStream stream, double width, double height,
@@ -1454,10 +1468,108 @@ public final class QuantumToolkit extends Toolkit {
     public Object renderToImage(ImageRenderingContext p) {
         Object saveImage = p.platformImage;
         final ImageRenderingContext params = p;
-        final com.sun.prism.paint.Paint currentPaint = p.platformPaint instanceof com.sun.prism.paint.Paint ?
-                (com.sun.prism.paint.Paint)p.platformPaint : null;
+        RenderJob re = createRenderToImageJob(params, false);
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        re.setCompletionListener(job -> latch.countDown());
+        addRenderJob(re);
+
+        do {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException ex) {
+                ex.printStackTrace();
+            }
+        } while (true);
+
+        Object image = params.platformImage;
+        params.platformImage = saveImage;
+
+        return image;
+    }
+
+    /*
+     * Deferred snapshots requested during a pulse are rendered together by a
+     * single render job queued at the end of the pulse. The FX thread does
+     * not synchronize the render tree again until that job has rendered
+     * them, see waitForSnapshots, so each snapshot shows the tree as it was
+     * synchronized for it. Only accessed on the FX thread.
+     */
+    private List<RenderJob> pendingSnapshots = new ArrayList<>();
+    private CountDownLatch snapshotsRendered;
+
+    @Override
+    public void renderToImageAsync(ImageRenderingContext params,
+                                   Consumer<Object> callback) {
+        Object saveImage = params.platformImage;
+        RenderJob re = createRenderToImageJob(params, true);
+
+        re.setCompletionListener(job -> PlatformImpl.runLater(() -> {
+            Object image = params.platformImage;
+            params.platformImage = saveImage;
+            callback.accept(image);
+        }));
+        pendingSnapshots.add(re);
+        if (inPulse == 0) {
+            renderPendingSnapshots();
+        }
+    }
+
+    private void renderPendingSnapshots() {
+        if (pendingSnapshots.isEmpty()) {
+            return;
+        }
+        final List<RenderJob> jobs = pendingSnapshots;
+        final CountDownLatch rendered = new CountDownLatch(1);
+        pendingSnapshots = new ArrayList<>();
+        snapshotsRendered = rendered;
+        addRenderJob(new RenderJob(() -> {
+            ViewPainter.renderLock.lock();
+            try {
+                for (RenderJob job : jobs) {
+                    job.run();
+                }
+            } finally {
+                ViewPainter.renderLock.unlock();
+                rendered.countDown();
+            }
+        }));
+    }
+
+    /*
+     * Called on the FX thread before it synchronizes the render tree. Waits
+     * for the deferred snapshots of the previous pulses to be rendered.
+     */
+    void waitForSnapshots() {
+        final CountDownLatch rendered = snapshotsRendered;
+        if (rendered == null || ViewPainter.renderLock.isHeldByCurrentThread()) {
+            return;
+        }
+        do {
+            try {
+                rendered.await();
+                break;
+            } catch (InterruptedException ex) {
+                ex.printStackTrace();
+            }
+        } while (true);
+        if (snapshotsRendered == rendered) {
+            snapshotsRendered = null;
+        }
+    }
 
-        RenderJob re = new RenderJob(new Runnable() {
+    /*
+     * Creates the render job for renderToImage. An asynchronous job is run
+     * by the render job of its pulse, which holds the render lock, and it
+     * renders with the camera view state captured for the snapshot.
+     */
+    private RenderJob createRenderToImageJob(final ImageRenderingContext params,
+                                             final boolean async) {
+        final com.sun.prism.paint.Paint currentPaint = params.platformPaint instanceof com.sun.prism.paint.Paint ?
+                (com.sun.prism.paint.Paint)params.platformPaint : null;
+
+        return new RenderJob(new Runnable() {
 
             private com.sun.prism.paint.Color getClearColor() {
                 if (currentPaint == null) {
@@ -1559,6 +1671,25 @@ public final class QuantumToolkit extends Toolkit {
 
             @Override
             public void run() {
+                if (!async) {
+                    render();
+                    return;
+                }
+                NGCamera.ViewState savedViewState = null;
+                try {
+                    if (params.camera != null && params.cameraViewState != null) {
+                        savedViewState = params.camera.getViewState();
+                        params.camera.setViewState(params.cameraViewState);
+                    }
+                    render();
+                } finally {
+                    if (savedViewState != null) {
+                        params.camera.setViewState(savedViewState);
+                    }
+                }
+            }
+
+            private void render() {
 
                 ResourceFactory rf = GraphicsPipeline.getDefaultResourceFactory();
 
@@ -1662,24 +1793,6 @@ public final class QuantumToolkit extends Toolkit {
                 }
             }
         });
-
-        final CountDownLatch latch = new CountDownLatch(1);
-        re.setCompletionListener(job -> latch.countDown());
-        addRenderJob(re);
-
-        do {
-            try {
-                latch.await();
-                break;
-            } catch (InterruptedException ex) {
-                ex.printStackTrace();
-            }
-        } while (true);
-
-        Object image = params.platformImage;
-        params.platformImage = saveImage;
-
-        return image;
     }
 
     @Override
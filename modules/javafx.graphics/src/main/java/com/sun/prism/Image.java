@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -54,9 +54,12 @@ import com.sun.javafx.image.impl.ByteGrayAlpha;
 import com.sun.javafx.image.impl.ByteGrayAlphaPre;
 import com.sun.javafx.image.impl.ByteRgb;
 import com.sun.javafx.image.impl.ByteRgba;
+import com.sun.javafx.logging.PulseLogger;
 import com.sun.javafx.tk.PlatformImage;
 import com.sun.prism.impl.BufferUtil;
 
+import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
+
 public class Image implements PlatformImage {
     static final javafx.scene.image.WritablePixelFormat<ByteBuffer> FX_ByteBgraPre_FORMAT =
         javafx.scene.image.PixelFormat.getByteBgraPreInstance();
@@ -591,8 +594,15 @@ public class Image implements PlatformImage {
     }
 
     public static class Serial {
+        // number of past dirty regions kept, so that a texture which missed
+        // a few updates only needs to upload the union of their regions;
+        // must be a power of 2
+        private static final int HISTORY_SIZE = 8;
+
         private int id;
         private Rectangle dirtyRegion;
+        private final Rectangle[] history = new Rectangle[HISTORY_SIZE];
+        private long skippedUpdates;
 
         Serial() {
             id = 0;
@@ -601,13 +611,68 @@ public class Image implements PlatformImage {
 
         public synchronized Pair<Integer, Rectangle> getIdRect() {
             // Called on quantumRenderer-0
-            return new Pair(id, (dirtyRegion == null)? null : new Rectangle(dirtyRegion));
+            return new Pair<>(id, (dirtyRegion == null)? null : new Rectangle(dirtyRegion));
+        }
+
+        /**
+         * Returns the current id and the union of the regions updated since
+         * the given id, or a null region if the whole image needs to be
+         * updated.
+         */
+        public synchronized Pair<Integer, Rectangle> getIdRect(int sinceId) {
+            // Called on quantumRenderer-0
+            int count = id - sinceId;
+            if (count <= 0) {
+                return new Pair<>(id, null);
+            }
+            if (count > HISTORY_SIZE) {
+                return new Pair<>(id, null);
+            }
+            Rectangle region = null;
+            for (int i = 1; i <= count; i++) {
+                Rectangle rect = history[(sinceId + i) & (HISTORY_SIZE - 1)];
+                if (rect == null) {
+                    return new Pair<>(id, null);
+                }
+                if (region == null) {
+                    region = new Rectangle(rect);
+                } else {
+                    region.add(rect);
+                }
+            }
+            return new Pair<>(id, region);
+        }
+
+        /**
+         * Returns the number of updates which were not uploaded on their own
+         * because further updates were made before the image was rendered.
+         * They are also reported to the pulse logger.
+         */
+        public synchronized long getSkippedUpdates() {
+            return skippedUpdates;
+        }
+
+        /**
+         * Records that an upload went from the given id to the given later
+         * id, skipping the updates in between.
+         */
+        public synchronized void uploaded(int fromId, int toId) {
+            // Called on quantumRenderer-0
+            if (toId - fromId > 1) {
+                skippedUpdates += toId - fromId - 1;
+                if (PULSE_LOGGING_ENABLED) {
+                    for (int i = fromId + 1; i < toId; i++) {
+                        PulseLogger.incrementCounter("Image updates skipped");
+                    }
+                }
+            }
         }
 
         public synchronized void update(Rectangle rect) {
             // Called on FX Application thread
             id++;
             dirtyRegion = rect;
+            history[id & (HISTORY_SIZE - 1)] = (rect == null) ? null : new Rectangle(rect);
         }
     }
 
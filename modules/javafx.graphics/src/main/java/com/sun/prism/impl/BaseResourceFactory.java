@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -223,7 +223,9 @@ public abstract class BaseResourceFactory implements ResourceFactory {
             }
         }
 
-        Pair <Integer, Rectangle> idRect = image.getSerial().getIdRect();
+        Pair <Integer, Rectangle> idRect = (tex == null)
+                ? image.getSerial().getIdRect()
+                : image.getSerial().getIdRect(tex.getLastImageSerial());
         if (tex == null) {
             int w = image.getWidth();
             int h = image.getHeight();
@@ -241,9 +243,9 @@ public abstract class BaseResourceFactory implements ResourceFactory {
                 texCache.put(image, tex);
             }
         } else if (tex.getLastImageSerial() != idRect.getKey()) {
-            // If the image was updated only once, then the image is partially updated.
-            // Else whole image is updated.
-            if (idRect.getKey() - tex.getLastImageSerial() == 1 && idRect.getValue() != null) {
+            // Upload the union of the regions updated since the texture was
+            // last updated, or the whole image if that is unknown.
+            if (idRect.getValue() != null) {
                 Rectangle dirtyRect = idRect.getValue();
                 tex.update(image.getPixelBuffer(), image.getPixelFormat(),
                         dirtyRect.x, dirtyRect.y, dirtyRect.x, dirtyRect.y,
@@ -252,6 +254,7 @@ public abstract class BaseResourceFactory implements ResourceFactory {
             } else {
                 tex.update(image, 0, 0, image.getWidth(), image.getHeight(), false);
             }
+            image.getSerial().uploaded(tex.getLastImageSerial(), idRect.getKey());
             tex.setLastImageSerial(idRect.getKey());
         }
         return tex;
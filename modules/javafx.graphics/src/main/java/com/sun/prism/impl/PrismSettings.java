@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -74,7 +74,10 @@ public final class PrismSettings {
     public static final long targetVram;
     public static final boolean poolStats;
     public static final boolean poolDebug;
+    public static final long imageCacheSize;
     public static final boolean disableEffects;
+    public static final int effectThreads;
+    public static final int effectCacheFrames;
     public static final int glyphCacheWidth;
     public static final int glyphCacheHeight;
     public static final String perfLog;
@@ -271,6 +274,9 @@ public final class PrismSettings {
                              "Try -Dprism.targetvram=<long>[kKmMgG]|<double(0,100)>%");
         poolStats = getBoolean(systemProperties, "prism.poolstats", false);
         poolDebug = getBoolean(systemProperties, "prism.pooldebug", false);
+        imageCacheSize = getLong(systemProperties, "prism.imageCacheSize", 0,
+                                 Runtime.getRuntime().maxMemory(),
+                                 "Try -Dprism.imageCacheSize=<long>[kKmMgG]|<double(0,100)>%");
 
         if (verbose) {
             System.out.print("Prism pipeline init order: ");
@@ -329,6 +335,24 @@ public final class PrismSettings {
 
         disableEffects = getBoolean(systemProperties, "prism.disableEffects", false);
 
+        /*
+         * Number of threads used by the Java software effect peers to
+         * filter large images. The default of 1 filters on the render
+         * thread only. A value of <= 0 uses one thread per processor.
+         */
+        int threads = getInt(systemProperties, "prism.effectThreads", 1,
+                             "Try -Dprism.effectThreads=<number>");
+        effectThreads = (threads <= 0) ? Runtime.getRuntime().availableProcessors() : threads;
+
+        /*
+         * Number of consecutive renders after which a node with an effect
+         * whose content and effect have not changed gets its effect output
+         * cached automatically, as if Node.cache had been set. The default
+         * of 0 disables the automatic cache.
+         */
+        effectCacheFrames = getInt(systemProperties, "prism.effectCacheFrames", 0,
+                                   "Try -Dprism.effectCacheFrames=<number>");
+
         glyphCacheWidth = getInt(systemProperties, "prism.glyphCacheWidth", 1024,
                 "Try -Dprism.glyphCacheWidth=<number>");
         glyphCacheHeight = getInt(systemProperties, "prism.glyphCacheHeight", 1024,
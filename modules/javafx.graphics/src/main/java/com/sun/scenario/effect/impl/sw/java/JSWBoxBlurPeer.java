@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -114,12 +114,22 @@ public class JSWBoxBlurPeer extends JSWEffectPeer<BoxRenderState> {
 
     protected void filterHorizontal(int dstPixels[], int dstw, int dsth, int dstscan,
                                     int srcPixels[], int srcw, int srch, int srcscan)
+    {
+        filterBands(dsth, dstw, (start, end) ->
+            filterHorizontal(dstPixels, dstw, dsth, dstscan,
+                             srcPixels, srcw, srch, srcscan,
+                             start, end));
+    }
+
+    void filterHorizontal(int dstPixels[], int dstw, int dsth, int dstscan,
+                          int srcPixels[], int srcw, int srch, int srcscan,
+                          int start, int end)
     {
         int hsize = dstw - srcw + 1;
         int kscale = 0x7fffffff / (hsize * 255);
-        int srcoff = 0;
-        int dstoff = 0;
-        for (int y = 0; y < dsth; y++) {
+        int srcoff = start * srcscan;
+        int dstoff = start * dstscan;
+        for (int y = start; y < end; y++) {
             int suma = 0;
             int sumr = 0;
             int sumg = 0;
@@ -151,11 +161,21 @@ public class JSWBoxBlurPeer extends JSWEffectPeer<BoxRenderState> {
 
     protected void filterVertical(int dstPixels[], int dstw, int dsth, int dstscan,
                                   int srcPixels[], int srcw, int srch, int srcscan)
+    {
+        filterBands(dstw, dsth, (start, end) ->
+            filterVertical(dstPixels, dstw, dsth, dstscan,
+                           srcPixels, srcw, srch, srcscan,
+                           start, end));
+    }
+
+    void filterVertical(int dstPixels[], int dstw, int dsth, int dstscan,
+                        int srcPixels[], int srcw, int srch, int srcscan,
+                        int start, int end)
     {
         int vsize = dsth - srch + 1;
         int kscale = 0x7fffffff / (vsize * 255);
         int voff = vsize * srcscan;
-        for (int x = 0; x < dstw; x++) {
+        for (int x = start; x < end; x++) {
             int suma = 0;
             int sumr = 0;
             int sumg = 0;
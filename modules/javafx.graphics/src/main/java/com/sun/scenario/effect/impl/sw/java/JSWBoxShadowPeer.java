@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -145,6 +145,16 @@ public class JSWBoxShadowPeer extends JSWEffectPeer<BoxRenderState> {
     protected void filterHorizontalBlack(int dstPixels[], int dstw, int dsth, int dstscan,
                                          int srcPixels[], int srcw, int srch, int srcscan,
                                          float spread)
+    {
+        filterBands(dsth, dstw, (start, end) ->
+            filterHorizontalBlack(dstPixels, dstw, dsth, dstscan,
+                                  srcPixels, srcw, srch, srcscan, spread,
+                                  start, end));
+    }
+
+    void filterHorizontalBlack(int dstPixels[], int dstw, int dsth, int dstscan,
+                               int srcPixels[], int srcw, int srch, int srcscan,
+                               float spread, int start, int end)
     {
         int hsize = dstw - srcw + 1;
         // amax goes from hsize*255 to 255 as spread goes from 0 to 1
@@ -152,9 +162,9 @@ public class JSWBoxShadowPeer extends JSWEffectPeer<BoxRenderState> {
         amax += (255 - amax) * spread;
         int kscale = 0x7fffffff / amax;
         int amin = (amax / 255);
-        int srcoff = 0;
-        int dstoff = 0;
-        for (int y = 0; y < dsth; y++) {
+        int srcoff = start * srcscan;
+        int dstoff = start * dstscan;
+        for (int y = start; y < end; y++) {
             int suma = 0;
             for (int x = 0; x < dstw; x++) {
                 int rgb;
@@ -178,6 +188,16 @@ public class JSWBoxShadowPeer extends JSWEffectPeer<BoxRenderState> {
     protected void filterVerticalBlack(int dstPixels[], int dstw, int dsth, int dstscan,
                                        int srcPixels[], int srcw, int srch, int srcscan,
                                        float spread)
+    {
+        filterBands(dstw, dsth, (start, end) ->
+            filterVerticalBlack(dstPixels, dstw, dsth, dstscan,
+                                srcPixels, srcw, srch, srcscan, spread,
+                                start, end));
+    }
+
+    void filterVerticalBlack(int dstPixels[], int dstw, int dsth, int dstscan,
+                             int srcPixels[], int srcw, int srch, int srcscan,
+                             float spread, int start, int end)
     {
         int vsize = dsth - srch + 1;
         // amax goes from hsize*255 to 255 as spread goes from 0 to 1
@@ -186,7 +206,7 @@ public class JSWBoxShadowPeer extends JSWEffectPeer<BoxRenderState> {
         int kscale = 0x7fffffff / amax;
         int amin = (amax / 255);
         int voff = vsize * srcscan;
-        for (int x = 0; x < dstw; x++) {
+        for (int x = start; x < end; x++) {
             int suma = 0;
             int srcoff = x;
             int dstoff = x;
@@ -212,6 +232,16 @@ public class JSWBoxShadowPeer extends JSWEffectPeer<BoxRenderState> {
     protected void filterVertical(int dstPixels[], int dstw, int dsth, int dstscan,
                                   int srcPixels[], int srcw, int srch, int srcscan,
                                   float spread, float shadowColor[])
+    {
+        filterBands(dstw, dsth, (start, end) ->
+            filterVertical(dstPixels, dstw, dsth, dstscan,
+                           srcPixels, srcw, srch, srcscan, spread, shadowColor,
+                           start, end));
+    }
+
+    void filterVertical(int dstPixels[], int dstw, int dsth, int dstscan,
+                        int srcPixels[], int srcw, int srch, int srcscan,
+                        float spread, float shadowColor[], int start, int end)
     {
         int vsize = dsth - srch + 1;
         // amax goes from hsize*255 to 255 as spread goes from 0 to 1
@@ -229,7 +259,7 @@ public class JSWBoxShadowPeer extends JSWEffectPeer<BoxRenderState> {
             (((int) (shadowColor[1] * 255)) <<  8) |
             (((int) (shadowColor[2] * 255))      ) |
             (((int) (shadowColor[3] * 255)) << 24);
-        for (int x = 0; x < dstw; x++) {
+        for (int x = start; x < end; x++) {
             int suma = 0;
             int srcoff = x;
             int dstoff = x;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,6 +25,10 @@
 
 package com.sun.scenario.effect.impl.sw.java;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import com.sun.prism.impl.PrismSettings;
 import com.sun.scenario.effect.FilterContext;
 import com.sun.scenario.effect.impl.EffectPeer;
 import com.sun.scenario.effect.impl.Renderer;
@@ -36,6 +40,66 @@ public abstract class JSWEffectPeer<T extends RenderState> extends EffectPeer<T>
         super(fctx, r, uniqueName);
     }
 
+    /**
+     * Filters a range of the rows or columns of a destination image.
+     */
+    protected interface BandFilter {
+        void filter(int start, int end);
+    }
+
+    // Minimum amount of work for a band to be worth handing to another thread
+    private static final long MIN_BAND_WORK = 32 * 1024;
+
+    private static ForkJoinPool filterPool;
+
+    private static synchronized ForkJoinPool getFilterPool() {
+        if (filterPool == null) {
+            filterPool = new ForkJoinPool(PrismSettings.effectThreads - 1, pool -> {
+                ForkJoinWorkerThread t =
+                    ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                t.setName("Effect Filter Thread");
+                t.setDaemon(true);
+                return t;
+            }, null, false);
+        }
+        return filterPool;
+    }
+
+    /**
+     * Runs the filter over the range {@code [0, count)}. If more than one
+     * thread is configured with {@code prism.effectThreads} and there is
+     * enough work, the range is split into bands that are filtered in
+     * parallel, with the calling thread filtering the first band.
+     * The filter must only write the part of the destination that belongs
+     * to the band it is given.
+     *
+     * @param count the number of rows or columns to filter
+     * @param work the approximate number of operations per row or column
+     * @param filter the filter to run on each band
+     */
+    protected static void filterBands(int count, long work, BandFilter filter) {
+        long bands = Math.min(Math.min(PrismSettings.effectThreads, count),
+                              count * work / MIN_BAND_WORK);
+        if (bands <= 1) {
+            filter.filter(0, count);
+            return;
+        }
+        ForkJoinPool pool = getFilterPool();
+        ForkJoinTask<?> tasks[] = new ForkJoinTask<?>[(int) bands - 1];
+        for (int i = 1; i < bands; i++) {
+            int start = (int) ((long) count * i / bands);
+            int end = (int) ((long) count * (i + 1) / bands);
+            tasks[i - 1] = pool.submit(() -> filter.filter(start, end));
+        }
+        try {
+            filter.filter(0, (int) (count / bands));
+        } finally {
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        }
+    }
+
     protected final static int FVALS_A = 3;
     protected final static int FVALS_R = 0;
     protected final static int FVALS_G = 1;
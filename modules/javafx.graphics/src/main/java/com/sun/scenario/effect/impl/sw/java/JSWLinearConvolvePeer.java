@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -112,17 +112,19 @@ public class JSWLinearConvolvePeer extends JSWEffectPeer<LinearConvolveRenderSta
             weights_buf.get(weights_arr, 0, count);
             weights_buf.rewind();
             weights_buf.get(weights_arr, count, count);
-            filterHV(dstPixels, dstw, dsth, 1, dstscan,
-                     srcPixels, srcw, srch, 1, srcscan,
-                     weights_arr);
+            filterBands(dsth, (long) dstw * count, (start, end) ->
+                filterHV(dstPixels, dstw, dsth, 1, dstscan,
+                         srcPixels, srcw, srch, 1, srcscan,
+                         weights_arr, start, end));
         } else if (type == PassType.VERTICAL_CENTERED) {
             float[] weights_arr = new float[count * 2];
             weights_buf.get(weights_arr, 0, count);
             weights_buf.rewind();
             weights_buf.get(weights_arr, count, count);
-            filterHV(dstPixels, dsth, dstw, dstscan, 1,
-                     srcPixels, srch, srcw, srcscan, 1,
-                     weights_arr);
+            filterBands(dstw, (long) dsth * count, (start, end) ->
+                filterHV(dstPixels, dsth, dstw, dstscan, 1,
+                         srcPixels, srch, srcw, srcscan, 1,
+                         weights_arr, start, end));
         } else {
             float[] weights_arr = new float[count];
             weights_buf.get(weights_arr, 0, count);
@@ -154,13 +156,15 @@ public class JSWLinearConvolvePeer extends JSWEffectPeer<LinearConvolveRenderSta
             float offsetx = offset_arr[2] * srcw;
             float offsety = offset_arr[3] * srch;
 
-            filterVector(dstPixels, dstw, dsth, dstscan,
-                         srcPixels, srcw, srch, srcscan,
-                         weights_arr, count,
-                         srcx0, srcy0,
-                         offsetx, offsety,
-                         deltax, deltay,
-                         dxcol, dycol, dxrow, dyrow);
+            filterBands(dsth, (long) dstw * count, (start, end) ->
+                filterVector(dstPixels, dstw, dsth, dstscan,
+                             srcPixels, srcw, srch, srcscan,
+                             weights_arr, count,
+                             srcx0, srcy0,
+                             offsetx, offsety,
+                             deltax, deltay,
+                             dxcol, dycol, dxrow, dyrow,
+                             start, end));
         }
 
         return new ImageData(getFilterContext(), dst, dstBounds);
@@ -175,14 +179,21 @@ public class JSWLinearConvolvePeer extends JSWEffectPeer<LinearConvolveRenderSta
                                 float srcx0, float srcy0,
                                 float offsetx, float offsety,
                                 float deltax, float deltay,
-                                float dxcol, float dycol, float dxrow, float dyrow)
+                                float dxcol, float dycol, float dxrow, float dyrow,
+                                int start, int end)
     {
-        int dstrow = 0;
+        int dstrow = start * dstscan;
         float fvals[] = new float[4];
         // srcxy0 point at UL corner, shift them to center of 1st dest pixel:
         srcx0 += (dxrow + dxcol) * 0.5f;
         srcy0 += (dyrow + dycol) * 0.5f;
-        for (int dy = 0; dy < dsth; dy++) {
+        // Step to the first row of the band the same way the loop below
+        // does so that the result does not depend on how it is banded
+        for (int dy = 0; dy < start; dy++) {
+            srcx0 += dxrow;
+            srcy0 += dyrow;
+        }
+        for (int dy = start; dy < end; dy++) {
             float srcx = srcx0;
             float srcy = srcy0;
             for (int dx = 0; dx < dstw; dx++) {
@@ -220,15 +231,15 @@ public class JSWLinearConvolvePeer extends JSWEffectPeer<LinearConvolveRenderSta
      */
     protected void filterHV(int dstPixels[], int dstcols, int dstrows, int dcolinc, int drowinc,
                             int srcPixels[], int srccols, int srcrows, int scolinc, int srowinc,
-                            float weights[])
+                            float weights[], int start, int end)
     {
         // cvals stores the component values from the surrounding K pixels
         // from x-r to x+r
         int kernelSize = weights.length / 2;
         float cvals[] = new float[kernelSize * 4];
-        int dstrow = 0;
-        int srcrow = 0;
-        for (int r = 0; r < dstrows; r++) {
+        int dstrow = start * drowinc;
+        int srcrow = start * srowinc;
+        for (int r = start; r < end; r++) {
             int dstoff = dstrow;
             int srcoff = srcrow;
             // Must clear out the array at the start of every line
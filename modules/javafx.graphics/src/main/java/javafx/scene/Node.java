@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -110,6 +110,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import com.sun.glass.ui.Accessible;
 import com.sun.glass.ui.Application;
@@ -2076,6 +2077,16 @@ public abstract class Node implements EventTarget, Styleable {
     }
 
     private WritableImage doSnapshot(SnapshotParameters params, WritableImage img) {
+        return doSnapshot(params, img, null);
+    }
+
+    /*
+     * Takes the snapshot. If a callback is specified, the image may be
+     * rendered asynchronously, in which case this method returns null and
+     * the callback is called on the FX thread once the image is ready.
+     */
+    private WritableImage doSnapshot(SnapshotParameters params, WritableImage img,
+            Consumer<WritableImage> callback) {
         if (getScene() != null) {
             getScene().doCSSLayoutSyncForSnapshot(this);
         } else {
@@ -2109,6 +2120,12 @@ public abstract class Node implements EventTarget, Styleable {
             w = tempBounds.getWidth();
             h = tempBounds.getHeight();
         }
+        if (callback != null) {
+            Scene.doSnapshotAsync(getScene(), x, y, w, h,
+                    this, transform, params.isDepthBufferInternal(),
+                    params.getFill(), params.getEffectiveCamera(), img, callback);
+            return null;
+        }
         WritableImage result = Scene.doSnapshot(getScene(), x, y, w, h,
                 this, transform, params.isDepthBufferInternal(),
                 params.getFill(), params.getEffectiveCamera(), img);
@@ -2290,8 +2307,7 @@ public abstract class Node implements EventTarget, Styleable {
         // Create a deferred runnable that will be run from a pulse listener
         // that is called after all of the scenes have been synced but before
         // any of them have been rendered.
-        final Runnable snapshotRunnable = () -> {
-            WritableImage img = doSnapshot(theParams, theImage);
+        final Runnable snapshotRunnable = () -> doSnapshot(theParams, theImage, img -> {
             SnapshotResult result = new SnapshotResult(img, Node.this, theParams);
 //                System.err.println("Calling snapshot callback");
             try {
@@ -2300,7 +2316,7 @@ public abstract class Node implements EventTarget, Styleable {
                 System.err.println("Exception in snapshot callback");
                 th.printStackTrace(System.err);
             }
-        };
+        });
 
 //        System.err.println("Schedule a snapshot in the future");
         Scene.addSnapshotRunnable(snapshotRunnable);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -90,6 +90,7 @@ import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import com.sun.javafx.logging.PulseLogger;
 
@@ -1295,6 +1296,105 @@ public class Scene implements EventTarget {
 
         Toolkit tk = Toolkit.getToolkit();
         Toolkit.ImageRenderingContext context = new Toolkit.ImageRenderingContext();
+        wimg = initSnapshotContext(context, scene, x, y, w, h,
+                root, transform, depthBuffer, fill, wimg);
+
+        double cameraViewWidth = 1.0;
+        double cameraViewHeight = 1.0;
+        if (camera != null) {
+            // temporarily adjust camera viewport to the snapshot size
+            setAllowPGAccess(true);
+            cameraViewWidth = camera.getViewWidth();
+            cameraViewHeight = camera.getViewHeight();
+            camera.setViewWidth(context.width);
+            camera.setViewHeight(context.height);
+            NodeHelper.updatePeer(camera);
+            context.camera = camera.getPeer();
+            setAllowPGAccess(false);
+        }
+
+        Object tkImage = tk.renderToImage(context);
+
+        if (camera != null) {
+            setAllowPGAccess(true);
+            camera.setViewWidth(cameraViewWidth);
+            camera.setViewHeight(cameraViewHeight);
+            NodeHelper.updatePeer(camera);
+            setAllowPGAccess(false);
+        }
+
+        completeSnapshot(scene, wimg, tkImage);
+        return wimg;
+    }
+
+    // Deferred variant of doSnapshot used by the snapshot methods that take
+    // a callback. When the scene is showing, the FX thread does not wait
+    // for the render thread: the snapshots of a pulse are rendered together
+    // after the pulse, before the scene is synchronized again, and the
+    // callback is called once the image is ready, so that taking a number
+    // of snapshots in one pulse does not stall the FX thread.
+    // Snapshots of nodes that are not in a showing scene are synchronized
+    // without the render lock, so those are still rendered synchronously.
+    @SuppressWarnings("removal")
+    static void doSnapshotAsync(Scene scene,
+            double x, double y, double w, double h,
+            Node root, BaseTransform transform, boolean depthBuffer,
+            Paint fill, Camera camera, WritableImage wimg,
+            Consumer<WritableImage> callback) {
+
+        if (scene == null || scene.peer == null) {
+            callback.accept(doSnapshot(scene, x, y, w, h,
+                    root, transform, depthBuffer, fill, camera, wimg));
+            return;
+        }
+
+        Toolkit tk = Toolkit.getToolkit();
+        Toolkit.ImageRenderingContext context = new Toolkit.ImageRenderingContext();
+        final WritableImage img = initSnapshotContext(context, scene, x, y, w, h,
+                root, transform, depthBuffer, fill, wimg);
+
+        if (camera != null) {
+            // Capture the state of the camera for the snapshot viewport and
+            // restore the camera straight away. The render job applies the
+            // captured state only while it is rendering the snapshot.
+            scene.peer.waitForSynchronization();
+            try {
+                setAllowPGAccess(true);
+                double cameraViewWidth = camera.getViewWidth();
+                double cameraViewHeight = camera.getViewHeight();
+                camera.setViewWidth(context.width);
+                camera.setViewHeight(context.height);
+                NodeHelper.updatePeer(camera);
+                context.camera = camera.getPeer();
+                context.cameraViewState = context.camera.getViewState();
+                camera.setViewWidth(cameraViewWidth);
+                camera.setViewHeight(cameraViewHeight);
+                NodeHelper.updatePeer(camera);
+            } finally {
+                setAllowPGAccess(false);
+                scene.peer.releaseSynchronization(false);
+            }
+        }
+
+        final AccessControlContext acc = AccessController.getContext();
+        tk.renderToImageAsync(context, tkImage -> {
+            completeSnapshot(scene, img, tkImage);
+            AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                callback.accept(img);
+                return null;
+            }, acc);
+        });
+    }
+
+    // Fills in the rendering context for a snapshot, except for the camera,
+    // and returns the image that the snapshot will be rendered into.
+    private static WritableImage initSnapshotContext(
+            Toolkit.ImageRenderingContext context, Scene scene,
+            double x, double y, double w, double h,
+            Node root, BaseTransform transform, boolean depthBuffer,
+            Paint fill, WritableImage wimg) {
+
+        Toolkit tk = Toolkit.getToolkit();
 
         int xMin = (int)Math.floor(x);
         int yMin = (int)Math.floor(y);
@@ -1320,19 +1420,7 @@ public class Scene implements EventTarget {
         context.depthBuffer = depthBuffer;
         context.root = root.getPeer();
         context.platformPaint = fill == null ? null : tk.getPaint(fill);
-        double cameraViewWidth = 1.0;
-        double cameraViewHeight = 1.0;
-        if (camera != null) {
-            // temporarily adjust camera viewport to the snapshot size
-            cameraViewWidth = camera.getViewWidth();
-            cameraViewHeight = camera.getViewHeight();
-            camera.setViewWidth(width);
-            camera.setViewHeight(height);
-            NodeHelper.updatePeer(camera);
-            context.camera = camera.getPeer();
-        } else {
-            context.camera = null;
-        }
+        context.camera = null;
 
         // Grab the lights from the scene
         context.lights = null;
@@ -1346,18 +1434,12 @@ public class Scene implements EventTarget {
         Toolkit.WritableImageAccessor accessor = Toolkit.getWritableImageAccessor();
         context.platformImage = accessor.getTkImageLoader(wimg);
         setAllowPGAccess(false);
-        Object tkImage = tk.renderToImage(context);
+        return wimg;
+    }
 
+    private static void completeSnapshot(Scene scene, WritableImage wimg, Object tkImage) {
         if (tkImage != null) {
-            accessor.loadTkImage(wimg, tkImage);
-        }
-
-        if (camera != null) {
-            setAllowPGAccess(true);
-            camera.setViewWidth(cameraViewWidth);
-            camera.setViewHeight(cameraViewHeight);
-            NodeHelper.updatePeer(camera);
-            setAllowPGAccess(false);
+            Toolkit.getWritableImageAccessor().loadTkImage(wimg, tkImage);
         }
 
         // if this scene belongs to some stage
@@ -1366,8 +1448,6 @@ public class Scene implements EventTarget {
         if (scene != null && scene.peer != null) {
             scene.setNeedsRepaint();
         }
-
-        return wimg;
     }
 
     /**
@@ -1387,6 +1467,21 @@ public class Scene implements EventTarget {
                 getFill(), getEffectiveCamera(), img);
     }
 
+    /**
+     * Implementation method for the deferred snapshot
+     */
+    private void doSnapshotAsync(WritableImage img, Consumer<WritableImage> callback) {
+        doCSSLayoutSyncForSnapshot(getRoot());
+
+        double w = getWidth();
+        double h = getHeight();
+        BaseTransform transform = BaseTransform.IDENTITY_TRANSFORM;
+
+        doSnapshotAsync(this, 0, 0, w, h,
+                getRoot(), transform, isDepthBufferInternal(),
+                getFill(), getEffectiveCamera(), img, callback);
+    }
+
     // Pulse listener used to run all deferred (async) snapshot requests
     private static TKPulseListener snapshotPulseListener = null;
 
@@ -1533,8 +1628,7 @@ public class Scene implements EventTarget {
         // Create a deferred runnable that will be run from a pulse listener
         // that is called after all of the scenes have been synced but before
         // any of them have been rendered.
-        final Runnable snapshotRunnable = () -> {
-            WritableImage img = doSnapshot(theImage);
+        final Runnable snapshotRunnable = () -> doSnapshotAsync(theImage, img -> {
 //                System.err.println("Calling snapshot callback");
             SnapshotResult result = new SnapshotResult(img, Scene.this, null);
             try {
@@ -1543,7 +1637,7 @@ public class Scene implements EventTarget {
                 System.err.println("Exception in snapshot callback");
                 th.printStackTrace(System.err);
             }
-        };
+        });
 //        System.err.println("Schedule a snapshot in the future");
         addSnapshotRunnable(snapshotRunnable);
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -32,8 +32,8 @@ import java.net.URL;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.concurrent.CancellationException;
 import java.util.regex.Pattern;
 import javafx.animation.KeyFrame;
@@ -52,6 +52,7 @@ import javafx.scene.paint.Color;
 import javafx.util.Duration;
 import com.sun.javafx.runtime.async.AsyncOperation;
 import com.sun.javafx.runtime.async.AsyncOperationListener;
+import com.sun.javafx.runtime.async.AsyncOperationQueue;
 import com.sun.javafx.tk.ImageLoader;
 import com.sun.javafx.tk.PlatformImage;
 import com.sun.javafx.tk.Toolkit;
@@ -932,36 +933,21 @@ public class Image {
         }
     }
 
-    private void cycleTasks() {
-        synchronized (pendingTasks) {
-            runningTasks--;
-            // do we have any pending tasks to run ?
-            // we can assume we are under the throttle limit because
-            // one task just completed.
-            final ImageTask nextTask = pendingTasks.poll();
-            if (nextTask != null) {
-                runningTasks++;
-                nextTask.start();
-            }
-        }
-    }
-
     private void loadInBackground() {
         backgroundTask = new ImageTask();
         // This is an artificial throttle on background image loading tasks.
         // It has been shown that with large images, we can quickly use up the
         // heap loading images, even if they result in thumbnails.
-        // The limit of MAX_RUNNING_TASKS is arbitrary, and was based on initial
-        // testing with
-        // about 60 2-6 megapixel images.
-        synchronized (pendingTasks) {
-            if (runningTasks >= MAX_RUNNING_TASKS) {
-                pendingTasks.offer(backgroundTask);
-            } else {
-                runningTasks++;
-                backgroundTask.start();
-            }
-        }
+        // The default limit of 4 running tasks is arbitrary, and was based on
+        // initial testing with about 60 2-6 megapixel images.
+        backgroundLoadQueue.submit(backgroundTask);
+    }
+
+    /*
+     * used for testing
+     */
+    static AsyncOperationQueue getBackgroundLoadQueue() {
+        return backgroundLoadQueue;
     }
 
     // Used by SwingUtils.toFXImage
@@ -1009,13 +995,31 @@ public class Image {
         platformImage.set(newPlatformImage);
     }
 
-    private static final int MAX_RUNNING_TASKS = 4;
-    private static int runningTasks = 0;
-    private static final Queue<ImageTask> pendingTasks =
-            new LinkedList<ImageTask>();
+    /*
+     * Background loads are throttled by a shared queue. The number of loads
+     * running at once is set by "javafx.image.maxBackgroundLoads" and the
+     * order in which pending loads are started by
+     * "javafx.image.backgroundLoadOrder", which is either "fifo" (default) or
+     * "lifo". With "lifo", the most recently requested images, typically the
+     * ones that just scrolled into view, are loaded first. Pending loads of
+     * images that are cancelled or no longer reachable are dropped.
+     */
+    private static final AsyncOperationQueue backgroundLoadQueue;
+
+    static {
+        @SuppressWarnings("removal")
+        final AsyncOperationQueue queue = AccessController.doPrivileged(
+                (PrivilegedAction<AsyncOperationQueue>) () -> {
+                    int maxRunning = Integer.getInteger("javafx.image.maxBackgroundLoads", 4);
+                    String order = System.getProperty("javafx.image.backgroundLoadOrder", "fifo");
+                    return new AsyncOperationQueue(Math.max(1, maxRunning),
+                                                   "lifo".equalsIgnoreCase(order));
+                });
+        backgroundLoadQueue = queue;
+    }
 
     private final class ImageTask
-            implements AsyncOperationListener<ImageLoader> {
+            implements AsyncOperation, AsyncOperationListener<ImageLoader> {
 
         private final AsyncOperation peer;
 
@@ -1026,19 +1030,19 @@ public class Image {
         @Override
         public void onCancel() {
             finishImage(new CancellationException("Loading cancelled"));
-            cycleTasks();
+            backgroundLoadQueue.finished(this);
         }
 
         @Override
         public void onException(Exception exception) {
             finishImage(exception);
-            cycleTasks();
+            backgroundLoadQueue.finished(this);
         }
 
         @Override
         public void onCompletion(ImageLoader value) {
             finishImage(value);
-            cycleTasks();
+            backgroundLoadQueue.finished(this);
         }
 
         @Override
@@ -1051,14 +1055,26 @@ public class Image {
             }
         }
 
+        @Override
         public void start() {
             peer.start();
         }
 
+        @Override
         public void cancel() {
             peer.cancel();
         }
 
+        @Override
+        public boolean isCancelled() {
+            return peer.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return peer.isDone();
+        }
+
         private AsyncOperation constructPeer() {
             return loadImageAsync(this, url,
                                   requestedWidth, requestedHeight,
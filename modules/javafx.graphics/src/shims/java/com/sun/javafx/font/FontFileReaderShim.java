@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.font;
+
+import java.io.IOException;
+import java.security.PrivilegedActionException;
+
+public class FontFileReaderShim {
+
+    public static final int MAPPING_THRESHOLD = FontFileReader.MAPPING_THRESHOLD;
+
+    public static Object create(String filename, boolean useMapping) {
+        return new FontFileReader(filename, useMapping);
+    }
+
+    public static boolean openFile(Object reader) throws PrivilegedActionException {
+        return ((FontFileReader) reader).openFile();
+    }
+
+    public static void closeFile(Object reader) throws IOException {
+        ((FontFileReader) reader).closeFile();
+    }
+
+    public static boolean isMapped(Object reader) {
+        return ((FontFileReader) reader).isMapped();
+    }
+
+    public static long getLength(Object reader) {
+        return ((FontFileReader) reader).getLength();
+    }
+
+    /* Returns the len bytes at offset, read using the Buffer accessors */
+    public static byte[] readBlock(Object reader, int offset, int len) {
+        FontFileReader.Buffer buffer = ((FontFileReader) reader).readBlock(offset, len);
+        byte[] data = new byte[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = buffer.get(i);
+        }
+        return data;
+    }
+
+    public static int readInt(Object reader, int offset) {
+        return ((FontFileReader) reader).readBlock(offset, 4).getInt();
+    }
+
+    public static char readChar(Object reader, int offset) {
+        return ((FontFileReader) reader).readBlock(offset, 2).getChar(0);
+    }
+}
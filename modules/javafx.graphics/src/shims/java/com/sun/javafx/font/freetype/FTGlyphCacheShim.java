@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.font.freetype;
+
+import java.io.File;
+
+public class FTGlyphCacheShim {
+
+    public static final int MAX_OPEN_FILES = FTGlyphCache.MAX_OPEN_FILES;
+
+    public static Object open(File dir, String identity) {
+        return FTGlyphCache.open(dir, identity);
+    }
+
+    public static String identity(String fileName, int fontIndex, String ftVersion, int lcdFilter) {
+        return FTGlyphCache.identity(fileName, fontIndex, ftVersion, lcdFilter);
+    }
+
+    public static void store(Object cache, float size, boolean lcd, int glyphCode, int width, byte[] data) {
+        FTGlyph glyph = new FTGlyph(null, glyphCode, false);
+        glyph.bitmap = new FT_Bitmap();
+        glyph.bitmap.width = width;
+        glyph.bitmap.rows = data.length / width;
+        glyph.buffer = data;
+        glyph.userAdvance = width;
+        ((FTGlyphCache) cache).store(new FTGlyphCache.StrikeKey(size, 0, 0, 0, 0, lcd), glyph);
+    }
+
+    public static byte[] fill(Object cache, float size, boolean lcd, int glyphCode) {
+        FTGlyph glyph = new FTGlyph(null, glyphCode, false);
+        if (!((FTGlyphCache) cache).fill(new FTGlyphCache.StrikeKey(size, 0, 0, 0, 0, lcd), glyph)) {
+            return null;
+        }
+        if (glyph.bitmap.width * glyph.bitmap.rows != glyph.buffer.length) {
+            throw new IllegalStateException("Bitmap does not match its data");
+        }
+        return glyph.buffer;
+    }
+
+    public static boolean isChannelOpen(Object cache) {
+        return ((FTGlyphCache) cache).isChannelOpen();
+    }
+
+    public static boolean isClosed(Object cache) {
+        return ((FTGlyphCache) cache).isClosed();
+    }
+
+    public static void close(Object cache) {
+        ((FTGlyphCache) cache).close();
+    }
+}
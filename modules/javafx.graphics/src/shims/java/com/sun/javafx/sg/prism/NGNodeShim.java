@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -89,4 +89,12 @@ public abstract class NGNodeShim extends NGNode {
         return node.hasOpaqueRegion();
     }
 
+    public static void updateAutoCache(NGNode node, BaseTransform xform, int cacheFrames) {
+        node.updateAutoCache(xform, cacheFrames);
+    }
+
+    public static void invalidateCache(NGNode node) {
+        node.invalidateCache();
+    }
+
 }
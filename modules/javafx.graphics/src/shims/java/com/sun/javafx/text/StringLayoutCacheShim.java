@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.text;
+
+public class StringLayoutCacheShim {
+
+    public static Object create(int maxSize) {
+        return new StringLayoutCache(maxSize);
+    }
+
+    public static Object key(String text, Object font) {
+        return new StringLayoutCache.Key(text, font);
+    }
+
+    public static Object newLayout() {
+        return new LayoutCache();
+    }
+
+    public static Object get(Object cache, Object key) {
+        return ((StringLayoutCache) cache).get((StringLayoutCache.Key) key);
+    }
+
+    public static void put(Object cache, Object key, Object layout) {
+        ((StringLayoutCache) cache).put((StringLayoutCache.Key) key, (LayoutCache) layout);
+    }
+
+    public static int size(Object cache) {
+        return ((StringLayoutCache) cache).size();
+    }
+
+    public static int getHitCount(Object cache) {
+        return ((StringLayoutCache) cache).getHitCount();
+    }
+
+    public static int getMissCount(Object cache) {
+        return ((StringLayoutCache) cache).getMissCount();
+    }
+
+    public static int getEvictionCount(Object cache) {
+        return ((StringLayoutCache) cache).getEvictionCount();
+    }
+}
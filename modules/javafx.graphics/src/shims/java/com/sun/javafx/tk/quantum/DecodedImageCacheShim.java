@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.tk.quantum;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import com.sun.javafx.tk.ImageLoader;
+
+public class DecodedImageCacheShim {
+
+    public interface Loader {
+        ImageLoader load() throws IOException;
+    }
+
+    public static Object create(long maxSize) {
+        return new DecodedImageCache(maxSize);
+    }
+
+    public static Object key(String url, double width, double height) {
+        return new DecodedImageCache.Key(url, width, height, false, true, 1.0f);
+    }
+
+    public static ImageLoader load(Object cache, Object key, Loader loader) throws IOException {
+        return ((DecodedImageCache) cache).load((DecodedImageCache.Key) key,
+                () -> (PrismImageLoader2) loader.load());
+    }
+
+    public static ImageLoader decode(byte[] data, double width, double height) {
+        return new PrismImageLoader2(new ByteArrayInputStream(data), width, height, false, true);
+    }
+
+    public static long getByteSize(ImageLoader loader) {
+        return ((PrismImageLoader2) loader).getByteSize();
+    }
+
+    public static int getHitCount(Object cache) {
+        return ((DecodedImageCache) cache).getHitCount();
+    }
+
+    public static int getMissCount(Object cache) {
+        return ((DecodedImageCache) cache).getMissCount();
+    }
+
+    public static long getResidentBytes(Object cache) {
+        return ((DecodedImageCache) cache).getResidentBytes();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.scenario.effect.impl.sw.java;
+
+import com.sun.scenario.effect.Color4f;
+import com.sun.scenario.effect.FilterContext;
+import com.sun.scenario.effect.impl.state.GaussianRenderState;
+
+public class JSWEffectPeerShim {
+
+    private static final FilterContext fctx = new FilterContext(JSWEffectPeerShim.class) {};
+
+    private static final class ShadowPeer extends JSWLinearConvolveShadowPeer {
+        ShadowPeer(Color4f shadowColor) {
+            super(fctx, null, "LinearConvolveShadow");
+            setRenderState(new GaussianRenderState(3f, 3f, 0f, true, shadowColor, null));
+        }
+    }
+
+    public static Object createBoxBlurPeer() {
+        return new JSWBoxBlurPeer(fctx, null, "BoxBlur");
+    }
+
+    public static Object createBoxShadowPeer() {
+        return new JSWBoxShadowPeer(fctx, null, "BoxShadow");
+    }
+
+    public static Object createLinearConvolvePeer() {
+        return new JSWLinearConvolvePeer(fctx, null, "LinearConvolve");
+    }
+
+    public static Object createLinearConvolveShadowPeer(float r, float g, float b, float a) {
+        return new ShadowPeer(new Color4f(r, g, b, a));
+    }
+
+    public static void boxBlurHorizontal(Object peer,
+                                         int dstPixels[], int dstw, int dsth, int dstscan,
+                                         int srcPixels[], int srcw, int srch, int srcscan,
+                                         int start, int end) {
+        ((JSWBoxBlurPeer) peer).filterHorizontal(dstPixels, dstw, dsth, dstscan,
+                                                 srcPixels, srcw, srch, srcscan,
+                                                 start, end);
+    }
+
+    public static void boxBlurVertical(Object peer,
+                                       int dstPixels[], int dstw, int dsth, int dstscan,
+                                       int srcPixels[], int srcw, int srch, int srcscan,
+                                       int start, int end) {
+        ((JSWBoxBlurPeer) peer).filterVertical(dstPixels, dstw, dsth, dstscan,
+                                               srcPixels, srcw, srch, srcscan,
+                                               start, end);
+    }
+
+    public static void boxShadowHorizontalBlack(Object peer,
+                                                int dstPixels[], int dstw, int dsth, int dstscan,
+                                                int srcPixels[], int srcw, int srch, int srcscan,
+                                                float spread, int start, int end) {
+        ((JSWBoxShadowPeer) peer).filterHorizontalBlack(dstPixels, dstw, dsth, dstscan,
+                                                        srcPixels, srcw, srch, srcscan,
+                                                        spread, start, end);
+    }
+
+    public static void boxShadowVerticalBlack(Object peer,
+                                              int dstPixels[], int dstw, int dsth, int dstscan,
+                                              int srcPixels[], int srcw, int srch, int srcscan,
+                                              float spread, int start, int end) {
+        ((JSWBoxShadowPeer) peer).filterVerticalBlack(dstPixels, dstw, dsth, dstscan,
+                                                      srcPixels, srcw, srch, srcscan,
+                                                      spread, start, end);
+    }
+
+    public static void boxShadowVertical(Object peer,
+                                         int dstPixels[], int dstw, int dsth, int dstscan,
+                                         int srcPixels[], int srcw, int srch, int srcscan,
+                                         float spread, float shadowColor[], int start, int end) {
+        ((JSWBoxShadowPeer) peer).filterVertical(dstPixels, dstw, dsth, dstscan,
+                                                 srcPixels, srcw, srch, srcscan,
+                                                 spread, shadowColor, start, end);
+    }
+
+    public static void convolveHV(Object peer,
+                                  int dstPixels[], int dstcols, int dstrows, int dcolinc, int drowinc,
+                                  int srcPixels[], int srccols, int srcrows, int scolinc, int srowinc,
+                                  float weights[], int start, int end) {
+        ((JSWLinearConvolvePeer) peer).filterHV(dstPixels, dstcols, dstrows, dcolinc, drowinc,
+                                                srcPixels, srccols, srcrows, scolinc, srowinc,
+                                                weights, start, end);
+    }
+
+    public static void convolveVector(Object peer,
+                                      int dstPixels[], int dstw, int dsth, int dstscan,
+                                      int srcPixels[], int srcw, int srch, int srcscan,
+                                      float weights[], int count,
+                                      float srcx0, float srcy0,
+                                      float offsetx, float offsety,
+                                      float deltax, float deltay,
+                                      float dxcol, float dycol, float dxrow, float dyrow,
+                                      int start, int end) {
+        ((JSWLinearConvolvePeer) peer).filterVector(dstPixels, dstw, dsth, dstscan,
+                                                    srcPixels, srcw, srch, srcscan,
+                                                    weights, count,
+                                                    srcx0, srcy0,
+                                                    offsetx, offsety,
+                                                    deltax, deltay,
+                                                    dxcol, dycol, dxrow, dyrow,
+                                                    start, end);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -24,6 +24,7 @@
  */
 package javafx.scene.image;
 
+import com.sun.javafx.runtime.async.AsyncOperationQueue;
 import java.io.InputStream;
 
 public class ImageShim extends Image {
@@ -68,4 +69,8 @@ public class ImageShim extends Image {
         image.setProgress(value);
     }
 
+    public static AsyncOperationQueue getBackgroundLoadQueue() {
+        return Image.getBackgroundLoadQueue();
+    }
+
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.font;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import com.sun.javafx.font.FontFileReaderShim;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class FontFileReaderTest {
+
+    private File file;
+
+    @After
+    public void tearDown() {
+        if (file != null) {
+            file.delete();
+        }
+    }
+
+    private File createFile(int length) throws IOException {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte)(i * 31 + (i >> 8));
+        }
+        file = File.createTempFile("font", ".ttf");
+        Files.write(file.toPath(), data);
+        return file;
+    }
+
+    private static byte[] expected(int offset, int len) {
+        byte[] data = new byte[len];
+        for (int i = 0; i < len; i++) {
+            int pos = offset + i;
+            data[i] = (byte)(pos * 31 + (pos >> 8));
+        }
+        return data;
+    }
+
+    private static void assertReads(Object reader, int length) {
+        assertEquals(length, FontFileReaderShim.getLength(reader));
+        /* Small reads go through the read cache when not mapped */
+        assertArrayEquals(expected(0, 12), FontFileReaderShim.readBlock(reader, 0, 12));
+        assertArrayEquals(expected(100, 16), FontFileReaderShim.readBlock(reader, 100, 16));
+        assertArrayEquals(expected(length - 8, 8),
+                          FontFileReaderShim.readBlock(reader, length - 8, 8));
+        /* Reads larger than the read cache */
+        assertArrayEquals(expected(1000, 5000), FontFileReaderShim.readBlock(reader, 1000, 5000));
+
+        byte[] b = expected(2000, 4);
+        int value = (b[0] & 0xff) << 24 | (b[1] & 0xff) << 16 | (b[2] & 0xff) << 8 | (b[3] & 0xff);
+        assertEquals(value, FontFileReaderShim.readInt(reader, 2000));
+        assertEquals((char)value, FontFileReaderShim.readChar(reader, 2002));
+    }
+
+    @Test
+    public void testSmallFileIsNotMapped() throws Exception {
+        int length = 64 * 1024;
+        Object reader = FontFileReaderShim.create(createFile(length).getPath(), true);
+        assertTrue(FontFileReaderShim.openFile(reader));
+        assertFalse(FontFileReaderShim.isMapped(reader));
+        assertReads(reader, length);
+        FontFileReaderShim.closeFile(reader);
+    }
+
+    @Test
+    public void testLargeFileIsMapped() throws Exception {
+        int length = FontFileReaderShim.MAPPING_THRESHOLD + 1000;
+        Object reader = FontFileReaderShim.create(createFile(length).getPath(), true);
+        assertTrue(FontFileReaderShim.openFile(reader));
+        assertTrue(FontFileReaderShim.isMapped(reader));
+        assertFalse(FontFileReaderShim.openFile(reader));
+        assertReads(reader, length);
+        FontFileReaderShim.closeFile(reader);
+    }
+
+    @Test
+    public void testLargeFileIsNotMappedWhenDisabled() throws Exception {
+        int length = FontFileReaderShim.MAPPING_THRESHOLD + 1000;
+        Object reader = FontFileReaderShim.create(createFile(length).getPath(), false);
+        assertTrue(FontFileReaderShim.openFile(reader));
+        assertFalse(FontFileReaderShim.isMapped(reader));
+        assertReads(reader, length);
+        FontFileReaderShim.closeFile(reader);
+    }
+
+    @Test
+    public void testMappingIsReleasedOnClose() throws Exception {
+        int length = FontFileReaderShim.MAPPING_THRESHOLD;
+        Object reader = FontFileReaderShim.create(createFile(length).getPath(), true);
+        assertTrue(FontFileReaderShim.openFile(reader));
+        assertTrue(FontFileReaderShim.isMapped(reader));
+        assertReads(reader, length);
+        FontFileReaderShim.closeFile(reader);
+        assertFalse(FontFileReaderShim.isMapped(reader));
+        /* The file is no longer in use and can be removed */
+        assertTrue(file.delete());
+    }
+
+    @Test
+    public void testFileIsOnlyMappedOnce() throws Exception {
+        int length = FontFileReaderShim.MAPPING_THRESHOLD;
+        Object reader = FontFileReaderShim.create(createFile(length).getPath(), true);
+        assertTrue(FontFileReaderShim.openFile(reader));
+        assertTrue(FontFileReaderShim.isMapped(reader));
+        FontFileReaderShim.closeFile(reader);
+
+        /* Opening the file again to read a table does not map it again */
+        assertTrue(FontFileReaderShim.openFile(reader));
+        assertFalse(FontFileReaderShim.isMapped(reader));
+        assertReads(reader, length);
+        FontFileReaderShim.closeFile(reader);
+    }
+
+    private static void assertShortReads(Object reader, int length) {
+        byte[] data = FontFileReaderShim.readBlock(reader, length - 4, 8);
+        assertArrayEquals(expected(length - 4, 4), Arrays.copyOf(data, 4));
+        assertArrayEquals(new byte[4], Arrays.copyOfRange(data, 4, 8));
+        data = FontFileReaderShim.readBlock(reader, length - 1000, 5000);
+        assertArrayEquals(expected(length - 1000, 1000), Arrays.copyOf(data, 1000));
+        assertArrayEquals(new byte[4000], Arrays.copyOfRange(data, 1000, 5000));
+    }
+
+    @Test
+    public void testMappedShortRead() throws Exception {
+        int length = FontFileReaderShim.MAPPING_THRESHOLD;
+        Object reader = FontFileReaderShim.create(createFile(length).getPath(), true);
+        assertTrue(FontFileReaderShim.openFile(reader));
+        assertTrue(FontFileReaderShim.isMapped(reader));
+        assertShortReads(reader, length);
+        assertArrayEquals(new byte[8], FontFileReaderShim.readBlock(reader, length + 100, 8));
+        assertArrayEquals(new byte[8], FontFileReaderShim.readBlock(reader, -1, 8));
+        FontFileReaderShim.closeFile(reader);
+    }
+
+    @Test
+    public void testShortRead() throws Exception {
+        int length = 64 * 1024;
+        Object reader = FontFileReaderShim.create(createFile(length).getPath(), true);
+        assertTrue(FontFileReaderShim.openFile(reader));
+        assertFalse(FontFileReaderShim.isMapped(reader));
+        assertShortReads(reader, length);
+        FontFileReaderShim.closeFile(reader);
+    }
+
+    @Test
+    public void testMissingFile() throws Exception {
+        File missing = new File(createFile(16).getPath() + ".missing");
+        Object reader = FontFileReaderShim.create(missing.getPath(), true);
+        assertFalse(FontFileReaderShim.openFile(reader));
+        assertFalse(FontFileReaderShim.isMapped(reader));
+    }
+}
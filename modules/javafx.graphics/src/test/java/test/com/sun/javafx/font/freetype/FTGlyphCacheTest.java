@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.font.freetype;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+
+import com.sun.javafx.font.freetype.FTGlyphCacheShim;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class FTGlyphCacheTest {
+
+    private static final int RECORD_SIZE = 74;
+
+    private File dir;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("glyphcache").toFile();
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    private static byte[] bitmap(int seed, int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (seed * 31 + i);
+        }
+        return data;
+    }
+
+    @Test
+    public void testGlyphsArePersisted() {
+        Object cache = FTGlyphCacheShim.open(dir, "font.ttf|1");
+        FTGlyphCacheShim.store(cache, 12, false, 5, 4, bitmap(5, 12));
+        FTGlyphCacheShim.store(cache, 12, false, 6, 3, bitmap(6, 9));
+        assertArrayEquals(bitmap(5, 12), FTGlyphCacheShim.fill(cache, 12, false, 5));
+        FTGlyphCacheShim.close(cache);
+
+        cache = FTGlyphCacheShim.open(dir, "font.ttf|1");
+        assertArrayEquals(bitmap(5, 12), FTGlyphCacheShim.fill(cache, 12, false, 5));
+        assertArrayEquals(bitmap(6, 9), FTGlyphCacheShim.fill(cache, 12, false, 6));
+        assertNull(FTGlyphCacheShim.fill(cache, 12, false, 7));
+        FTGlyphCacheShim.close(cache);
+    }
+
+    @Test
+    public void testStrikesOfOneFontShareTheCacheFile() {
+        Object cache = FTGlyphCacheShim.open(dir, "font.ttf|1");
+        FTGlyphCacheShim.store(cache, 12, false, 5, 4, bitmap(1, 8));
+        FTGlyphCacheShim.store(cache, 13, false, 5, 4, bitmap(2, 8));
+        FTGlyphCacheShim.store(cache, 12, true, 5, 4, bitmap(3, 8));
+        FTGlyphCacheShim.close(cache);
+        assertEquals(1, dir.listFiles().length);
+
+        cache = FTGlyphCacheShim.open(dir, "font.ttf|1");
+        assertArrayEquals(bitmap(1, 8), FTGlyphCacheShim.fill(cache, 12, false, 5));
+        assertArrayEquals(bitmap(2, 8), FTGlyphCacheShim.fill(cache, 13, false, 5));
+        assertArrayEquals(bitmap(3, 8), FTGlyphCacheShim.fill(cache, 12, true, 5));
+        assertNull(FTGlyphCacheShim.fill(cache, 14, false, 5));
+        FTGlyphCacheShim.close(cache);
+    }
+
+    @Test
+    public void testTruncatedRecordIsDropped() throws IOException {
+        Object cache = FTGlyphCacheShim.open(dir, "font.ttf|1");
+        FTGlyphCacheShim.store(cache, 12, false, 5, 4, bitmap(5, 12));
+        FTGlyphCacheShim.store(cache, 12, false, 6, 4, bitmap(6, 12));
+        FTGlyphCacheShim.close(cache);
+        File file = dir.listFiles()[0];
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(raf.length() - 3);
+        }
+
+        cache = FTGlyphCacheShim.open(dir, "font.ttf|1");
+        assertArrayEquals(bitmap(5, 12), FTGlyphCacheShim.fill(cache, 12, false, 5));
+        assertNull(FTGlyphCacheShim.fill(cache, 12, false, 6));
+        FTGlyphCacheShim.store(cache, 12, false, 6, 4, bitmap(7, 12));
+        FTGlyphCacheShim.close(cache);
+
+        cache = FTGlyphCacheShim.open(dir, "font.ttf|1");
+        assertArrayEquals(bitmap(7, 12), FTGlyphCacheShim.fill(cache, 12, false, 6));
+        FTGlyphCacheShim.close(cache);
+    }
+
+    @Test
+    public void testIdentityChangesWithFontFileAndFreetype() throws IOException {
+        File font = new File(dir, "font.ttf");
+        Files.write(font.toPath(), bitmap(1, 100));
+        assertTrue(font.setLastModified(1_000_000_000_000L));
+        String identity = FTGlyphCacheShim.identity(font.getPath(), 0, "2.10.4", 1);
+        assertEquals(identity, FTGlyphCacheShim.identity(font.getPath(), 0, "2.10.4", 1));
+        assertNotEquals(identity, FTGlyphCacheShim.identity(font.getPath(), 1, "2.10.4", 1));
+        assertNotEquals(identity, FTGlyphCacheShim.identity(font.getPath(), 0, "2.11.0", 1));
+        assertNotEquals(identity, FTGlyphCacheShim.identity(font.getPath(), 0, "2.10.4", 0));
+        assertTrue(font.setLastModified(2_000_000_000_000L));
+        assertNotEquals(identity, FTGlyphCacheShim.identity(font.getPath(), 0, "2.10.4", 1));
+        assertNull(FTGlyphCacheShim.identity(new File(dir, "missing.ttf").getPath(), 0, "2.10.4", 1));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedChannelIsClosedButIndexIsKept() throws IOException {
+        Object first = FTGlyphCacheShim.open(dir, "font0.ttf|1");
+        FTGlyphCacheShim.store(first, 12, false, 5, 4, bitmap(5, 12));
+        FTGlyphCacheShim.store(first, 12, false, 6, 4, bitmap(6, 12));
+        Object[] others = new Object[FTGlyphCacheShim.MAX_OPEN_FILES];
+        for (int i = 0; i < others.length; i++) {
+            others[i] = FTGlyphCacheShim.open(dir, "font" + (i + 1) + ".ttf|1");
+            assertTrue(FTGlyphCacheShim.isChannelOpen(others[i]));
+        }
+        assertFalse(FTGlyphCacheShim.isChannelOpen(first));
+        assertFalse(FTGlyphCacheShim.isClosed(first));
+
+        // Change the strike size of the second record. Reading the file again
+        // would index that glyph under another strike, but the index is kept.
+        File file = dir.listFiles((d, name) -> name.startsWith("font0"))[0];
+        long secondRecord = 10 + "font0.ttf|1".length() + RECORD_SIZE + 12;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(secondRecord);
+            raf.writeFloat(99);
+        }
+        assertArrayEquals(bitmap(6, 12), FTGlyphCacheShim.fill(first, 12, false, 6));
+        assertArrayEquals(bitmap(5, 12), FTGlyphCacheShim.fill(first, 12, false, 5));
+        assertTrue(FTGlyphCacheShim.isChannelOpen(first));
+        assertFalse(FTGlyphCacheShim.isChannelOpen(others[0]));
+
+        // new glyphs are still appended once the file is reopened
+        FTGlyphCacheShim.store(first, 12, false, 7, 3, bitmap(7, 9));
+        assertArrayEquals(bitmap(7, 9), FTGlyphCacheShim.fill(first, 12, false, 7));
+        FTGlyphCacheShim.close(first);
+        for (Object cache : others) {
+            FTGlyphCacheShim.close(cache);
+        }
+    }
+
+    @Test
+    public void testClosedCacheHasNoGlyphs() {
+        Object cache = FTGlyphCacheShim.open(dir, "font.ttf|1");
+        FTGlyphCacheShim.store(cache, 12, false, 5, 4, bitmap(5, 12));
+        FTGlyphCacheShim.close(cache);
+        assertTrue(FTGlyphCacheShim.isClosed(cache));
+        assertFalse(FTGlyphCacheShim.isChannelOpen(cache));
+        assertNull(FTGlyphCacheShim.fill(cache, 12, false, 5));
+        FTGlyphCacheShim.store(cache, 12, false, 6, 4, bitmap(6, 12));
+        assertFalse(FTGlyphCacheShim.isChannelOpen(cache));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,13 +25,26 @@
 
 package test.com.sun.javafx.iio.png;
 
+import com.sun.javafx.iio.ImageFrame;
+import com.sun.javafx.iio.ImageStorage;
 import com.sun.javafx.iio.png.PNGImageLoader2;
 import test.com.sun.javafx.iio.ImageTestHelper;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
 import org.junit.Test;
 
+import static org.junit.Assert.*;
+
 public class PNGImageLoaderTest {
 
     private void testImage(InputStream stream) throws IOException {
@@ -76,4 +89,75 @@ public class PNGImageLoaderTest {
         ByteArrayInputStream stream = ImageTestHelper.constructStreamFromInts(corruptedIDATLength);
         testImage(stream);
     }
+
+    private static byte[] writePNG(BufferedImage bImg, boolean interlaced) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            Iterator<ImageWriter> iter = ImageIO.getImageWritersByFormatName("png");
+            ImageWriter writer = iter.next();
+            ImageWriteParam iwp = writer.getDefaultWriteParam();
+            iwp.setProgressiveMode(interlaced
+                    ? ImageWriteParam.MODE_DEFAULT
+                    : ImageWriteParam.MODE_DISABLED);
+            writer.setOutput(ios);
+            try {
+                writer.write(null, new IIOImage(bImg, null, null), iwp);
+            } finally {
+                writer.dispose();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] getBytes(ImageFrame frame) {
+        ByteBuffer data = (ByteBuffer) frame.getImageData();
+        int rowBytes = frame.getWidth() * ImageStorage.getNumBands(frame.getImageType());
+        byte[] bytes = new byte[rowBytes * frame.getHeight()];
+        for (int y = 0; y < frame.getHeight(); y++) {
+            ByteBuffer line = data.duplicate();
+            line.position(y * frame.getStride());
+            line.get(bytes, y * rowBytes, rowBytes);
+        }
+        return bytes;
+    }
+
+    private void testDecode(int imageType, int numBands) throws IOException {
+        BufferedImage bImg = new BufferedImage(53, 41, imageType);
+        ImageTestHelper.drawImageGradient(bImg);
+        for (int y = 20; y < 41; y++) {
+            for (int x = 0; x < 53; x++) {
+                bImg.setRGB(x, y, (x * 31 + y * 17) << 8 | (x * y) | (y << 25));
+            }
+        }
+        // the writer picks the filter of each row adaptively, so gradients
+        // and noise exercise the different filter types
+        ImageFrame frame = new PNGImageLoader2(new ByteArrayInputStream(writePNG(bImg, false)))
+                .load(0, 0, 0, true, true);
+        byte[] data = getBytes(frame);
+        int[] pixel = new int[4];
+        for (int y = 0; y < 41; y++) {
+            for (int x = 0; x < 53; x++) {
+                bImg.getRaster().getPixel(x, y, pixel);
+                for (int b = 0; b < numBands; b++) {
+                    assertEquals("pixel " + x + ", " + y + " band " + b,
+                            pixel[b], data[(y * 53 + x) * numBands + b] & 0xFF);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDecodeRGB() throws IOException {
+        testDecode(BufferedImage.TYPE_3BYTE_BGR, 3);
+    }
+
+    @Test
+    public void testDecodeRGBA() throws IOException {
+        testDecode(BufferedImage.TYPE_4BYTE_ABGR, 4);
+    }
+
+    @Test
+    public void testDecodeGray() throws IOException {
+        testDecode(BufferedImage.TYPE_BYTE_GRAY, 1);
+    }
 }
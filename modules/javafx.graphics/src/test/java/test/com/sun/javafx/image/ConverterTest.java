@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -654,6 +654,18 @@ public class ConverterTest {
         assertNotNull(PixelUtils.getConverter(ByteBgraPre.getter, IntArgbPre.setter));
     }
 
+    @Test
+    public void testPremultiplyArithmetic() {
+        for (int a = 0; a <= 0xff; a++) {
+            for (int c = 0; c <= 0xff; c++) {
+                assertEquals((c * a + 0x7f) / 0xff, PixelUtils.mul8(c, a));
+                if (a > 0) {
+                    assertEquals((c * 0xff + (a >> 1)) / a, PixelUtils.div8(c, a));
+                }
+            }
+        }
+    }
+
     @Test
     public void testIntAccessors() {
         testIntAccessors(heapIntBuffer(0, 2));
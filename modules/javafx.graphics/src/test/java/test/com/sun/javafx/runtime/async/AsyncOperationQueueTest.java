@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.runtime.async;
+
+import com.sun.javafx.runtime.async.AsyncOperation;
+import com.sun.javafx.runtime.async.AsyncOperationQueue;
+import java.lang.ref.WeakReference;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+public class AsyncOperationQueueTest {
+
+    private static final class TestOperation implements AsyncOperation {
+        boolean started;
+        boolean cancelled;
+
+        @Override
+        public void start() {
+            started = true;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone() {
+            return cancelled;
+        }
+    }
+
+    @Test
+    public void fifoOrderTest() {
+        final AsyncOperationQueue queue = new AsyncOperationQueue(1, false);
+        final TestOperation a = new TestOperation();
+        final TestOperation b = new TestOperation();
+        final TestOperation c = new TestOperation();
+        queue.submit(a);
+        queue.submit(b);
+        queue.submit(c);
+        assertTrue(a.started);
+        assertFalse(b.started);
+        assertEquals(2, queue.getPendingCount());
+
+        queue.finished(a);
+        assertTrue(b.started);
+        assertFalse(c.started);
+        queue.finished(b);
+        assertTrue(c.started);
+        queue.finished(c);
+        assertEquals(0, queue.getRunningCount());
+        assertEquals(3, queue.getStartedCount());
+    }
+
+    @Test
+    public void lifoOrderTest() {
+        final AsyncOperationQueue queue = new AsyncOperationQueue(1, true);
+        final TestOperation a = new TestOperation();
+        final TestOperation b = new TestOperation();
+        final TestOperation c = new TestOperation();
+        queue.submit(a);
+        queue.submit(b);
+        queue.submit(c);
+
+        queue.finished(a);
+        assertTrue(c.started);
+        assertFalse(b.started);
+        queue.finished(c);
+        assertTrue(b.started);
+    }
+
+    @Test
+    public void cancelPendingTest() {
+        final AsyncOperationQueue queue = new AsyncOperationQueue(1, false);
+        final TestOperation a = new TestOperation();
+        final TestOperation b = new TestOperation();
+        final TestOperation c = new TestOperation();
+        queue.submit(a);
+        queue.submit(b);
+        queue.submit(c);
+
+        b.cancel();
+        queue.finished(b);
+        assertEquals(1, queue.getRunningCount());
+        assertEquals(1, queue.getPendingCount());
+        assertEquals(1, queue.getCancelledCount());
+
+        queue.finished(a);
+        assertFalse(b.started);
+        assertTrue(c.started);
+        assertEquals(1, queue.getRunningCount());
+    }
+
+    @Test
+    public void cancelledBeforeFinishedIsSkippedTest() {
+        final AsyncOperationQueue queue = new AsyncOperationQueue(1, false);
+        final TestOperation a = new TestOperation();
+        final TestOperation b = new TestOperation();
+        queue.submit(a);
+        queue.submit(b);
+
+        b.cancel();
+        queue.finished(a);
+        assertFalse(b.started);
+        assertEquals(0, queue.getRunningCount());
+        assertEquals(0, queue.getPendingCount());
+        assertEquals(1, queue.getCancelledCount());
+    }
+
+    @Test
+    public void unreachablePendingIsDroppedTest() throws Exception {
+        final AsyncOperationQueue queue = new AsyncOperationQueue(1, false);
+        final TestOperation a = new TestOperation();
+        queue.submit(a);
+        TestOperation b = new TestOperation();
+        final WeakReference<TestOperation> ref = new WeakReference<>(b);
+        queue.submit(b);
+        b = null;
+
+        for (int i = 0; i < 10 && ref.get() != null; ++i) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assumeTrue(ref.get() == null);
+
+        queue.finished(a);
+        assertEquals(0, queue.getRunningCount());
+        assertEquals(0, queue.getPendingCount());
+        assertEquals(1, queue.getStartedCount());
+        assertEquals(1, queue.getDroppedCount());
+    }
+}
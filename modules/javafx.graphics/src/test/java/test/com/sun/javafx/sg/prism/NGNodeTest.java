@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,6 +29,7 @@ import com.sun.javafx.geom.BaseBounds;
 import com.sun.javafx.geom.RectBounds;
 import com.sun.javafx.geom.Rectangle;
 import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.javafx.sg.prism.CacheFilter;
 import com.sun.javafx.sg.prism.NGNode;
 import com.sun.javafx.sg.prism.NGNodeShim;
 import com.sun.javafx.sg.prism.NGPath;
@@ -39,6 +40,7 @@ import com.sun.scenario.effect.Blend;
 import com.sun.scenario.effect.Effect;
 import com.sun.scenario.effect.FilterContext;
 import com.sun.scenario.effect.ImageData;
+import javafx.scene.CacheHint;
 import org.junit.Before;
 import org.junit.Test;
 import static org.junit.Assert.assertEquals;
@@ -578,6 +580,96 @@ public class NGNodeTest extends NGTestBase {
         assertNull(n.getOpaqueRegion());
     }
 
+    /**************************************************************************
+     *                                                                        *
+     * Various tests for the automatic cache of effect output                 *
+     *                                                                        *
+     *************************************************************************/
+
+    private void renderWithEffect(BaseTransform xform, int times) {
+        for (int i = 0; i < times; i++) {
+            NGNodeShim.updateAutoCache(n, xform, 3);
+        }
+    }
+
+    @Test public void testNoAutoCacheWithoutEffect() {
+        renderWithEffect(BaseTransform.IDENTITY_TRANSFORM, 5);
+        assertNull(n.getCacheFilter());
+    }
+
+    @Test public void testAutoCacheCreatedAfterStableRenders() {
+        n.setEffect(new OpaqueEffect());
+        renderWithEffect(BaseTransform.IDENTITY_TRANSFORM, 2);
+        assertNull(n.getCacheFilter());
+        renderWithEffect(BaseTransform.IDENTITY_TRANSFORM, 1);
+        assertNotNull(n.getCacheFilter());
+    }
+
+    @Test public void testAutoCacheDisposedWhenContentChanges() {
+        n.setEffect(new OpaqueEffect());
+        renderWithEffect(BaseTransform.IDENTITY_TRANSFORM, 3);
+        assertNotNull(n.getCacheFilter());
+        NGNodeShim.invalidateCache(n);
+        assertNull(n.getCacheFilter());
+        renderWithEffect(BaseTransform.IDENTITY_TRANSFORM, 2);
+        assertNull(n.getCacheFilter());
+        renderWithEffect(BaseTransform.IDENTITY_TRANSFORM, 1);
+        assertNotNull(n.getCacheFilter());
+    }
+
+    @Test public void testAutoCacheDisposedWhenEffectChanges() {
+        n.setEffect(new OpaqueEffect());
+        renderWithEffect(BaseTransform.IDENTITY_TRANSFORM, 3);
+        assertNotNull(n.getCacheFilter());
+        n.setEffect(new OpaqueEffect());
+        assertNull(n.getCacheFilter());
+    }
+
+    @Test public void testAutoCacheKeptWhenTranslated() {
+        n.setEffect(new OpaqueEffect());
+        renderWithEffect(BaseTransform.IDENTITY_TRANSFORM, 3);
+        CacheFilter cacheFilter = n.getCacheFilter();
+        assertNotNull(cacheFilter);
+        for (int i = 1; i <= 5; i++) {
+            renderWithEffect(BaseTransform.getTranslateInstance(i * 10, i * 5), 1);
+            assertSame(cacheFilter, n.getCacheFilter());
+        }
+    }
+
+    @Test public void testAutoCacheDisposedWhenScaled() {
+        n.setEffect(new OpaqueEffect());
+        renderWithEffect(BaseTransform.IDENTITY_TRANSFORM, 3);
+        assertNotNull(n.getCacheFilter());
+        renderWithEffect(BaseTransform.getScaleInstance(2, 2), 1);
+        assertNull(n.getCacheFilter());
+        renderWithEffect(BaseTransform.getScaleInstance(2, 2), 2);
+        assertNotNull(n.getCacheFilter());
+    }
+
+    @Test public void testNoAutoCacheWhileTransformIsAnimating() {
+        n.setEffect(new OpaqueEffect());
+        for (int i = 0; i < 10; i++) {
+            renderWithEffect(BaseTransform.getRotateInstance(i * 0.1, 5, 5), 1);
+            assertNull(n.getCacheFilter());
+        }
+    }
+
+    @Test public void testApplicationCacheReplacesAutoCache() {
+        n.setEffect(new OpaqueEffect());
+        renderWithEffect(BaseTransform.IDENTITY_TRANSFORM, 3);
+        CacheFilter cacheFilter = n.getCacheFilter();
+        assertNotNull(cacheFilter);
+        n.setCachedAsBitmap(true, CacheHint.SPEED);
+        assertSame(cacheFilter, n.getCacheFilter());
+        // the application cache is kept when the node changes
+        NGNodeShim.invalidateCache(n);
+        assertSame(cacheFilter, n.getCacheFilter());
+        renderWithEffect(BaseTransform.getScaleInstance(2, 2), 1);
+        assertSame(cacheFilter, n.getCacheFilter());
+        n.setCachedAsBitmap(false, CacheHint.DEFAULT);
+        assertNull(n.getCacheFilter());
+    }
+
     class NGNodeMock extends NGNodeShim {
         boolean opaqueRegionRecomputed = false;
         RectBounds computedOpaqueRegion = new RectBounds(0, 0, 10, 10);
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.sg.prism;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sun.javafx.font.FontStrike;
+import com.sun.javafx.font.PGFont;
+import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.javafx.scene.text.GlyphList;
+import com.sun.javafx.sg.prism.NGParallelCamera;
+import com.sun.javafx.sg.prism.NGShape;
+import com.sun.javafx.sg.prism.NGText;
+import com.sun.javafx.text.TextLine;
+import com.sun.javafx.text.TextRun;
+import com.sun.prism.paint.Color;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that NGText only renders the runs that intersect the clip of the
+ * graphics, padded by the font size, and keeps the runs that are only
+ * partially visible at the edges of the clip.
+ */
+public class NGTextTest extends NGTestBase {
+
+    private static final float FONT_SIZE = 12;
+    private static final int LINE_COUNT = 20;
+    private static final int LINE_SPACING = 20;
+    private static final float ASCENT = -10;
+    private static final float DESCENT = 4;
+    private static final float RUN_WIDTH = 50;
+
+    private static final FontStrike STRIKE = stub(FontStrike.class);
+    private static final PGFont FONT = stub(PGFont.class);
+
+    private static <T> T stub(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(),
+                new Class<?>[] {type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals": return proxy == args[0];
+                case "hashCode": return System.identityHashCode(proxy);
+                case "toString": return type.getSimpleName();
+                case "getStrike": return STRIKE;
+                case "getSize": return FONT_SIZE;
+                case "getAAMode": return 0;
+                case "drawAsShapes": return false;
+            }
+            throw new UnsupportedOperationException(method.getName());
+        }));
+    }
+
+    /* Records the runs rendered by drawString */
+    private static class ClipGraphics extends TestGraphics {
+        private final List<GlyphList> drawn = new ArrayList<>();
+        private RectBounds clip;
+
+        @Override
+        public RectBounds getFinalClipNoClone() {
+            return clip;
+        }
+
+        @Override
+        public void drawString(GlyphList gl, FontStrike strike, float x, float y,
+                               Color selectColor,
+                               int selectStart, int selectEnd) {
+            drawn.add(gl);
+        }
+    }
+
+    private NGText text;
+    private TextRun[] runs;
+    private ClipGraphics g;
+
+    @Before
+    public void setup() {
+        /* Each line has two runs side by side */
+        runs = new TextRun[LINE_COUNT * 2];
+        for (int i = 0; i < LINE_COUNT; i++) {
+            TextRun left = createRun(i * 2, 0, i * LINE_SPACING);
+            TextRun right = createRun(i * 2 + 1, RUN_WIDTH, i * LINE_SPACING);
+            TextLine line = new TextLine(i * 2, 2, new TextRun[] {left, right},
+                                         RUN_WIDTH * 2, ASCENT, DESCENT, 0);
+            left.setLine(line);
+            right.setLine(line);
+            runs[i * 2] = left;
+            runs[i * 2 + 1] = right;
+        }
+        text = new NGText();
+        text.setFont(FONT);
+        text.setGlyphs(runs);
+        text.setMode(NGShape.Mode.FILL);
+        text.setFillPaint(Color.BLACK);
+
+        g = new ClipGraphics();
+        g.setCamera(new NGParallelCamera());
+    }
+
+    private static TextRun createRun(int start, float x, float y) {
+        TextRun run = new TextRun(start, 1, (byte)0, false, 0, null, 0, false);
+        run.shape(1, new int[] {1}, new float[] {0, 0, RUN_WIDTH, 0}, null);
+        run.setLocation(x, y);
+        return run;
+    }
+
+    private void render(float minX, float minY, float maxX, float maxY) {
+        g.clip = new RectBounds(minX, minY, maxX, maxY);
+        g.drawn.clear();
+        text.render(g);
+    }
+
+    /* Asserts that the given runs, and only them, were drawn in order */
+    private void assertDrawn(int... indices) {
+        List<GlyphList> expected = new ArrayList<>();
+        for (int i : indices) {
+            expected.add(runs[i]);
+        }
+        assertEquals(expected, g.drawn);
+    }
+
+    private static int[] lines(int first, int last) {
+        int[] indices = new int[(last - first + 1) * 2];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = first * 2 + i;
+        }
+        return indices;
+    }
+
+    @Test
+    public void testAllLinesDrawnWhenClipCoversText() {
+        render(0, 0, 1000, 1000);
+        assertDrawn(lines(0, LINE_COUNT - 1));
+    }
+
+    @Test
+    public void testLinesOutsideClipAreNotDrawn() {
+        /* The padded clip is [88, 142]: lines 4 (80) to 7 (140) */
+        render(0, 100, 1000, 130);
+        assertDrawn(lines(4, 7));
+    }
+
+    @Test
+    public void testLinesTouchingClipEdgesAreDrawn() {
+        /* The padded clip is [74, 152]: line 3 ends at 60 + 14 = 74 and
+         * line 7 starts at 140, both are partially visible.
+         */
+        render(0, 86, 1000, 140);
+        assertDrawn(lines(3, 7));
+
+        /* One pixel further and they are both out of the padded clip */
+        render(0, 87, 1000, 127);
+        assertDrawn(lines(4, 6));
+    }
+
+    @Test
+    public void testFirstAndLastLines() {
+        render(0, -100, 1000, 0);
+        assertDrawn(lines(0, 0));
+
+        render(0, LINE_COUNT * LINE_SPACING, 1000, LINE_COUNT * LINE_SPACING + 100);
+        assertDrawn(lines(LINE_COUNT - 1, LINE_COUNT - 1));
+
+        render(0, LINE_COUNT * LINE_SPACING + FONT_SIZE, 1000, 2000);
+        assertDrawn();
+    }
+
+    @Test
+    public void testRunsOutsideClipHorizontallyAreNotDrawn() {
+        /* The padded clip starts at 58, the left run ends at 50 */
+        render(70, 100, 1000, 130);
+        assertDrawn(9, 11, 13, 15);
+
+        /* The padded clip ends at 42, the right run starts at 50 */
+        render(0, 100, 30, 130);
+        assertDrawn(8, 10, 12, 14);
+    }
+
+    @Test
+    public void testRunsTouchingClipEdgesHorizontallyAreDrawn() {
+        /* The padded clip starts at 50, where the left run ends */
+        render(62, 100, 1000, 130);
+        assertDrawn(lines(4, 7));
+
+        render(63, 100, 1000, 130);
+        assertDrawn(9, 11, 13, 15);
+
+        /* The padded clip ends at 50, where the right run starts */
+        render(0, 100, 38, 130);
+        assertDrawn(lines(4, 7));
+
+        render(0, 100, 37, 130);
+        assertDrawn(8, 10, 12, 14);
+    }
+
+    @Test
+    public void testClipIsMappedToLocalCoordinates() {
+        /* The text is scrolled up by 200, the clip [0, 30] in device space
+         * is [200, 230] in local space, padded to [188, 242].
+         */
+        g.setTransform(BaseTransform.getTranslateInstance(0, -200));
+        render(0, 0, 1000, 30);
+        assertDrawn(lines(9, 12));
+    }
+
+    @Test
+    public void testNoCullingWithoutParallelCamera() {
+        g.setCamera(null);
+        render(0, 100, 1000, 130);
+        assertDrawn(lines(0, LINE_COUNT - 1));
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.text;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.javafx.font.CharToGlyphMapper;
+import com.sun.javafx.font.FontResource;
+import com.sun.javafx.font.FontStrike;
+import com.sun.javafx.font.Metrics;
+import com.sun.javafx.font.PGFont;
+import com.sun.javafx.scene.text.GlyphList;
+import com.sun.javafx.scene.text.TextLine;
+import com.sun.javafx.text.PrismTextLayout;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/*
+ * Large single font texts are mapped to glyphs and advances by several
+ * threads (see prism.parallelShapingThreshold). The font used here is a
+ * synthetic one so the result does not depend on the fonts installed.
+ */
+public class ParallelShapingTest {
+
+    private static final int LINE_COUNT = 100;
+    private static final int LINE_LENGTH = 1000;
+    private static final float SIZE = 12;
+
+    private static final AtomicInteger mapped = new AtomicInteger();
+    private static final AtomicInteger maxMapped = new AtomicInteger();
+
+    private static final CharToGlyphMapper MAPPER = new CharToGlyphMapper() {
+        @Override public int getGlyphCode(int charCode) {
+            if (charCode >= SURROGATES_START) {
+                return 2000 + (charCode & 0xff);
+            }
+            return 1 + charCode % 1000;
+        }
+        @Override public void charsToGlyphs(int start, int count, char[] unicodes,
+                                            int[] glyphs, int glyphStart) {
+            mapped.addAndGet(count);
+            maxMapped.accumulateAndGet(count, Math::max);
+            super.charsToGlyphs(start, count, unicodes, glyphs, glyphStart);
+        }
+    };
+
+    private static final FontResource RESOURCE = stub(FontResource.class);
+    private static final Metrics METRICS = stub(Metrics.class);
+    private static final FontStrike STRIKE = stub(FontStrike.class);
+    private static final PGFont FONT = stub(PGFont.class);
+
+    private static <T> T stub(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(),
+                new Class<?>[] {type}, ParallelShapingTest::invoke));
+    }
+
+    private static Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "equals": return proxy == args[0];
+            case "hashCode": return System.identityHashCode(proxy);
+            case "toString": return "Test";
+            case "getFullName":
+            case "getFamilyName":
+            case "getStyleName":
+            case "getName": return "Test";
+            case "getSize": return SIZE;
+            case "getStrike": return STRIKE;
+            case "getFontResource": return RESOURCE;
+            case "getMetrics": return METRICS;
+            case "getGlyphMapper": return MAPPER;
+            case "getAscent": return -SIZE;
+            case "getDescent": return SIZE / 4;
+            case "getLineHeight": return SIZE * 5 / 4;
+            case "getAdvance": {
+                int glyphCode = (Integer)args[0];
+                if (glyphCode == CharToGlyphMapper.INVISIBLE_GLYPH_ID) {
+                    return 0f;
+                }
+                return (float)(1 + glyphCode % 5);
+            }
+            case "getCharAdvance": return SIZE / 2;
+            case "getGlyphBoundingBox": {
+                float[] bounds = (float[])args[2];
+                return bounds != null ? bounds : new float[4];
+            }
+        }
+        Class<?> type = method.getReturnType();
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == float.class) return 0f;
+        return null;
+    }
+
+    private static String line(int index) {
+        StringBuilder sb = new StringBuilder(LINE_LENGTH);
+        for (int i = 0; i < LINE_LENGTH; i++) {
+            sb.append((char)('a' + (index * 7 + i) % 26));
+            if (i % 10 == 9) {
+                sb.append(' ');
+            }
+        }
+        return sb.toString();
+    }
+
+    private String[] lines;
+    private String text;
+
+    @Before
+    public void setUp() {
+        lines = new String[LINE_COUNT];
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < LINE_COUNT; i++) {
+            lines[i] = line(i);
+            if (i == 14) {
+                /* A surrogate pair across the first chunk boundary (0x4000) */
+                int offset = 0x4000 - 1 - sb.length();
+                lines[i] = lines[i].substring(0, offset) + "\uD83D\uDE00" +
+                           lines[i].substring(offset + 2);
+            }
+            sb.append(lines[i]);
+            if (i + 1 < LINE_COUNT) {
+                sb.append('\n');
+            }
+        }
+        text = sb.toString();
+        assertTrue(Character.isHighSurrogate(text.charAt(0x4000 - 1)));
+        mapped.set(0);
+        maxMapped.set(0);
+    }
+
+    private static void assertSameRuns(TextLine expected, TextLine actual) {
+        GlyphList[] expectedRuns = expected.getRuns();
+        GlyphList[] actualRuns = actual.getRuns();
+        assertEquals(expectedRuns.length, actualRuns.length);
+        for (int r = 0; r < expectedRuns.length; r++) {
+            GlyphList e = expectedRuns[r];
+            GlyphList a = actualRuns[r];
+            assertEquals(e.getGlyphCount(), a.getGlyphCount());
+            for (int g = 0; g < e.getGlyphCount(); g++) {
+                assertEquals(e.getGlyphCode(g), a.getGlyphCode(g));
+                assertEquals(e.getPosX(g), a.getPosX(g), 0);
+            }
+            assertEquals(e.getWidth(), a.getWidth(), 0);
+        }
+    }
+
+    @Test
+    public void testParallelMatchesSequential() {
+        PrismTextLayout layout = new PrismTextLayout();
+        layout.setContent(text, FONT);
+        TextLine[] actual = layout.getLines();
+
+        /* The chars were mapped in chunks, not run by run */
+        assertTrue(maxMapped.get() >= 0x4000);
+        assertEquals(LINE_COUNT, actual.length);
+
+        /* Each line on its own is below the threshold and laid out sequentially */
+        for (int i = 0; i < LINE_COUNT; i++) {
+            maxMapped.set(0);
+            PrismTextLayout single = new PrismTextLayout();
+            single.setContent(lines[i] + (i + 1 < LINE_COUNT ? "\n" : ""), FONT);
+            TextLine expected = single.getLines()[0];
+            assertTrue(maxMapped.get() <= LINE_LENGTH + LINE_LENGTH / 10 + 1);
+
+            assertEquals(expected.getLength(), actual[i].getLength());
+            assertEquals(expected.getBounds().getWidth(), actual[i].getBounds().getWidth(), 0);
+            assertSameRuns(expected, actual[i]);
+        }
+    }
+
+    @Test
+    public void testWrappedParallelMatchesSequential() {
+        PrismTextLayout layout = new PrismTextLayout();
+        layout.setContent(text, FONT);
+        layout.setWrapWidth(800);
+        TextLine[] actual = layout.getLines();
+        assertTrue(maxMapped.get() >= 0x4000);
+
+        int index = 0;
+        for (int i = 0; i < LINE_COUNT; i++) {
+            PrismTextLayout single = new PrismTextLayout();
+            single.setContent(lines[i] + (i + 1 < LINE_COUNT ? "\n" : ""), FONT);
+            single.setWrapWidth(800);
+            for (TextLine expected : single.getLines()) {
+                if (expected.getLength() == 0) continue;
+                assertEquals(expected.getLength(), actual[index].getLength());
+                assertSameRuns(expected, actual[index]);
+                index++;
+            }
+        }
+        assertEquals(actual.length, index);
+    }
+
+    @Test
+    public void testUnchangedContentIsNotMappedAgain() {
+        PrismTextLayout layout = new PrismTextLayout();
+        layout.setContent(text, FONT);
+        TextLine[] lines = layout.getLines();
+        assertTrue(mapped.get() >= text.length());
+
+        mapped.set(0);
+        assertFalse(layout.setContent(new String(text), FONT));
+        assertSame(lines, layout.getLines());
+        layout.setWrapWidth(500);
+        layout.getLines();
+        assertEquals(0, mapped.get());
+
+        assertTrue(layout.setContent(text + "x", FONT));
+        layout.getLines();
+        assertTrue(mapped.get() > text.length());
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.text;
+
+import com.sun.javafx.text.StringLayoutCacheShim;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class StringLayoutCacheTest {
+
+    private static final Object FONT = "font";
+
+    private static Object put(Object cache, String text) {
+        Object layout = StringLayoutCacheShim.newLayout();
+        StringLayoutCacheShim.put(cache, StringLayoutCacheShim.key(text, FONT), layout);
+        return layout;
+    }
+
+    private static Object get(Object cache, String text) {
+        return StringLayoutCacheShim.get(cache, StringLayoutCacheShim.key(text, FONT));
+    }
+
+    @Test
+    public void testHit() {
+        Object cache = StringLayoutCacheShim.create(100);
+        Object layout = put(cache, "Hello");
+        assertSame(layout, get(cache, "Hello"));
+        assertNull(get(cache, "World"));
+        assertEquals(5, StringLayoutCacheShim.size(cache));
+    }
+
+    @Test
+    public void testKeyIncludesFont() {
+        Object cache = StringLayoutCacheShim.create(100);
+        put(cache, "Hello");
+        assertNull(StringLayoutCacheShim.get(cache, StringLayoutCacheShim.key("Hello", "other")));
+    }
+
+    @Test
+    public void testReplaceDoesNotGrowSize() {
+        Object cache = StringLayoutCacheShim.create(100);
+        put(cache, "Hello");
+        Object layout = put(cache, "Hello");
+        assertSame(layout, get(cache, "Hello"));
+        assertEquals(5, StringLayoutCacheShim.size(cache));
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        Object cache = StringLayoutCacheShim.create(12);
+        put(cache, "aaaa");
+        put(cache, "bbbb");
+        put(cache, "cccc");
+        /* Touch the eldest entry so that "bbbb" becomes the eldest */
+        assertNotNull(get(cache, "aaaa"));
+        put(cache, "dddd");
+        assertNull(get(cache, "bbbb"));
+        assertNotNull(get(cache, "aaaa"));
+        assertNotNull(get(cache, "cccc"));
+        assertNotNull(get(cache, "dddd"));
+        assertEquals(12, StringLayoutCacheShim.size(cache));
+    }
+
+    @Test
+    public void testEvictsUntilWithinLimit() {
+        Object cache = StringLayoutCacheShim.create(10);
+        put(cache, "aaa");
+        put(cache, "bbb");
+        put(cache, "ccc");
+        put(cache, "dddddddd");
+        assertNull(get(cache, "aaa"));
+        assertNull(get(cache, "bbb"));
+        assertNull(get(cache, "ccc"));
+        assertNotNull(get(cache, "dddddddd"));
+        assertEquals(8, StringLayoutCacheShim.size(cache));
+    }
+
+    @Test
+    public void testNewEntryIsNeverEvicted() {
+        Object cache = StringLayoutCacheShim.create(4);
+        put(cache, "aa");
+        Object layout = put(cache, "bbbbbbbb");
+        assertNull(get(cache, "aa"));
+        assertSame(layout, get(cache, "bbbbbbbb"));
+        assertEquals(8, StringLayoutCacheShim.size(cache));
+    }
+
+    @Test
+    public void testCountsHitsMissesAndEvictions() {
+        Object cache = StringLayoutCacheShim.create(8);
+        put(cache, "aaaa");
+        assertNotNull(get(cache, "aaaa"));
+        assertNull(get(cache, "bbbb"));
+        assertNull(get(cache, "cccc"));
+        put(cache, "bbbb");
+        put(cache, "cccc");
+        assertEquals(1, StringLayoutCacheShim.getHitCount(cache));
+        assertEquals(2, StringLayoutCacheShim.getMissCount(cache));
+        assertEquals(1, StringLayoutCacheShim.getEvictionCount(cache));
+    }
+}
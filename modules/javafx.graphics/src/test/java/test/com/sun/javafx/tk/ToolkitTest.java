@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.tk;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.sun.javafx.tk.ImageLoader;
+import com.sun.javafx.tk.Toolkit;
+import test.com.sun.javafx.pgstub.StubImageLoader;
+import test.com.sun.javafx.pgstub.StubImageLoaderFactory;
+import test.com.sun.javafx.pgstub.StubPlatformImageInfo;
+import test.com.sun.javafx.pgstub.StubToolkit;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public final class ToolkitTest {
+    private final Toolkit toolkit = Toolkit.getToolkit();
+    private final StubImageLoaderFactory imageLoaderFactory =
+            ((StubToolkit) toolkit).getImageLoaderFactory();
+
+    @Before
+    public void setUp() {
+        imageLoaderFactory.reset();
+        imageLoaderFactory.registerImage("file:a.png", new StubPlatformImageInfo(10, 20));
+        imageLoaderFactory.registerImage("file:b.png", new StubPlatformImageInfo(30, 40));
+    }
+
+    @Test
+    public void testLoadImages() throws Exception {
+        List<String> urls = Arrays.asList("file:a.png", "file:missing.png", "file:b.png", "file:a.png");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<CompletableFuture<ImageLoader>> futures =
+                    toolkit.loadImages(urls, 0, 0, false, true, executor);
+            assertEquals(urls.size(), futures.size());
+            for (int i = 0; i < urls.size(); i++) {
+                ImageLoader loader = futures.get(i).get(5, TimeUnit.SECONDS);
+                if (i == 1) {
+                    assertNotNull(loader.getException());
+                } else {
+                    assertNull(loader.getException());
+                    assertEquals(urls.get(i), ((StubImageLoader) loader).getSource());
+                }
+            }
+            assertEquals(30, futures.get(2).get().getWidth(), 0);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testLoadImagesUsesBoundedWorkers() throws Exception {
+        String[] urls = new String[Runtime.getRuntime().availableProcessors() + 5];
+        Arrays.fill(urls, "file:a.png");
+        AtomicInteger workers = new AtomicInteger();
+        List<CompletableFuture<ImageLoader>> futures =
+                toolkit.loadImages(Arrays.asList(urls), 0, 0, false, true, r -> {
+                    workers.incrementAndGet();
+                    r.run();
+                });
+        assertEquals(Runtime.getRuntime().availableProcessors(), workers.get());
+        for (CompletableFuture<ImageLoader> future : futures) {
+            assertNull(future.getNow(null).getException());
+        }
+    }
+
+    @Test
+    public void testCancelledImageIsNotLoaded() throws Exception {
+        Runnable[] worker = new Runnable[1];
+        List<CompletableFuture<ImageLoader>> futures =
+                toolkit.loadImages(Arrays.asList("file:a.png", "file:b.png"),
+                                   0, 0, false, true, r -> worker[0] = r);
+        assertTrue(futures.get(0).cancel(false));
+        worker[0].run();
+        assertTrue(futures.get(0).isCancelled());
+        assertNull(futures.get(1).get().getException());
+    }
+}
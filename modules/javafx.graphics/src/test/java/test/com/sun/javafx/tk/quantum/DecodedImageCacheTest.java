@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.tk.quantum;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+
+import com.sun.javafx.tk.ImageLoader;
+import com.sun.javafx.tk.quantum.DecodedImageCacheShim;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class DecodedImageCacheTest {
+
+    private static final int SIZE = 16;
+
+    private byte[] png;
+    private long imageSize;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Before
+    public void setUp() throws IOException {
+        BufferedImage image = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(1, 1, 0x80ff0000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        png = out.toByteArray();
+        imageSize = DecodedImageCacheShim.getByteSize(decode());
+        assertTrue(imageSize > 0);
+    }
+
+    private ImageLoader decode() {
+        return DecodedImageCacheShim.decode(png, 0, 0);
+    }
+
+    private ImageLoader load(Object cache, String url) throws IOException {
+        return DecodedImageCacheShim.load(cache, DecodedImageCacheShim.key(url, 0, 0), () -> {
+            loads.incrementAndGet();
+            return decode();
+        });
+    }
+
+    @Test
+    public void testCachedImageIsShared() throws IOException {
+        Object cache = DecodedImageCacheShim.create(imageSize * 4);
+        ImageLoader first = load(cache, "a.png");
+        assertNull(first.getException());
+        assertSame(first, load(cache, "a.png"));
+        assertEquals(1, loads.get());
+        assertEquals(1, DecodedImageCacheShim.getHitCount(cache));
+        assertEquals(1, DecodedImageCacheShim.getMissCount(cache));
+        assertEquals(imageSize, DecodedImageCacheShim.getResidentBytes(cache));
+    }
+
+    @Test
+    public void testKeyIncludesRequestedSize() throws IOException {
+        Object cache = DecodedImageCacheShim.create(imageSize * 4);
+        Object key = DecodedImageCacheShim.key("a.png", 8, 8);
+        ImageLoader scaled = DecodedImageCacheShim.load(cache, key, () -> {
+            loads.incrementAndGet();
+            return DecodedImageCacheShim.decode(png, 8, 8);
+        });
+        assertNotSame(scaled, load(cache, "a.png"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testCacheDisabled() throws IOException {
+        Object cache = DecodedImageCacheShim.create(0);
+        ImageLoader first = load(cache, "a.png");
+        ImageLoader second = load(cache, "a.png");
+        assertNotSame(first, second);
+        assertEquals(2, loads.get());
+        assertEquals(0, DecodedImageCacheShim.getHitCount(cache));
+        assertEquals(2, DecodedImageCacheShim.getMissCount(cache));
+        assertEquals(0, DecodedImageCacheShim.getResidentBytes(cache));
+    }
+
+    @Test
+    public void testEvictionBySize() throws IOException {
+        Object cache = DecodedImageCacheShim.create(imageSize * 5 / 2);
+        ImageLoader a = load(cache, "a.png");
+        ImageLoader b = load(cache, "b.png");
+        assertEquals(2, loads.get());
+        assertEquals(imageSize * 2, DecodedImageCacheShim.getResidentBytes(cache));
+
+        /* "a" is now the most recently used, adding "c" evicts "b" */
+        assertSame(a, load(cache, "a.png"));
+        ImageLoader c = load(cache, "c.png");
+        assertEquals(3, loads.get());
+        assertEquals(imageSize * 2, DecodedImageCacheShim.getResidentBytes(cache));
+
+        assertSame(a, load(cache, "a.png"));
+        assertSame(c, load(cache, "c.png"));
+        assertEquals(3, loads.get());
+        assertNotSame(b, load(cache, "b.png"));
+        assertEquals(4, loads.get());
+        assertEquals(3, DecodedImageCacheShim.getHitCount(cache));
+        assertEquals(4, DecodedImageCacheShim.getMissCount(cache));
+        assertEquals(imageSize * 2, DecodedImageCacheShim.getResidentBytes(cache));
+    }
+
+    @Test
+    public void testImageLargerThanCacheIsNotCached() throws IOException {
+        Object cache = DecodedImageCacheShim.create(imageSize - 1);
+        assertNotSame(load(cache, "a.png"), load(cache, "a.png"));
+        assertEquals(2, loads.get());
+        assertEquals(0, DecodedImageCacheShim.getResidentBytes(cache));
+    }
+
+    @Test
+    public void testFailedLoadIsNotCached() throws IOException {
+        Object cache = DecodedImageCacheShim.create(imageSize * 4);
+        Object key = DecodedImageCacheShim.key("a.png", 0, 0);
+        try {
+            DecodedImageCacheShim.load(cache, key, () -> {
+                loads.incrementAndGet();
+                throw new IOException("Test");
+            });
+            fail("Expected IOException");
+        } catch (IOException e) {
+            assertEquals("Test", e.getMessage());
+        }
+        ImageLoader image = load(cache, "a.png");
+        assertNull(image.getException());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testImageWithDecodingErrorIsNotCached() throws IOException {
+        Object cache = DecodedImageCacheShim.create(imageSize * 4);
+        Object key = DecodedImageCacheShim.key("bad.png", 0, 0);
+        DecodedImageCacheShim.Loader loader = () -> {
+            loads.incrementAndGet();
+            return DecodedImageCacheShim.decode(new byte[16], 0, 0);
+        };
+        ImageLoader first = DecodedImageCacheShim.load(cache, key, loader);
+        assertNotNull(first.getException());
+        assertNotSame(first, DecodedImageCacheShim.load(cache, key, loader));
+        assertEquals(2, loads.get());
+    }
+
+    private void testConcurrentLoads(long maxSize) throws Exception {
+        Object cache = DecodedImageCacheShim.create(maxSize);
+        Object key = DecodedImageCacheShim.key("a.png", 0, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        int count = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(count);
+        List<Thread> threads = new ArrayList<>();
+        try {
+            List<Future<ImageLoader>> results = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                results.add(executor.submit(() -> {
+                    synchronized (threads) {
+                        threads.add(Thread.currentThread());
+                    }
+                    return DecodedImageCacheShim.load(cache, key, () -> {
+                        loads.incrementAndGet();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            throw new InterruptedIOException();
+                        }
+                        return decode();
+                    });
+                }));
+            }
+
+            /* Wait for one thread to decode and the others to wait for it */
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (true) {
+                int waiting = 0;
+                synchronized (threads) {
+                    for (Thread t : threads) {
+                        if (t.getState() == Thread.State.WAITING) {
+                            waiting++;
+                        }
+                    }
+                }
+                if (waiting == count) {
+                    break;
+                }
+                assertTrue("Timed out", System.nanoTime() < deadline);
+                Thread.sleep(10);
+            }
+            assertEquals(1, loads.get());
+            release.countDown();
+
+            ImageLoader first = results.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<ImageLoader> result : results) {
+                assertSame(first, result.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+            assertEquals(count - 1, DecodedImageCacheShim.getHitCount(cache));
+            assertEquals(1, DecodedImageCacheShim.getMissCount(cache));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentLoadsDecodeOnce() throws Exception {
+        testConcurrentLoads(imageSize * 4);
+    }
+
+    @Test
+    public void testConcurrentLoadsDecodeOnceWhenCacheDisabled() throws Exception {
+        testConcurrentLoads(0);
+    }
+}
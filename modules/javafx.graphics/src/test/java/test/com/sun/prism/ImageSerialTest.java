@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.prism;
+
+import com.sun.javafx.geom.Rectangle;
+import com.sun.prism.Image;
+import javafx.util.Pair;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ImageSerialTest {
+
+    private final Image image = Image.fromIntArgbPreData(new int[100 * 100], 100, 100);
+
+    @Test
+    public void testSingleUpdate() {
+        int id = image.getSerial().getIdRect().getKey();
+        image.bufferDirty(new Rectangle(10, 10, 5, 5));
+
+        Pair<Integer, Rectangle> idRect = image.getSerial().getIdRect(id);
+        assertEquals(id + 1, (int) idRect.getKey());
+        assertEquals(new Rectangle(10, 10, 5, 5), idRect.getValue());
+    }
+
+    @Test
+    public void testMultipleUpdatesAreMerged() {
+        int id = image.getSerial().getIdRect().getKey();
+        image.bufferDirty(new Rectangle(10, 10, 5, 5));
+        image.bufferDirty(new Rectangle(30, 40, 10, 10));
+        image.bufferDirty(new Rectangle(0, 20, 1, 1));
+
+        Pair<Integer, Rectangle> idRect = image.getSerial().getIdRect(id);
+        assertEquals(id + 3, (int) idRect.getKey());
+        assertEquals(new Rectangle(0, 10, 40, 40), idRect.getValue());
+    }
+
+    @Test
+    public void testGetIdRectDoesNotCountSkippedUpdates() {
+        int id = image.getSerial().getIdRect().getKey();
+        image.bufferDirty(new Rectangle(10, 10, 5, 5));
+        image.bufferDirty(new Rectangle(30, 40, 10, 10));
+
+        assertEquals(image.getSerial().getIdRect(id), image.getSerial().getIdRect(id));
+        assertEquals(0, image.getSerial().getSkippedUpdates());
+    }
+
+    @Test
+    public void testSkippedUpdates() {
+        int id = image.getSerial().getIdRect().getKey();
+        image.getSerial().uploaded(id, id + 1);
+        assertEquals(0, image.getSerial().getSkippedUpdates());
+        image.getSerial().uploaded(id + 1, id + 4);
+        assertEquals(2, image.getSerial().getSkippedUpdates());
+        image.getSerial().uploaded(id + 4, id + 4);
+        assertEquals(2, image.getSerial().getSkippedUpdates());
+    }
+
+    @Test
+    public void testFullUpdate() {
+        int id = image.getSerial().getIdRect().getKey();
+        image.bufferDirty(new Rectangle(10, 10, 5, 5));
+        image.bufferDirty(null);
+        image.bufferDirty(new Rectangle(30, 40, 10, 10));
+
+        assertNull(image.getSerial().getIdRect(id).getValue());
+        assertEquals(new Rectangle(30, 40, 10, 10),
+                     image.getSerial().getIdRect(id + 2).getValue());
+    }
+
+    @Test
+    public void testTooManyUpdates() {
+        int id = image.getSerial().getIdRect().getKey();
+        for (int i = 0; i < 20; i++) {
+            image.bufferDirty(new Rectangle(i, i, 1, 1));
+        }
+
+        assertNull(image.getSerial().getIdRect(id).getValue());
+        assertEquals(new Rectangle(15, 15, 5, 5),
+                     image.getSerial().getIdRect(id + 15).getValue());
+    }
+}
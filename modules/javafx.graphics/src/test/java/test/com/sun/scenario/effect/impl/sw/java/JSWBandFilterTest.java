@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.scenario.effect.impl.sw.java;
+
+import com.sun.scenario.effect.impl.sw.java.JSWEffectPeerShim;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the Java software peers produce the same output when a pass
+ * is split into bands of rows or columns as when it is run as a single band.
+ */
+public class JSWBandFilterTest {
+
+    private static final int SRCW = 23;
+    private static final int SRCH = 17;
+    private static final int SRCSCAN = SRCW + 2;
+    private static final int KSIZE = 5;
+    private static final int UNTOUCHED = 0x12345678;
+
+    private interface Band {
+        void filter(int dstPixels[], int start, int end);
+    }
+
+    private final int srcPixels[] = createSource();
+
+    private static int[] createSource() {
+        Random random = new Random(1234);
+        int pixels[] = new int[SRCSCAN * SRCH];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = random.nextInt();
+        }
+        return pixels;
+    }
+
+    private static float[] createWeights(int count, boolean repeat) {
+        float weights[] = new float[repeat ? count * 2 : count];
+        for (int i = 0; i < count; i++) {
+            weights[i] = (i + 1) / (float) (count * (count + 1) / 2);
+        }
+        if (repeat) {
+            System.arraycopy(weights, 0, weights, count, count);
+        }
+        return weights;
+    }
+
+    private static int[] filter(int length, Band band, int... bounds) {
+        int dstPixels[] = new int[length];
+        Arrays.fill(dstPixels, UNTOUCHED);
+        // filter the last band first, so that no band can rely on the
+        // output of the bands before it
+        for (int i = bounds.length - 1; i > 0; i--) {
+            band.filter(dstPixels, bounds[i - 1], bounds[i]);
+        }
+        return dstPixels;
+    }
+
+    /*
+     * Filters the whole range [0, count) as a single band and as several
+     * splits, including bands of a single row or column at either end and
+     * splits where the kernel of the rows or columns next to the band edge
+     * reaches into the neighbouring band.
+     */
+    private static void assertBandsMatch(int length, int count, Band band) {
+        int expected[] = filter(length, band, 0, count);
+        int splits[][] = {
+            {0, 1, count},
+            {0, count - 1, count},
+            {0, count / 2, count},
+            {0, count / 3, 2 * count / 3, count},
+            {0, 1, 2, 3, count - 2, count},
+        };
+        for (int bounds[] : splits) {
+            assertArrayEquals("bands " + Arrays.toString(bounds),
+                              expected, filter(length, band, bounds));
+        }
+    }
+
+    @Test
+    public void testBoxBlurHorizontal() {
+        Object peer = JSWEffectPeerShim.createBoxBlurPeer();
+        int dstw = SRCW + KSIZE - 1, dstscan = dstw + 3;
+        assertBandsMatch(dstscan * SRCH, SRCH, (dst, start, end) ->
+            JSWEffectPeerShim.boxBlurHorizontal(peer, dst, dstw, SRCH, dstscan,
+                                                srcPixels, SRCW, SRCH, SRCSCAN,
+                                                start, end));
+    }
+
+    @Test
+    public void testBoxBlurVertical() {
+        Object peer = JSWEffectPeerShim.createBoxBlurPeer();
+        int dsth = SRCH + KSIZE - 1, dstscan = SRCW + 3;
+        assertBandsMatch(dstscan * dsth, SRCW, (dst, start, end) ->
+            JSWEffectPeerShim.boxBlurVertical(peer, dst, SRCW, dsth, dstscan,
+                                              srcPixels, SRCW, SRCH, SRCSCAN,
+                                              start, end));
+    }
+
+    @Test
+    public void testBoxShadowHorizontalBlack() {
+        Object peer = JSWEffectPeerShim.createBoxShadowPeer();
+        int dstw = SRCW + KSIZE - 1, dstscan = dstw + 3;
+        assertBandsMatch(dstscan * SRCH, SRCH, (dst, start, end) ->
+            JSWEffectPeerShim.boxShadowHorizontalBlack(peer, dst, dstw, SRCH, dstscan,
+                                                       srcPixels, SRCW, SRCH, SRCSCAN,
+                                                       0.25f, start, end));
+    }
+
+    @Test
+    public void testBoxShadowVerticalBlack() {
+        Object peer = JSWEffectPeerShim.createBoxShadowPeer();
+        int dsth = SRCH + KSIZE - 1, dstscan = SRCW + 3;
+        assertBandsMatch(dstscan * dsth, SRCW, (dst, start, end) ->
+            JSWEffectPeerShim.boxShadowVerticalBlack(peer, dst, SRCW, dsth, dstscan,
+                                                     srcPixels, SRCW, SRCH, SRCSCAN,
+                                                     0.25f, start, end));
+    }
+
+    @Test
+    public void testBoxShadowVertical() {
+        Object peer = JSWEffectPeerShim.createBoxShadowPeer();
+        float shadowColor[] = {0.5f, 0.25f, 0.125f, 1f};
+        int dsth = SRCH + KSIZE - 1, dstscan = SRCW + 3;
+        assertBandsMatch(dstscan * dsth, SRCW, (dst, start, end) ->
+            JSWEffectPeerShim.boxShadowVertical(peer, dst, SRCW, dsth, dstscan,
+                                                srcPixels, SRCW, SRCH, SRCSCAN,
+                                                0.25f, shadowColor, start, end));
+    }
+
+    private static void testConvolveHorizontal(Object peer, int srcPixels[]) {
+        float weights[] = createWeights(KSIZE, true);
+        int dstw = SRCW + KSIZE - 1, dstscan = dstw + 3;
+        assertBandsMatch(dstscan * SRCH, SRCH, (dst, start, end) ->
+            JSWEffectPeerShim.convolveHV(peer, dst, dstw, SRCH, 1, dstscan,
+                                         srcPixels, SRCW, SRCH, 1, SRCSCAN,
+                                         weights, start, end));
+    }
+
+    private static void testConvolveVertical(Object peer, int srcPixels[]) {
+        float weights[] = createWeights(KSIZE, true);
+        int dsth = SRCH + KSIZE - 1, dstscan = SRCW + 3;
+        assertBandsMatch(dstscan * dsth, SRCW, (dst, start, end) ->
+            JSWEffectPeerShim.convolveHV(peer, dst, dsth, SRCW, dstscan, 1,
+                                         srcPixels, SRCH, SRCW, SRCSCAN, 1,
+                                         weights, start, end));
+    }
+
+    private static void testConvolveVector(Object peer, int srcPixels[]) {
+        // a skewed sampling grid whose steps are not exact in float, over
+        // enough rows that the start of each band must be found the same
+        // way as in a single band
+        float weights[] = createWeights(KSIZE, false);
+        int dstw = SRCW, dsth = 301, dstscan = dstw + 3;
+        assertBandsMatch(dstscan * dsth, dsth, (dst, start, end) ->
+            JSWEffectPeerShim.convolveVector(peer, dst, dstw, dsth, dstscan,
+                                             srcPixels, SRCW, SRCH, SRCSCAN,
+                                             weights, KSIZE,
+                                             1f, 0f,
+                                             -1.4f, -0.6f,
+                                             0.7f, 0.3f,
+                                             0.9f, 0.01f, 0.003f, 0.053f,
+                                             start, end));
+    }
+
+    @Test
+    public void testLinearConvolveHorizontal() {
+        testConvolveHorizontal(JSWEffectPeerShim.createLinearConvolvePeer(), srcPixels);
+    }
+
+    @Test
+    public void testLinearConvolveVertical() {
+        testConvolveVertical(JSWEffectPeerShim.createLinearConvolvePeer(), srcPixels);
+    }
+
+    @Test
+    public void testLinearConvolveVector() {
+        testConvolveVector(JSWEffectPeerShim.createLinearConvolvePeer(), srcPixels);
+    }
+
+    @Test
+    public void testLinearConvolveShadowHorizontal() {
+        testConvolveHorizontal(
+            JSWEffectPeerShim.createLinearConvolveShadowPeer(0.5f, 0.25f, 0.125f, 1f), srcPixels);
+    }
+
+    @Test
+    public void testLinearConvolveShadowVertical() {
+        testConvolveVertical(
+            JSWEffectPeerShim.createLinearConvolveShadowPeer(0.5f, 0.25f, 0.125f, 1f), srcPixels);
+    }
+
+    @Test
+    public void testLinearConvolveShadowVector() {
+        testConvolveVector(
+            JSWEffectPeerShim.createLinearConvolveShadowPeer(0.5f, 0.25f, 0.125f, 1f), srcPixels);
+    }
+}
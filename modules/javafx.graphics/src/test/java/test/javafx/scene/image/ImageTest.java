@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -32,6 +32,7 @@ import test.com.sun.javafx.pgstub.StubAsyncImageLoader;
 import test.com.sun.javafx.pgstub.StubImageLoaderFactory;
 import test.com.sun.javafx.pgstub.StubToolkit;
 import test.com.sun.javafx.test.PropertyInvalidationCounter;
+import com.sun.javafx.runtime.async.AsyncOperationQueue;
 import com.sun.javafx.tk.Toolkit;
 import javafx.beans.InvalidationListener;
 import org.junit.Before;
@@ -311,6 +312,54 @@ public final class ImageTest {
         }
     }
 
+    @Test
+    public void cancelQueuedImageAsyncTest() {
+        final AsyncOperationQueue queue = ImageShim.getBackgroundLoadQueue();
+        final Queue<StubAsyncImageLoader> runningLoaders =
+                new LinkedList<StubAsyncImageLoader>();
+
+        // fill up the running slots
+        int i = 0;
+        while (queue.getRunningCount() < queue.getMaxRunning()) {
+            final String url = "file:queued_cancel_" + i++ + ".png";
+            registerImage(url, 100, 100);
+            new Image(url, true);
+            runningLoaders.add(getLastAsyncImageLoader());
+        }
+
+        final int pendingCount = queue.getPendingCount();
+        registerImage("file:queued_cancel_a.png", 100, 100);
+        final Image cancelledImage = new Image("file:queued_cancel_a.png", true);
+        final StubAsyncImageLoader cancelledLoader =
+                imageLoaderFactory.getLastAsyncImageLoader();
+        registerImage("file:queued_cancel_b.png", 100, 100);
+        final Image nextImage = new Image("file:queued_cancel_b.png", true);
+        final StubAsyncImageLoader nextLoader =
+                imageLoaderFactory.getLastAsyncImageLoader();
+        assertFalse(cancelledLoader.isStarted());
+        assertFalse(nextLoader.isStarted());
+        assertEquals(pendingCount + 2, queue.getPendingCount());
+
+        // cancelling a queued image frees neither a running slot nor starts
+        // any other image
+        cancelledImage.cancel();
+        assertTrue(cancelledImage.isError());
+        assertFalse(cancelledLoader.isStarted());
+        assertEquals(pendingCount + 1, queue.getPendingCount());
+        assertEquals(queue.getMaxRunning(), queue.getRunningCount());
+
+        runningLoaders.poll().finish();
+        if (pendingCount == 0 && !queue.isLifo()) {
+            assertTrue(nextLoader.isStarted());
+        }
+        assertEquals(queue.getMaxRunning(), queue.getRunningCount());
+
+        while (!runningLoaders.isEmpty()) {
+            runningLoaders.poll().finish();
+        }
+        nextImage.cancel();
+    }
+
     @Test
     public void animatedImageTest() {
         // reset time
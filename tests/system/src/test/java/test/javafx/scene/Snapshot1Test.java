@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,6 +25,9 @@
 
 package test.javafx.scene;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.CountDownLatch;
 import javafx.scene.paint.Color;
@@ -36,6 +39,9 @@ import javafx.scene.SnapshotResult;
 import javafx.scene.image.WritableImage;
 import javafx.scene.shape.Rectangle;
 import javafx.util.Callback;
+import com.sun.javafx.tk.RenderJob;
+import com.sun.javafx.tk.TKPulseListener;
+import com.sun.javafx.tk.Toolkit;
 import junit.framework.AssertionFailedError;
 import org.junit.After;
 import org.junit.AfterClass;
@@ -329,6 +335,99 @@ public class Snapshot1Test extends SnapshotCommon {
         assertEquals(0, latch.getCount());
     }
 
+    // Test several deferred snapshots of nodes in a showing scene taken
+    // in the same pulse
+    @Test
+    public void testShowingNodeMultipleCallbacks() {
+        final Color[] colors = { Color.RED, Color.GREEN, Color.BLUE };
+        final CountDownLatch latch = new CountDownLatch(colors.length);
+        final List<Color> results = new ArrayList<>();
+        final Group root = (Group) myApp.primaryStage.getScene().getRoot();
+
+        Util.runAndWait(() -> {
+            for (Color color : colors) {
+                Rectangle rect = new Rectangle(10, 10, color);
+                root.getChildren().add(rect);
+
+                Callback<SnapshotResult, Void> cb = param -> {
+                    assertTrue(Platform.isFxApplicationThread());
+                    assertSame(rect, param.getSource());
+                    results.add(param.getImage().getPixelReader().getColor(5, 5));
+                    latch.countDown();
+                    return null;
+                };
+
+                rect.snapshot(cb, null, null);
+            }
+            assertTrue(results.isEmpty());
+        });
+
+        try {
+            if (!latch.await(TIMEOUT, TimeUnit.MILLISECONDS)) {
+                throw new AssertionFailedError("Timeout waiting for snapshot callback");
+            }
+        } catch (InterruptedException ex) {
+            AssertionFailedError err = new AssertionFailedError("Unexpected exception");
+            err.initCause(ex);
+            throw err;
+        }
+
+        Util.runAndWait(() -> {
+            root.getChildren().clear();
+            assertEquals(Arrays.asList(colors), results);
+        });
+    }
+
+    // Test that a change made to a showing scene after a deferred snapshot
+    // was taken, but before the render thread got to render it, does not
+    // show up in the snapshot
+    @Test
+    public void testShowingNodeChangedBeforeRendering() throws Exception {
+        final Group root = (Group) myApp.primaryStage.getScene().getRoot();
+        final Rectangle rect = new Rectangle(10, 10, Color.RED);
+        Util.runAndWait(() -> root.getChildren().add(rect));
+        Util.sleep(SLEEP_TIME);
+
+        final CountDownLatch renderThreadReleased = new CountDownLatch(1);
+        final CountDownLatch snapshotTaken = new CountDownLatch(1);
+        final CountDownLatch callbackCalled = new CountDownLatch(1);
+        final Color[] result = new Color[1];
+        final TKPulseListener pulseListener = snapshotTaken::countDown;
+
+        Util.runAndWait(() -> {
+            // Keep the render thread busy so that the snapshot is only
+            // rendered once the scene was changed
+            Toolkit.getToolkit().addRenderJob(new RenderJob(() -> {
+                try {
+                    renderThreadReleased.await(TIMEOUT, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException ex) {
+                }
+            }));
+            Toolkit.getToolkit().addPostSceneTkPulseListener(pulseListener);
+            rect.snapshot(param -> {
+                result[0] = param.getImage().getPixelReader().getColor(5, 5);
+                callbackCalled.countDown();
+                return null;
+            }, null, null);
+        });
+
+        try {
+            assertTrue(snapshotTaken.await(TIMEOUT, TimeUnit.MILLISECONDS));
+            Util.runAndWait(() -> rect.setFill(Color.GREEN));
+            // Give the next pulse a chance to synchronize the change
+            Util.sleep(SLEEP_TIME);
+        } finally {
+            renderThreadReleased.countDown();
+        }
+        assertTrue(callbackCalled.await(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        Util.runAndWait(() -> {
+            Toolkit.getToolkit().removePostSceneTkPulseListener(pulseListener);
+            root.getChildren().clear();
+        });
+        assertEquals(Color.RED, result[0]);
+    }
+
     // Test deferred snapshot with bad callback (should print a warning
     // but will not throw exception back to caller)
     @Test